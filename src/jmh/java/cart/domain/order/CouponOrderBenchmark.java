@@ -0,0 +1,53 @@
+package cart.domain.order;
+
+import cart.domain.cartitem.CartItem;
+import cart.domain.coupon.Coupon;
+import cart.domain.member.Member;
+import cart.fixture.BenchmarkFixture;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouponOrderBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int cartSize;
+
+    private Member member;
+    private Coupon coupon;
+    private LocalDateTime orderedAt;
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        member = BenchmarkFixture.member();
+        coupon = BenchmarkFixture.coupon();
+        orderedAt = LocalDateTime.now();
+        cartItems = BenchmarkFixture.cartItems(cartSize);
+    }
+
+    @Benchmark
+    public BigDecimal calculateDiscountedTotalPrice() {
+        final CouponOrder couponOrder = new CouponOrder(member, coupon, BenchmarkFixture.DELIVERY_PRICE,
+            orderedAt, cartItems, true);
+        return couponOrder.getDiscountedTotalPrice();
+    }
+}
@@ -0,0 +1,56 @@
+package cart.domain.order;
+
+import cart.domain.cartitem.CartItem;
+import cart.domain.product.Product;
+import cart.fixture.BenchmarkFixture;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderPriceCalculatorBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int cartSize;
+
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        cartItems = BenchmarkFixture.cartItems(cartSize);
+    }
+
+    @Benchmark
+    public Money calculateTotalOrderPrice() {
+        return OrderPriceCalculator.calculateTotalOrderPrice(cartItems);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalOrderPrice_legacy() {
+        return cartItems.stream()
+            .map(OrderPriceCalculatorBenchmark::calculateLegacyPrice)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal calculateLegacyPrice(final CartItem cartItem) {
+        final Product product = cartItem.getProduct();
+        return BigDecimal.valueOf(product.getPrice())
+            .multiply(BigDecimal.valueOf(cartItem.getQuantity()));
+    }
+}
@@ -0,0 +1,44 @@
+package cart.domain.refund;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RefundPolicyCompositeBenchmark {
+
+    @Param({"1", "5"})
+    private int orderedDaysAgo;
+
+    private RefundPolicyComposite refundPolicyComposite;
+    private LocalDateTime orderedAt;
+    private LocalDateTime currentTime;
+
+    @Setup
+    public void setUp() {
+        refundPolicyComposite = new RefundPolicyComposite(List.of(new FullRefundPolicy(), new HalfRefundPolicy()));
+        currentTime = LocalDateTime.now();
+        orderedAt = currentTime.minusDays(orderedDaysAgo);
+    }
+
+    @Benchmark
+    public RefundPolicy getRefundPolicy() {
+        return refundPolicyComposite.getRefundPolicy(orderedAt, currentTime);
+    }
+}
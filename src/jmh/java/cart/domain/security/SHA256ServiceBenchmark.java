@@ -0,0 +1,67 @@
+package cart.domain.security;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SHA256ServiceBenchmark {
+
+    private static final String PASSWORD = "test1234";
+    private static final String ENCRYPTED_PASSWORD = "937e8d5fbb48bd4949536cd65b8d35c426b80d2f830c5c308e2cdec422ae2244";
+
+    @Benchmark
+    public String encrypt() {
+        return SHA256Service.encrypt(PASSWORD);
+    }
+
+    @Benchmark
+    public String encrypt_legacy() {
+        return LegacySHA256Service.encrypt(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return SHA256Service.matches(PASSWORD, ENCRYPTED_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches_legacy() {
+        return ENCRYPTED_PASSWORD.equals(LegacySHA256Service.encrypt(PASSWORD));
+    }
+
+    private static class LegacySHA256Service {
+
+        private static String encrypt(final String target) {
+            try {
+                final MessageDigest md = MessageDigest.getInstance("SHA-256");
+                md.update(target.getBytes());
+                return bytesToHex(md.digest());
+            } catch (NoSuchAlgorithmException ignored) {
+                throw new RuntimeException("암호화 중 오류가 발생하였습니다.");
+            }
+        }
+
+        private static String bytesToHex(byte[] bytes) {
+            final StringBuilder builder = new StringBuilder();
+            for (byte b : bytes) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package cart.fixture;
+
+import cart.domain.cartitem.CartItem;
+import cart.domain.coupon.Coupon;
+import cart.domain.member.EncryptedPassword;
+import cart.domain.member.Member;
+import cart.domain.product.Product;
+import cart.persistence.dao.dto.CartItemDto;
+import cart.persistence.dao.dto.OrderDto;
+import cart.persistence.entity.MemberEntity;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BenchmarkFixture {
+
+    public static final long MEMBER_ID = 1L;
+    public static final String MEMBER_NAME = "journey";
+    public static final String MEMBER_PASSWORD = "5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8";
+    public static final long COUPON_ID = 1L;
+    public static final String COUPON_NAME = "신규 가입 축하 쿠폰";
+    public static final int COUPON_DISCOUNT_RATE = 20;
+    public static final int COUPON_PERIOD = 14;
+    public static final int DELIVERY_PRICE = 3_000;
+
+    private static final int MAX_QUANTITY = 100;
+    private static final int PRICE_UNIT = 1_000;
+
+    public static Member member() {
+        return Member.create(MEMBER_ID, MEMBER_NAME, EncryptedPassword.create(MEMBER_PASSWORD));
+    }
+
+    public static MemberEntity memberEntity() {
+        return new MemberEntity(MEMBER_ID, MEMBER_NAME, MEMBER_PASSWORD);
+    }
+
+    public static Coupon coupon() {
+        return Coupon.create(COUPON_ID, COUPON_NAME, COUPON_DISCOUNT_RATE, COUPON_PERIOD,
+            LocalDateTime.now().plusDays(COUPON_PERIOD));
+    }
+
+    public static List<CartItem> cartItems(final int size) {
+        final List<CartItem> cartItems = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            final Product product = new Product((long) i, productName(i), price(i), imageUrl(i), false);
+            cartItems.add(new CartItem((long) i, quantity(i), product));
+        }
+        return cartItems;
+    }
+
+    public static List<CartItemDto> cartItemDtos(final int size) {
+        final List<CartItemDto> cartItemDtos = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            cartItemDtos.add(new CartItemDto((long) i, MEMBER_ID, MEMBER_NAME, MEMBER_PASSWORD, (long) i,
+                productName(i), imageUrl(i), price(i), quantity(i), false));
+        }
+        return cartItemDtos;
+    }
+
+    public static List<OrderDto> orderDtos(final int size, final boolean withCoupon) {
+        final LocalDateTime orderedAt = LocalDateTime.now().minusDays(1);
+        final Timestamp couponExpiredAt = Timestamp.valueOf(LocalDateTime.now().plusDays(COUPON_PERIOD));
+        final List<OrderDto> orderDtos = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            orderDtos.add(new OrderDto(1L, orderedAt, quantity(i), 0, 0, DELIVERY_PRICE, true,
+                withCoupon ? COUPON_ID : 0L, withCoupon ? COUPON_NAME : null,
+                withCoupon ? COUPON_DISCOUNT_RATE : 0, withCoupon ? COUPON_PERIOD : 0,
+                withCoupon ? couponExpiredAt : null, MEMBER_ID, MEMBER_NAME, MEMBER_PASSWORD, (long) i,
+                productName(i), price(i), imageUrl(i), false));
+        }
+        return orderDtos;
+    }
+
+    private static String productName(final int index) {
+        return "상품" + index;
+    }
+
+    private static String imageUrl(final int index) {
+        return "http://example.com/" + index + ".jpg";
+    }
+
+    private static int price(final int index) {
+        return (index % 100 + 1) * PRICE_UNIT;
+    }
+
+    private static int quantity(final int index) {
+        return index % MAX_QUANTITY + 1;
+    }
+}
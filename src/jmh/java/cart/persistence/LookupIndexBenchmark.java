@@ -0,0 +1,211 @@
+package cart.persistence;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * -Dbenchmark.jdbc-url 로 docker MySQL 을 지정하면 실제 실행 계획과 함께 비교할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupIndexBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LookupIndexBenchmark.class);
+
+    private static final String JDBC_URL = System.getProperty("benchmark.jdbc-url",
+        "jdbc:h2:mem:lookup;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    private static final String JDBC_USER = System.getProperty("benchmark.jdbc-user", "sa");
+    private static final String JDBC_PASSWORD = System.getProperty("benchmark.jdbc-password", "");
+
+    private static final int MEMBER_COUNT = 1000;
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_BATCH_SIZE = 5000;
+
+    private static final String CART_EXIST_SQL =
+        "SELECT 1 FROM cart_item WHERE member_id = ? AND product_id = ? LIMIT 1";
+    private static final String ORDER_HISTORY_SQL =
+        "SELECT id, ordered_at FROM `order` WHERE member_id = ? ORDER BY ordered_at DESC, id DESC LIMIT "
+            + PAGE_SIZE;
+    private static final String PRODUCT_PAGE_SQL =
+        "SELECT id, name, price FROM product WHERE is_deleted = 0 AND id > ? ORDER BY id LIMIT " + PAGE_SIZE;
+
+    private static final List<String> INDEX_STATEMENTS = List.of(
+        "ALTER TABLE cart_item ADD CONSTRAINT uk_cart_item_member_id_product_id UNIQUE (member_id, product_id)",
+        "ALTER TABLE `order` ADD INDEX idx_order_member_id_ordered_at (member_id, ordered_at)",
+        "ALTER TABLE product ADD INDEX idx_product_is_deleted_id (is_deleted, id)"
+    );
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    @Param({"1000000"})
+    private int rowCount;
+
+    private Connection connection;
+    private PreparedStatement cartExistStatement;
+    private PreparedStatement orderHistoryStatement;
+    private PreparedStatement productPageStatement;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD);
+        createTables();
+        loadRows();
+        if (indexed) {
+            execute(INDEX_STATEMENTS);
+        }
+        printPlan(CART_EXIST_SQL.replaceFirst("\\?", "1").replaceFirst("\\?", "1"));
+        printPlan(ORDER_HISTORY_SQL.replaceFirst("\\?", "1"));
+        printPlan(PRODUCT_PAGE_SQL.replaceFirst("\\?", String.valueOf(rowCount / 2)));
+
+        cartExistStatement = connection.prepareStatement(CART_EXIST_SQL);
+        orderHistoryStatement = connection.prepareStatement(ORDER_HISTORY_SQL);
+        productPageStatement = connection.prepareStatement(PRODUCT_PAGE_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        execute(List.of("DROP TABLE IF EXISTS cart_item", "DROP TABLE IF EXISTS `order`",
+            "DROP TABLE IF EXISTS product"));
+        connection.close();
+    }
+
+    @Benchmark
+    public boolean existCartItem() throws SQLException {
+        final long next = sequence++;
+        cartExistStatement.setLong(1, next % MEMBER_COUNT + 1);
+        cartExistStatement.setLong(2, next % rowCount + 1);
+        try (final ResultSet resultSet = cartExistStatement.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    @Benchmark
+    public long findOrderHistory() throws SQLException {
+        orderHistoryStatement.setLong(1, sequence++ % MEMBER_COUNT + 1);
+        return sumFirstColumn(orderHistoryStatement);
+    }
+
+    @Benchmark
+    public long findProductPage() throws SQLException {
+        productPageStatement.setLong(1, sequence++ % rowCount);
+        return sumFirstColumn(productPageStatement);
+    }
+
+    private void createTables() throws SQLException {
+        execute(List.of(
+            "DROP TABLE IF EXISTS cart_item",
+            "DROP TABLE IF EXISTS `order`",
+            "DROP TABLE IF EXISTS product",
+            "CREATE TABLE product (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, price INT NOT NULL, "
+                + "is_deleted TINYINT(1) NOT NULL DEFAULT 0)",
+            "CREATE TABLE cart_item (id BIGINT PRIMARY KEY, member_id BIGINT NOT NULL, "
+                + "product_id BIGINT NOT NULL, quantity INT NOT NULL)",
+            "CREATE TABLE `order` (id BIGINT PRIMARY KEY, member_id BIGINT NOT NULL, "
+                + "ordered_at DATETIME NOT NULL)"
+        ));
+    }
+
+    private void loadRows() throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        final LocalDateTime orderedAt = LocalDateTime.of(2023, 6, 1, 0, 0);
+        try (final PreparedStatement product = connection.prepareStatement(
+            "INSERT INTO product (id, name, price, is_deleted) VALUES (?, ?, ?, ?)");
+             final PreparedStatement cartItem = connection.prepareStatement(
+                 "INSERT INTO cart_item (id, member_id, product_id, quantity) VALUES (?, ?, ?, 1)");
+             final PreparedStatement order = connection.prepareStatement(
+                 "INSERT INTO `order` (id, member_id, ordered_at) VALUES (?, ?, ?)")) {
+            for (long id = 1; id <= rowCount; id++) {
+                product.setLong(1, id);
+                product.setString(2, "상품" + id);
+                product.setInt(3, (int) (id % 100) * 1000);
+                product.setBoolean(4, id % 10 == 0);
+                product.addBatch();
+
+                cartItem.setLong(1, id);
+                cartItem.setLong(2, id % MEMBER_COUNT + 1);
+                cartItem.setLong(3, id);
+                cartItem.addBatch();
+
+                order.setLong(1, id);
+                order.setLong(2, id % MEMBER_COUNT + 1);
+                order.setTimestamp(3, Timestamp.valueOf(orderedAt.plusMinutes(id)));
+                order.addBatch();
+
+                if (id % INSERT_BATCH_SIZE == 0 || id == rowCount) {
+                    product.executeBatch();
+                    cartItem.executeBatch();
+                    order.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void printPlan(final String sql) throws SQLException {
+        try (final Statement statement = connection.createStatement();
+             final ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            final int columnCount = resultSet.getMetaData().getColumnCount();
+            final StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                for (int column = 1; column <= columnCount; column++) {
+                    plan.append(resultSet.getMetaData().getColumnLabel(column))
+                        .append('=')
+                        .append(resultSet.getString(column))
+                        .append(' ');
+                }
+                plan.append(System.lineSeparator());
+            }
+            log.info("[indexed={}] {}{}{}", indexed, sql, System.lineSeparator(), plan);
+        }
+    }
+
+    private void execute(final List<String> sqls) throws SQLException {
+        try (final Statement statement = connection.createStatement()) {
+            for (final String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private long sumFirstColumn(final PreparedStatement preparedStatement) throws SQLException {
+        long sum = 0;
+        try (final ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                sum += resultSet.getLong(1);
+            }
+        }
+        return sum;
+    }
+}
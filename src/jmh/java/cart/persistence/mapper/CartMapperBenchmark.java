@@ -0,0 +1,45 @@
+package cart.persistence.mapper;
+
+import cart.domain.cartitem.Cart;
+import cart.fixture.BenchmarkFixture;
+import cart.persistence.dao.dto.CartItemDto;
+import cart.persistence.entity.MemberEntity;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int cartSize;
+
+    private List<CartItemDto> cartItemDtos;
+    private MemberEntity memberEntity;
+
+    @Setup
+    public void setUp() {
+        cartItemDtos = BenchmarkFixture.cartItemDtos(cartSize);
+        memberEntity = BenchmarkFixture.memberEntity();
+    }
+
+    @Benchmark
+    public Cart convertCart() {
+        return CartMapper.convertCart(cartItemDtos, memberEntity);
+    }
+}
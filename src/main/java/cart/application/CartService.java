@@ -1,19 +1,27 @@
 package cart.application;
 
+import cart.application.dto.cartitem.CartBatchItemResponse;
+import cart.application.dto.cartitem.CartBatchRequest;
+import cart.application.dto.cartitem.CartBatchResponse;
 import cart.application.dto.cartitem.CartItemQuantityUpdateRequest;
 import cart.application.dto.cartitem.CartRequest;
 import cart.application.dto.cartitem.CartResponse;
 import cart.application.mapper.CartMapper;
 import cart.domain.cartitem.Cart;
+import cart.domain.cartitem.CartItemQueryRepository;
 import cart.domain.cartitem.CartRepository;
 import cart.domain.cartitem.dto.CartItemSaveReq;
 import cart.domain.member.Member;
 import cart.domain.member.MemberRepository;
 import cart.domain.product.ProductRepository;
-import cart.exception.BadRequestException;
 import cart.exception.ErrorCode;
+import cart.exception.ErrorResponse;
 import cart.exception.NotFoundException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,19 +36,21 @@ public class CartService {
     private final CartRepository cartRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final CartItemQueryRepository cartItemQueryRepository;
 
     public CartService(final CartRepository cartRepository, final MemberRepository memberRepository,
-                       final ProductRepository productRepository) {
+                       final ProductRepository productRepository,
+                       final CartItemQueryRepository cartItemQueryRepository) {
         this.cartRepository = cartRepository;
         this.memberRepository = memberRepository;
         this.productRepository = productRepository;
+        this.cartItemQueryRepository = cartItemQueryRepository;
     }
 
     public List<CartResponse> findByMemberName(final String memberName) {
         final Member member = memberRepository.findByName(memberName);
-        final Cart cart = cartRepository.findByMemberName(member.name());
-        return cart.getCartItems().stream()
-            .map(CartMapper::convertCartItemResponse)
+        return cartItemQueryRepository.findSummariesByMemberId(member.memberId()).stream()
+            .map(CartMapper::convertCartResponse)
             .collect(Collectors.toUnmodifiableList());
     }
 
@@ -48,9 +58,34 @@ public class CartService {
     public long addCart(final String memberName, final CartRequest cartRequest) {
         final Long productId = cartRequest.getProductId();
         validateProduct(productId);
-        validateAlreadyAdd(memberName, productId);
         final CartItemSaveReq cartItemSaveReq = new CartItemSaveReq(productId, INIT_CART_ITEM_QUANTITY);
-        return cartRepository.save(memberName, cartItemSaveReq);
+        return cartRepository.saveOrIncreaseQuantity(memberName, cartItemSaveReq);
+    }
+
+    @Transactional
+    public CartBatchResponse addCarts(final String memberName, final CartBatchRequest cartBatchRequest) {
+        final List<Long> productIds = cartBatchRequest.getItems().stream()
+            .map(CartRequest::getProductId)
+            .collect(Collectors.toUnmodifiableList());
+        final Member member = memberRepository.findByName(memberName);
+        final Set<Long> existProductIds = new HashSet<>(productRepository.findNotDeletedProductIds(productIds));
+
+        // 같은 상품을 여러 번 요청하면 단건 추가를 여러 번 한 것처럼 수량을 합쳐서 담는다.
+        final Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (final Long productId : productIds) {
+            if (existProductIds.contains(productId)) {
+                quantities.merge(productId, INIT_CART_ITEM_QUANTITY, Integer::sum);
+            }
+        }
+        final List<CartItemSaveReq> cartItemSaveReqs = quantities.entrySet().stream()
+            .map(entry -> new CartItemSaveReq(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toUnmodifiableList());
+        final Map<Long, Long> cartItemIds = saveCartItems(member.memberId(), cartItemSaveReqs);
+
+        final List<CartBatchItemResponse> results = productIds.stream()
+            .map(productId -> toBatchItemResponse(productId, existProductIds, cartItemIds))
+            .collect(Collectors.toUnmodifiableList());
+        return new CartBatchResponse(results);
     }
 
     @Transactional
@@ -83,15 +118,32 @@ public class CartService {
         cartRepository.deleteByCartItemIdsAndMemberId(cartItemIds, memberName);
     }
 
-    private void validateProduct(final Long productId) {
-        if (!productRepository.existById(productId)) {
-            throw new NotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
+    private CartBatchItemResponse toBatchItemResponse(final Long productId, final Set<Long> existProductIds,
+                                                      final Map<Long, Long> cartItemIds) {
+        if (!existProductIds.contains(productId)) {
+            return failedBatchItem(productId, ErrorCode.PRODUCT_NOT_FOUND);
+        }
+        final Long cartItemId = cartItemIds.get(productId);
+        if (cartItemId == null) {
+            return failedBatchItem(productId, ErrorCode.DB_UPDATE_ERROR);
         }
+        return new CartBatchItemResponse(productId, cartItemId, null);
     }
 
-    private void validateAlreadyAdd(final String memberName, final Long productId) {
-        if (cartRepository.existByMemberNameAndProductId(memberName, productId)) {
-            throw new BadRequestException(ErrorCode.CART_ALREADY_ADD);
+    private CartBatchItemResponse failedBatchItem(final Long productId, final ErrorCode errorCode) {
+        return new CartBatchItemResponse(productId, null, new ErrorResponse(errorCode, errorCode.getMessage()));
+    }
+
+    private Map<Long, Long> saveCartItems(final Long memberId, final List<CartItemSaveReq> cartItemSaveReqs) {
+        if (cartItemSaveReqs.isEmpty()) {
+            return Map.of();
+        }
+        return cartRepository.saveOrIncreaseQuantities(memberId, cartItemSaveReqs);
+    }
+
+    private void validateProduct(final Long productId) {
+        if (!productRepository.existById(productId)) {
+            throw new NotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
         }
     }
 }
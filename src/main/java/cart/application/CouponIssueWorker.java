@@ -0,0 +1,107 @@
+package cart.application;
+
+import cart.application.dto.coupon.CouponIssueStats;
+import cart.domain.coupon.CouponIssue;
+import cart.domain.event.CouponIssueRequestedEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CouponIssueWorker {
+
+    private static final String THREAD_NAME = "coupon-issue-worker";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final MemberCouponService memberCouponService;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    public CouponIssueWorker(final MemberCouponService memberCouponService,
+                             @Value("${coupon.issue.batch-size:100}") final int batchSize) {
+        this.memberCouponService = memberCouponService;
+        this.batchSize = batchSize;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+            runnable -> {
+                final Thread thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponIssueRequested(final CouponIssueRequestedEvent couponIssueRequestedEvent) {
+        queueDepth.incrementAndGet();
+        requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue.sweep-interval:10000}")
+    public void requestDrain() {
+        executor.execute(this::drainQuietly);
+    }
+
+    public void drain() {
+        drainLock.lock();
+        try {
+            // 발급하지 못한 요청은 다음 시도 시각이 미뤄지므로, 한 건도 발급하지 못했을 때 멈춘다.
+            List<CouponIssue> couponIssues;
+            do {
+                couponIssues = memberCouponService.issuePendingCoupons(batchSize);
+                recordIssued(couponIssues);
+            } while (!couponIssues.isEmpty());
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    public CouponIssueStats stats() {
+        return new CouponIssueStats(queueDepth.get(), lagMillis.get(), processedCount.get(), failureCount.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException exception) {
+            failureCount.incrementAndGet();
+            log.warn("쿠폰 발급 요청을 처리하지 못했습니다. 다음 주기에 다시 시도합니다.", exception);
+        }
+    }
+
+    private void recordIssued(final List<CouponIssue> couponIssues) {
+        if (couponIssues.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+        final LocalDateTime oldestRequestedAt = couponIssues.stream()
+            .map(CouponIssue::requestedAt)
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+        lagMillis.set(Duration.between(oldestRequestedAt, LocalDateTime.now()).toMillis());
+        processedCount.addAndGet(couponIssues.size());
+        queueDepth.updateAndGet(depth -> Math.max(0, depth - couponIssues.size()));
+    }
+}
@@ -5,6 +5,9 @@ import static cart.application.mapper.CouponMapper.convertCouponResponse;
 import cart.application.dto.coupon.CouponRequest;
 import cart.application.dto.coupon.CouponResponse;
 import cart.application.mapper.CouponMapper;
+import cart.common.cache.CatalogVersions;
+import cart.common.cache.CatalogVersions.Catalog;
+import cart.common.cache.CouponRegistry;
 import cart.domain.coupon.Coupon;
 import cart.domain.coupon.CouponRepository;
 import cart.exception.BadRequestException;
@@ -13,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -20,17 +24,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class CouponService {
 
     private final CouponRepository couponRepository;
+    private final CouponRegistry couponRegistry;
+    private final CatalogVersions catalogVersions;
 
-    public CouponService(final CouponRepository couponRepository) {
+    public CouponService(final CouponRepository couponRepository, final CouponRegistry couponRegistry,
+                         final CatalogVersions catalogVersions) {
         this.couponRepository = couponRepository;
+        this.couponRegistry = couponRegistry;
+        this.catalogVersions = catalogVersions;
     }
 
+    /**
+     * 쿠폰 목록의 ETag 는 primary 에서 계산하므로, 본문도 replica 가 아닌 primary 에서 읽도록 readOnly 트랜잭션을 열지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CouponResponse> getAllCoupons() {
         return couponRepository.findAll().stream()
             .map(CouponMapper::convertCouponResponse)
             .collect(Collectors.toUnmodifiableList());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CouponResponse getCouponById(final Long id) {
         final Coupon coupon = couponRepository.findById(id);
         return convertCouponResponse(id, coupon);
@@ -43,12 +57,24 @@ public class CouponService {
         final int period = couponRequest.getPeriod();
         validateDuplicatedCoupon(name, discountRate);
         final Coupon coupon = Coupon.create(name, discountRate, period, LocalDateTime.now().plusDays(period));
-        return couponRepository.insert(coupon);
+        final long savedCouponId = couponRepository.insert(coupon);
+        couponRegistry.invalidateAfterCommit();
+        catalogVersions.refreshAfterCommit(Catalog.COUPON);
+        return savedCouponId;
     }
 
     @Transactional
     public void deleteCoupon(final Long couponId) {
+        validateNotReferencedCoupon(couponId);
         couponRepository.deleteById(couponId);
+        couponRegistry.invalidateAfterCommit();
+        catalogVersions.refreshAfterCommit(Catalog.COUPON);
+    }
+
+    private void validateNotReferencedCoupon(final Long couponId) {
+        if (couponRepository.existReferenceById(couponId)) {
+            throw new BadRequestException(ErrorCode.COUPON_IN_USE);
+        }
     }
 
     private void validateDuplicatedCoupon(final String name, final int discountRate) {
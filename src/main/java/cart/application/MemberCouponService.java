@@ -4,74 +4,132 @@ import static cart.application.mapper.MemberMapper.convertMemberCoupon;
 import static cart.domain.coupon.CouponType.FIRST_ORDER_COUPON;
 import static cart.domain.coupon.CouponType.JOIN_MEMBER_COUPON;
 
+import cart.common.cache.OrderedMemberCache;
 import cart.domain.coupon.Coupon;
+import cart.domain.coupon.CouponIssue;
+import cart.domain.coupon.CouponIssueRepository;
 import cart.domain.coupon.CouponRepository;
+import cart.domain.coupon.CouponType;
+import cart.domain.event.CouponIssueRequestedEvent;
 import cart.domain.event.FirstOrderCouponEvent;
 import cart.domain.event.JoinMemberCouponEvent;
 import cart.domain.member.MemberCoupon;
 import cart.domain.member.MemberCouponRepository;
 import cart.domain.order.OrderRepository;
-import cart.exception.BadRequestException;
-import cart.exception.ErrorCode;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 public class MemberCouponService {
 
-    private static final int FIRST_ORDER_COUNT = 1;
+    private final Logger log = LoggerFactory.getLogger(getClass());
 
     private final OrderRepository orderRepository;
     private final CouponRepository couponRepository;
     private final MemberCouponRepository memberCouponRepository;
+    private final CouponIssueRepository couponIssueRepository;
+    private final OrderedMemberCache orderedMemberCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Duration retryDelay;
 
     public MemberCouponService(final OrderRepository orderRepository, final CouponRepository couponRepository,
-                               final MemberCouponRepository memberCouponRepository) {
+                               final MemberCouponRepository memberCouponRepository,
+                               final CouponIssueRepository couponIssueRepository,
+                               final OrderedMemberCache orderedMemberCache,
+                               final ApplicationEventPublisher applicationEventPublisher,
+                               @Value("${coupon.issue.retry-delay:60000}") final long retryDelayMillis) {
         this.orderRepository = orderRepository;
         this.couponRepository = couponRepository;
         this.memberCouponRepository = memberCouponRepository;
+        this.couponIssueRepository = couponIssueRepository;
+        this.orderedMemberCache = orderedMemberCache;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.retryDelay = Duration.ofMillis(retryDelayMillis);
     }
 
-    @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveJoinMemberCoupon(final JoinMemberCouponEvent joinMemberCouponEvent) {
-        final Long memberId = joinMemberCouponEvent.getMemberId();
-        final Coupon coupon = couponRepository.findByNameAndDiscountRate(JOIN_MEMBER_COUPON.getName(),
-            JOIN_MEMBER_COUPON.getDiscountRate());
-
-        final LocalDateTime issuedAt = LocalDateTime.now();
-        validateAlreadyIssued(memberId, coupon.couponId());
-        final MemberCoupon memberCoupon = convertMemberCoupon(coupon, issuedAt);
-        memberCouponRepository.save(memberId, memberCoupon);
+    @EventListener
+    public void requestJoinMemberCoupon(final JoinMemberCouponEvent joinMemberCouponEvent) {
+        requestCouponIssue(joinMemberCouponEvent.getMemberId(), JOIN_MEMBER_COUPON);
     }
 
-    @TransactionalEventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveFirstOrderCoupon(final FirstOrderCouponEvent firstOrderCouponEvent) {
+    @EventListener
+    public void requestFirstOrderCoupon(final FirstOrderCouponEvent firstOrderCouponEvent) {
         final Long memberId = firstOrderCouponEvent.getMemberId();
-        final Coupon coupon = couponRepository.findByNameAndDiscountRate(FIRST_ORDER_COUPON.getName(),
-            FIRST_ORDER_COUPON.getDiscountRate());
-
-        validateFirstOrder(memberId);
-        final LocalDateTime issuedAt = LocalDateTime.now();
-        validateAlreadyIssued(memberId, coupon.couponId());
-        final MemberCoupon memberCoupon = convertMemberCoupon(coupon, issuedAt);
-        memberCouponRepository.save(memberId, memberCoupon);
+        if (orderedMemberCache.hasOrdered(memberId)) {
+            return;
+        }
+        if (orderRepository.existOtherOrder(memberId, firstOrderCouponEvent.getOrderId())) {
+            orderedMemberCache.mark(memberId);
+            return;
+        }
+        requestCouponIssue(memberId, FIRST_ORDER_COUPON);
+        orderedMemberCache.markAfterCommit(memberId);
     }
 
-    private void validateFirstOrder(final Long memberId) {
-        final Long orderCount = orderRepository.countByMemberId(memberId);
-        if (orderCount != FIRST_ORDER_COUNT) {
-            throw new BadRequestException(ErrorCode.COUPON_NOT_FIRST_ORDER);
+    @Transactional
+    public List<CouponIssue> issuePendingCoupons(final int batchSize) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<CouponIssue> couponIssues = couponIssueRepository.findOldest(now, batchSize);
+        final Map<CouponType, Set<Long>> memberIdsByCouponType = new EnumMap<>(CouponType.class);
+        for (final CouponIssue couponIssue : couponIssues) {
+            memberIdsByCouponType.computeIfAbsent(couponIssue.couponType(), ignored -> new LinkedHashSet<>())
+                .add(couponIssue.memberId());
         }
+
+        final Set<CouponType> issuedCouponTypes = EnumSet.noneOf(CouponType.class);
+        memberIdsByCouponType.forEach((couponType, memberIds) -> {
+            if (issueCoupons(couponType, memberIds, now)) {
+                issuedCouponTypes.add(couponType);
+            }
+        });
+
+        final Map<Boolean, List<CouponIssue>> couponIssuesByIssued = couponIssues.stream()
+            .collect(Collectors.partitioningBy(couponIssue -> issuedCouponTypes.contains(couponIssue.couponType()),
+                Collectors.toUnmodifiableList()));
+        final List<CouponIssue> issuedCouponIssues = couponIssuesByIssued.get(true);
+        couponIssueRepository.deleteAll(issuedCouponIssues);
+        // 발급하지 못한 요청은 남겨 두되 다음 시도 시각을 미뤄, 뒤에 쌓인 요청이 먼저 처리되게 한다.
+        couponIssueRepository.postponeAll(couponIssuesByIssued.get(false), now.plus(retryDelay));
+        return issuedCouponIssues;
+    }
+
+    private void requestCouponIssue(final Long memberId, final CouponType couponType) {
+        couponIssueRepository.save(CouponIssue.create(memberId, couponType, LocalDateTime.now()));
+        applicationEventPublisher.publishEvent(new CouponIssueRequestedEvent(memberId));
     }
 
-    private void validateAlreadyIssued(final Long memberId, final Long couponId) {
-        if (memberCouponRepository.existByMemberIdAndCouponId(memberId, couponId)) {
-            throw new BadRequestException(ErrorCode.COUPON_ALREADY_EXIST);
+    private boolean issueCoupons(final CouponType couponType, final Set<Long> memberIds,
+                                 final LocalDateTime issuedAt) {
+        if (!couponRepository.existByNameAndDiscountRate(couponType.getName(), couponType.getDiscountRate())) {
+            log.warn("{} 쿠폰이 등록되어 있지 않아 {}명의 회원에게 발급하지 못했습니다.", couponType.getName(), memberIds.size());
+            return false;
         }
+        final Coupon coupon = couponRepository.findByNameAndDiscountRate(couponType.getName(),
+            couponType.getDiscountRate());
+
+        final List<Long> requestMemberIds = new ArrayList<>(memberIds);
+        final Set<Long> issuedMemberIds = new HashSet<>(
+            memberCouponRepository.findIssuedMemberIds(coupon.couponId(), requestMemberIds));
+        requestMemberIds.removeIf(issuedMemberIds::contains);
+
+        final MemberCoupon memberCoupon = convertMemberCoupon(coupon, issuedAt);
+        memberCouponRepository.saveAll(requestMemberIds, memberCoupon);
+        return true;
     }
 }
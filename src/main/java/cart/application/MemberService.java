@@ -9,9 +9,9 @@ import cart.application.dto.member.MemberLoginRequest;
 import cart.application.dto.member.MemberLoginResponse;
 import cart.application.dto.member.MemberResponse;
 import cart.application.mapper.MemberMapper;
+import cart.common.auth.AuthenticationCache;
 import cart.common.auth.BasicTokenProvider;
 import cart.domain.event.JoinMemberCouponEvent;
-import cart.domain.member.EncryptedPassword;
 import cart.domain.member.Member;
 import cart.domain.member.MemberCoupon;
 import cart.domain.member.MemberRepository;
@@ -29,11 +29,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final AuthenticationCache authenticationCache;
     private final ApplicationEventPublisher applicationEventPublisher;
 
-    public MemberService(final MemberRepository memberRepository,
+    public MemberService(final MemberRepository memberRepository, final AuthenticationCache authenticationCache,
                          final ApplicationEventPublisher applicationEventPublisher) {
         this.memberRepository = memberRepository;
+        this.authenticationCache = authenticationCache;
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
@@ -44,6 +46,7 @@ public class MemberService {
         }
         final Member member = convertMember(memberJoinRequest);
         final long savedMemberId = memberRepository.insert(member);
+        authenticationCache.invalidate(member.name());
         applicationEventPublisher.publishEvent(new JoinMemberCouponEvent(savedMemberId));
         return savedMemberId;
     }
@@ -74,9 +77,7 @@ public class MemberService {
 
     private void validatePassword(final String name, final String password) {
         final Member member = memberRepository.findByName(name);
-        final String encodedPassword = SHA256Service.encrypt(password);
-        final EncryptedPassword requestEncryptedPassword = EncryptedPassword.create(encodedPassword);
-        if (!requestEncryptedPassword.equals(member.memberPassword())) {
+        if (!SHA256Service.matches(password, member.password())) {
             throw new BadRequestException(ErrorCode.MEMBER_PASSWORD_INVALID);
         }
     }
@@ -0,0 +1,171 @@
+package cart.application;
+
+import cart.application.dto.order.OrderCancelResponse;
+import cart.application.dto.order.OrderCancelResultResponse;
+import cart.domain.member.MemberCouponRepository;
+import cart.domain.order.OrderHeader;
+import cart.domain.order.OrderRepository;
+import cart.domain.refund.RefundPolicy;
+import cart.domain.refund.RefundPolicyComposite;
+import cart.exception.BadRequestException;
+import cart.exception.DBException;
+import cart.exception.ErrorCode;
+import cart.exception.ForbiddenException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OrderCancelService {
+
+    private static final int MIN_CANCEL_SIZE = 1;
+    private static final int MAX_CANCEL_SIZE = 1_000;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final OrderRepository orderRepository;
+    private final MemberCouponRepository memberCouponRepository;
+    private final RefundPolicyComposite refundPolicyComposite;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Set<String> adminMemberNames;
+
+    public OrderCancelService(final OrderRepository orderRepository,
+                              final MemberCouponRepository memberCouponRepository,
+                              final RefundPolicyComposite refundPolicyComposite,
+                              final TransactionTemplate transactionTemplate,
+                              @Value("${order.cancel.chunk-size:200}") final int chunkSize,
+                              @Value("${order.cancel.admin-members:}") final String[] adminMemberNames) {
+        this.orderRepository = orderRepository;
+        this.memberCouponRepository = memberCouponRepository;
+        this.refundPolicyComposite = refundPolicyComposite;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.adminMemberNames = new HashSet<>(Arrays.asList(adminMemberNames));
+    }
+
+    public OrderCancelResponse cancelOrders(final String memberName, final List<Long> orderIds) {
+        validateAdmin(memberName);
+        validateCancelSize(orderIds);
+        final long startNanos = System.nanoTime();
+        final List<Long> distinctOrderIds = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        final LocalDateTime currentTime = LocalDateTime.now();
+
+        final Map<Long, OrderCancelResultResponse> resultsByOrderId = new HashMap<>();
+        // 한 트랜잭션은 한 샤드의 주문만 다룰 수 있으므로, 같이 다룰 수 있는 주문끼리 묶은 뒤 나눠서 취소한다.
+        for (final List<Long> partition : orderRepository.partitionIds(distinctOrderIds)) {
+            for (int from = 0; from < partition.size(); from += chunkSize) {
+                final List<Long> chunk = partition.subList(from, Math.min(from + chunkSize, partition.size()));
+                cancelChunk(chunk, currentTime)
+                    .forEach(result -> resultsByOrderId.put(result.getOrderId(), result));
+            }
+        }
+        final List<OrderCancelResultResponse> results = distinctOrderIds.stream()
+            .map(resultsByOrderId::get)
+            .collect(Collectors.toUnmodifiableList());
+
+        final long canceledCount = results.stream().filter(OrderCancelResultResponse::getIsCanceled).count();
+        final BigDecimal totalRefundPrice = results.stream()
+            .filter(OrderCancelResultResponse::getIsCanceled)
+            .map(OrderCancelResultResponse::getRefundPrice)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        log.info("주문 {}건을 일괄 취소했습니다. (실패 {}건, 환불 금액 {}원, {}ms)", canceledCount,
+            results.size() - canceledCount, totalRefundPrice,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return new OrderCancelResponse(canceledCount, results.size() - canceledCount, totalRefundPrice, results);
+    }
+
+    private List<OrderCancelResultResponse> cancelChunk(final List<Long> orderIds, final LocalDateTime currentTime) {
+        try {
+            return transactionTemplate.execute(status -> cancelInTransaction(orderIds, currentTime));
+        } catch (DataAccessException | DBException exception) {
+            log.warn("주문 {}건을 취소하는 중 DB 오류가 발생해 롤백했습니다.", orderIds.size(), exception);
+            return orderIds.stream()
+                .map(orderId -> OrderCancelResultResponse.failed(orderId, ErrorCode.DB_UPDATE_ERROR))
+                .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    private List<OrderCancelResultResponse> cancelInTransaction(final List<Long> orderIds,
+                                                                final LocalDateTime currentTime) {
+        final Map<Long, OrderHeader> orderHeaders = orderRepository.findHeadersByIds(orderIds).stream()
+            .collect(Collectors.toMap(OrderHeader::getOrderId, Function.identity()));
+
+        final Map<Long, OrderCancelResultResponse> results = new LinkedHashMap<>();
+        final Map<Long, BigDecimal> refundPrices = new LinkedHashMap<>();
+        for (final Long orderId : orderIds) {
+            final OrderHeader orderHeader = orderHeaders.get(orderId);
+            if (orderHeader == null) {
+                results.put(orderId, OrderCancelResultResponse.failed(orderId, ErrorCode.ORDER_NOT_FOUND));
+            } else if (!orderHeader.isValid()) {
+                results.put(orderId, OrderCancelResultResponse.failed(orderId, ErrorCode.ORDER_ALREADY_CANCELED));
+            } else {
+                // 요청 순서대로 결과를 돌려주기 위해 자리를 먼저 잡아 둔다.
+                results.put(orderId, null);
+                calculateRefundPrice(orderHeader, currentTime, results, refundPrices);
+            }
+        }
+
+        final Set<Long> canceledOrderIds = new HashSet<>(
+            orderRepository.updateNotValidByIds(new ArrayList<>(refundPrices.keySet())));
+        final List<Long> memberIds = new ArrayList<>();
+        final List<Long> couponIds = new ArrayList<>();
+        refundPrices.forEach((orderId, refundPrice) -> {
+            if (!canceledOrderIds.contains(orderId)) {
+                results.put(orderId, OrderCancelResultResponse.failed(orderId, ErrorCode.ORDER_ALREADY_CANCELED));
+                return;
+            }
+            final OrderHeader orderHeader = orderHeaders.get(orderId);
+            if (orderHeader.hasUsableCoupon(currentTime)) {
+                memberIds.add(orderHeader.getMemberId());
+                couponIds.add(orderHeader.getCouponId());
+            }
+            results.put(orderId, OrderCancelResultResponse.canceled(orderId, refundPrice));
+        });
+        memberCouponRepository.updateNotUsedAll(memberIds, couponIds);
+        return new ArrayList<>(results.values());
+    }
+
+    private void calculateRefundPrice(final OrderHeader orderHeader, final LocalDateTime currentTime,
+                                      final Map<Long, OrderCancelResultResponse> results,
+                                      final Map<Long, BigDecimal> refundPrices) {
+        final Long orderId = orderHeader.getOrderId();
+        try {
+            final RefundPolicy refundPolicy = refundPolicyComposite.getRefundPolicy(orderHeader.getOrderedAt(),
+                currentTime);
+            refundPrices.put(orderId, orderHeader.calculateRefundPrice(refundPolicy, currentTime));
+        } catch (BadRequestException exception) {
+            results.put(orderId, OrderCancelResultResponse.failed(orderId, exception.getErrorCode()));
+        }
+    }
+
+    private void validateAdmin(final String memberName) {
+        // 다른 사용자의 주문까지 취소하므로 설정된 운영자 계정만 허용한다.
+        if (!adminMemberNames.contains(memberName)) {
+            throw new ForbiddenException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    private void validateCancelSize(final List<Long> orderIds) {
+        if (orderIds == null || orderIds.size() < MIN_CANCEL_SIZE || orderIds.size() > MAX_CANCEL_SIZE) {
+            throw new BadRequestException(ErrorCode.ORDER_CANCEL_SIZE_RANGE);
+        }
+    }
+}
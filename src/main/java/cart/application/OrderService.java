@@ -5,7 +5,9 @@ import static cart.application.mapper.OrderMapper.convertCouponOrder;
 import static cart.application.mapper.OrderMapper.convertOrderResponse;
 import static cart.persistence.mapper.CartMapper.convertCartItem;
 
+import cart.application.dto.order.OrderPageResponse;
 import cart.application.dto.order.OrderProductRequest;
+import cart.application.dto.order.OrderRefundQuoteResponse;
 import cart.application.dto.order.OrderRefundResponse;
 import cart.application.dto.order.OrderRequest;
 import cart.application.dto.order.OrderResponse;
@@ -13,22 +15,20 @@ import cart.application.mapper.OrderMapper;
 import cart.domain.cartitem.Cart;
 import cart.domain.cartitem.CartItem;
 import cart.domain.cartitem.CartRepository;
-import cart.domain.coupon.Coupon;
 import cart.domain.event.FirstOrderCouponEvent;
 import cart.domain.member.Member;
 import cart.domain.member.MemberCoupon;
 import cart.domain.member.MemberCouponRepository;
-import cart.domain.member.MemberRepository;
 import cart.domain.order.BasicOrder;
 import cart.domain.order.CouponOrder;
 import cart.domain.order.Order;
+import cart.domain.order.OrderHeader;
 import cart.domain.order.OrderRepository;
 import cart.domain.refund.RefundPolicy;
 import cart.domain.refund.RefundPolicyComposite;
 import cart.exception.BadRequestException;
 import cart.exception.ErrorCode;
 import cart.exception.ForbiddenException;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
@@ -43,21 +43,21 @@ public class OrderService {
 
     private static final int MAX_ORDER_QUANTITY = 100_000;
     private static final int DELIVERY_PRICE = 3_000;
+    private static final int MIN_ORDER_PAGE_SIZE = 1;
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
 
     private final CartRepository cartRepository;
     private final OrderRepository orderRepository;
-    private final MemberRepository memberRepository;
     private final RefundPolicyComposite refundPolicyComposite;
     private final MemberCouponRepository memberCouponRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public OrderService(final CartRepository cartRepository, final OrderRepository orderRepository,
-                        final MemberRepository memberRepository, final RefundPolicyComposite refundPolicyComposite,
+                        final RefundPolicyComposite refundPolicyComposite,
                         final MemberCouponRepository memberCouponRepository,
                         final ApplicationEventPublisher applicationEventPublisher) {
         this.cartRepository = cartRepository;
         this.orderRepository = orderRepository;
-        this.memberRepository = memberRepository;
         this.refundPolicyComposite = refundPolicyComposite;
         this.memberCouponRepository = memberCouponRepository;
         this.applicationEventPublisher = applicationEventPublisher;
@@ -71,13 +71,13 @@ public class OrderService {
         final List<Long> requestProductIds = getRequestProductIds(orderRequest);
         validateOrderProductIds(requestProductIds, cartItems);
 
-        final Member member = memberRepository.findByName(memberName);
+        final Member member = cart.getMember();
         final List<CartItem> requestCartItems = getOrderRequestCartItems(orderRequest, cartItems);
         validateDeletedProductExistence(requestCartItems);
 
         final long savedOrderId = saveOrder(requestCartItems, member, orderRequest.getCouponId());
         cartRepository.deleteByProductIdsAndMemberId(requestProductIds, member.memberId());
-        applicationEventPublisher.publishEvent(new FirstOrderCouponEvent(member.memberId()));
+        applicationEventPublisher.publishEvent(new FirstOrderCouponEvent(member.memberId(), savedOrderId));
         return savedOrderId;
     }
 
@@ -96,34 +96,66 @@ public class OrderService {
             .collect(Collectors.toUnmodifiableList());
     }
 
-    @Transactional
-    public OrderRefundResponse cancelOrder(final String memberName, final Long id) {
-        final Order order = orderRepository.getById(id);
-        if (order.isNotOwner(memberName)) {
-            throw new ForbiddenException(ErrorCode.FORBIDDEN);
+    public OrderPageResponse getOrdersByCursor(final String memberName, final LocalDateTime lastOrderedAt,
+                                               final Long lastOrderId, final int size) {
+        validateOrderPageRequest(lastOrderedAt, lastOrderId, size);
+        final List<Order> orders = orderRepository.findByMemberName(memberName, lastOrderedAt, lastOrderId, size + 1);
+        final boolean hasNext = orders.size() > size;
+        final List<Order> pagedOrders = hasNext ? orders.subList(0, size) : orders;
+        final List<OrderResponse> orderResponses = pagedOrders.stream()
+            .map(OrderMapper::convertOrderResponse)
+            .collect(Collectors.toUnmodifiableList());
+
+        if (pagedOrders.isEmpty()) {
+            return new OrderPageResponse(false, null, null, orderResponses);
         }
+        final Order lastOrder = pagedOrders.get(pagedOrders.size() - 1);
+        return new OrderPageResponse(hasNext, lastOrder.getOrderedAt(), lastOrder.getOrderId(), orderResponses);
+    }
+
+    public OrderRefundQuoteResponse quoteRefund(final String memberName, final Long id) {
+        final OrderHeader orderHeader = getOwnOrderHeader(memberName, id);
+        final LocalDateTime currentTime = LocalDateTime.now();
+        final RefundPolicy refundPolicy = refundPolicyComposite.getRefundPolicy(orderHeader.getOrderedAt(),
+            currentTime);
+        return new OrderRefundQuoteResponse(orderHeader.calculateRefundPrice(refundPolicy, currentTime),
+            refundPolicy.getLimitDate().name(),
+            orderHeader.getOrderedAt().plusDays(refundPolicy.getLimitDate().getDay()));
+    }
 
+    @Transactional
+    public OrderRefundResponse cancelOrder(final String memberName, final Long id) {
+        final OrderHeader orderHeader = getOwnOrderHeader(memberName, id);
         final LocalDateTime currentTime = LocalDateTime.now();
-        final RefundPolicy refundPolicy = refundPolicyComposite.getRefundPolicies(order, currentTime);
-        orderRepository.updateNotValidById(order.getOrderId());
+        final RefundPolicy refundPolicy = refundPolicyComposite.getRefundPolicy(orderHeader.getOrderedAt(),
+            currentTime);
+        orderRepository.updateNotValidById(orderHeader.getOrderId());
 
-        final BigDecimal paymentPrice = changeCouponUnUsedIfExist(order);
-        final BigDecimal refundPrice = refundPolicy.calculatePrice(paymentPrice).add(
-            BigDecimal.valueOf(order.getDeliveryPrice()));
-        return new OrderRefundResponse(refundPrice);
+        if (orderHeader.hasUsableCoupon(currentTime)) {
+            memberCouponRepository.updateNotUsed(orderHeader.getMemberId(), orderHeader.getCouponId());
+        }
+        return new OrderRefundResponse(orderHeader.calculateRefundPrice(refundPolicy, currentTime));
+    }
+
+    private OrderHeader getOwnOrderHeader(final String memberName, final Long id) {
+        final OrderHeader orderHeader = orderRepository.getHeaderById(id);
+        if (orderHeader.isNotOwner(memberName)) {
+            throw new ForbiddenException(ErrorCode.FORBIDDEN);
+        }
+        if (!orderHeader.isValid()) {
+            throw new BadRequestException(ErrorCode.ORDER_ALREADY_CANCELED);
+        }
+        return orderHeader;
     }
 
-    private BigDecimal changeCouponUnUsedIfExist(final Order order) {
-        if (order.getCoupon().isEmpty()) {
-            return order.getTotalPrice();
+    private void validateOrderPageRequest(final LocalDateTime lastOrderedAt, final Long lastOrderId,
+                                          final int size) {
+        if (size < MIN_ORDER_PAGE_SIZE || size > MAX_ORDER_PAGE_SIZE) {
+            throw new BadRequestException(ErrorCode.ORDER_PAGE_SIZE_RANGE);
         }
-        final Coupon coupon = order.getCoupon().get();
-        final Long memberId = order.getMember().memberId();
-        if (coupon.isNotExpired(LocalDateTime.now())) {
-            memberCouponRepository.updateNotUsed(memberId, coupon.couponId());
-            return order.getDiscountedTotalPrice();
+        if ((lastOrderedAt == null) != (lastOrderId == null)) {
+            throw new BadRequestException(ErrorCode.ORDER_CURSOR_INVALID);
         }
-        return order.getTotalPrice();
     }
 
     private void validateOrderQuantity(final OrderRequest orderRequest) {
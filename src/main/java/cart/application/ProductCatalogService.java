@@ -0,0 +1,309 @@
+package cart.application;
+
+import static cart.application.mapper.ProductMapper.convertProduct;
+import static cart.application.mapper.ProductMapper.convertProductResponse;
+
+import cart.application.dto.product.ProductFileFormat;
+import cart.application.dto.product.ProductImportResponse;
+import cart.application.dto.product.ProductRequest;
+import cart.common.cache.CatalogVersions;
+import cart.common.cache.CatalogVersions.Catalog;
+import cart.common.cache.ProductCache;
+import cart.common.cache.ProductCountCache;
+import cart.domain.product.Product;
+import cart.domain.product.ProductRepository;
+import cart.exception.BadRequestException;
+import cart.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ProductCatalogService {
+
+    private static final int MAX_REPORTED_FAILED_LINES = 100;
+    private static final String CSV_HEADER = "id,name,price,imageUrl";
+    private static final String CSV_NAME = "name";
+    private static final String CSV_PRICE = "price";
+    private static final String CSV_IMAGE_URL = "imageUrl";
+    private static final char CSV_DELIMITER = ',';
+    private static final char CSV_QUOTE = '"';
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ProductCountCache productCountCache;
+    private final CatalogVersions catalogVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader productRequestReader;
+    private final ObjectWriter productResponseWriter;
+    private final int importChunkSize;
+    private final int catalogFetchSize;
+
+    public ProductCatalogService(final ProductRepository productRepository, final ProductCache productCache,
+                                 final ProductCountCache productCountCache,
+                                 final CatalogVersions catalogVersions,
+                                 final TransactionTemplate transactionTemplate, final Validator validator,
+                                 final ObjectMapper objectMapper,
+                                 @Value("${product.import.chunk-size:1000}") final int importChunkSize,
+                                 @Value("${product.catalog.fetch-size:1000}") final int catalogFetchSize) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.productCountCache = productCountCache;
+        this.catalogVersions = catalogVersions;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.productRequestReader = objectMapper.readerFor(ProductRequest.class);
+        this.productResponseWriter = objectMapper.writer();
+        this.importChunkSize = importChunkSize;
+        this.catalogFetchSize = catalogFetchSize;
+    }
+
+    public ProductImportResponse importProducts(final InputStream inputStream, final ProductFileFormat format) {
+        final long startNanos = System.nanoTime();
+        final List<Product> chunk = new ArrayList<>(importChunkSize);
+        final List<Long> failedLineNumbers = new ArrayList<>();
+        long importedCount = 0;
+        long failedCount = 0;
+        long chunkFirstLineNumber = 0;
+        Long stoppedLineNumber = null;
+
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            final Map<String, Integer> csvColumns = format == ProductFileFormat.CSV
+                ? readCsvHeader(reader.readLine()) : Map.of();
+            long lineNumber = format == ProductFileFormat.CSV ? 1 : 0;
+            String record;
+            while ((record = readRecord(reader, format)) != null) {
+                final long recordLineNumber = lineNumber + 1;
+                lineNumber += countLines(record);
+                if (record.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(parseProduct(record, format, csvColumns));
+                } catch (BadRequestException | IllegalArgumentException | JsonProcessingException exception) {
+                    failedCount++;
+                    if (failedLineNumbers.size() < MAX_REPORTED_FAILED_LINES) {
+                        failedLineNumbers.add(recordLineNumber);
+                    }
+                    continue;
+                }
+                if (chunk.size() == 1) {
+                    chunkFirstLineNumber = recordLineNumber;
+                }
+                if (chunk.size() == importChunkSize) {
+                    importedCount += saveChunk(chunk);
+                }
+            }
+            importedCount += saveChunk(chunk);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } catch (DataAccessException exception) {
+            // 앞선 청크는 이미 커밋되었으므로, 어디까지 저장했는지 알려 주고 그 줄부터 다시 가져오게 한다.
+            stoppedLineNumber = chunkFirstLineNumber;
+            log.warn("{}번째 줄부터 상품을 저장하지 못해 가져오기를 멈췄습니다. (저장 {}건)", chunkFirstLineNumber,
+                importedCount, exception);
+        } finally {
+            productCountCache.refresh();
+        }
+
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final long rowsPerSecond = rowsPerSecond(importedCount, elapsedNanos);
+        log.info("상품 {}건을 가져왔습니다. (실패 {}건, {}ms, {} rows/s)", importedCount, failedCount,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+        return new ProductImportResponse(importedCount, failedCount, failedLineNumbers, stoppedLineNumber,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+    }
+
+    public void exportProducts(final OutputStream outputStream, final ProductFileFormat format) {
+        final long startNanos = System.nanoTime();
+        final AtomicLong exportedCount = new AtomicLong();
+        try (final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            if (format == ProductFileFormat.CSV) {
+                writeLine(writer, CSV_HEADER);
+            }
+            productRepository.forEachProduct(catalogFetchSize, product -> {
+                writeLine(writer, formatProduct(product, format));
+                exportedCount.incrementAndGet();
+            });
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        log.info("상품 {}건을 내보냈습니다. ({}ms, {} rows/s)", exportedCount.get(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond(exportedCount.get(), elapsedNanos));
+    }
+
+    private int saveChunk(final List<Product> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        final int chunkSize = chunk.size();
+        transactionTemplate.executeWithoutResult(status -> productRepository.saveAll(chunk));
+        productCache.invalidateAll();
+        catalogVersions.refresh(Catalog.PRODUCT);
+        chunk.clear();
+        return chunkSize;
+    }
+
+    private String readRecord(final BufferedReader reader, final ProductFileFormat format) throws IOException {
+        final String line = reader.readLine();
+        if (line == null || format != ProductFileFormat.CSV) {
+            return line;
+        }
+        // 따옴표 안의 줄바꿈은 값의 일부이므로 따옴표가 닫힐 때까지 다음 줄을 이어 붙인다.
+        final StringBuilder record = new StringBuilder(line);
+        while (isQuoteOpen(record)) {
+            final String nextLine = reader.readLine();
+            if (nextLine == null) {
+                break;
+            }
+            record.append('\n').append(nextLine);
+        }
+        return record.toString();
+    }
+
+    private boolean isQuoteOpen(final CharSequence record) {
+        int quoteCount = 0;
+        for (int i = 0; i < record.length(); i++) {
+            if (record.charAt(i) == CSV_QUOTE) {
+                quoteCount++;
+            }
+        }
+        return quoteCount % 2 == 1;
+    }
+
+    private long countLines(final String record) {
+        return record.chars().filter(current -> current == '\n').count() + 1;
+    }
+
+    private Product parseProduct(final String line, final ProductFileFormat format,
+                                 final Map<String, Integer> csvColumns) throws JsonProcessingException {
+        final ProductRequest productRequest = format == ProductFileFormat.CSV
+            ? parseCsvProduct(line, csvColumns)
+            : productRequestReader.readValue(line);
+        if (!validator.validate(productRequest).isEmpty()) {
+            throw new BadRequestException(ErrorCode.INVALID_REQUEST);
+        }
+        return convertProduct(productRequest);
+    }
+
+    private ProductRequest parseCsvProduct(final String line, final Map<String, Integer> csvColumns) {
+        final List<String> values = splitCsvLine(line);
+        final String price = csvValue(values, csvColumns.get(CSV_PRICE));
+        return new ProductRequest(csvValue(values, csvColumns.get(CSV_NAME)),
+            price == null || price.isBlank() ? null : Integer.valueOf(price.trim()),
+            csvValue(values, csvColumns.get(CSV_IMAGE_URL)));
+    }
+
+    private Map<String, Integer> readCsvHeader(final String header) {
+        if (header == null) {
+            return Map.of();
+        }
+        final List<String> columns = splitCsvLine(header);
+        final Map<String, Integer> csvColumns = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            csvColumns.put(columns.get(i).trim(), i);
+        }
+        if (!csvColumns.containsKey(CSV_NAME) || !csvColumns.containsKey(CSV_PRICE)) {
+            throw new BadRequestException(ErrorCode.PRODUCT_FILE_FORMAT_UNSUPPORTED);
+        }
+        return csvColumns;
+    }
+
+    private String csvValue(final List<String> values, final Integer index) {
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    private List<String> splitCsvLine(final String line) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char current = line.charAt(i);
+            if (quoted && current == CSV_QUOTE && i + 1 < line.length() && line.charAt(i + 1) == CSV_QUOTE) {
+                value.append(CSV_QUOTE);
+                i++;
+            } else if (current == CSV_QUOTE) {
+                quoted = !quoted;
+            } else if (current == CSV_DELIMITER && !quoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(current);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private String formatProduct(final Product product, final ProductFileFormat format) {
+        if (format == ProductFileFormat.CSV) {
+            return String.join(String.valueOf(CSV_DELIMITER), String.valueOf(product.getProductId()),
+                escapeCsv(product.getName()), String.valueOf(product.getPrice()), escapeCsv(product.getImageUrl()));
+        }
+        try {
+            return productResponseWriter.writeValueAsString(convertProductResponse(product));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private String escapeCsv(final String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(CSV_DELIMITER) < 0 && value.indexOf(CSV_QUOTE) < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return CSV_QUOTE + value.replace("\"", "\"\"") + CSV_QUOTE;
+    }
+
+    private void writeLine(final Writer writer, final String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private long rowsPerSecond(final long rowCount, final long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return rowCount;
+        }
+        return rowCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
@@ -3,12 +3,19 @@ package cart.application;
 import static cart.application.mapper.ProductMapper.convertProduct;
 import static cart.application.mapper.ProductMapper.convertProductResponse;
 
+import cart.application.dto.product.ProductCursorResponse;
 import cart.application.dto.product.ProductPageResponse;
 import cart.application.dto.product.ProductRequest;
 import cart.application.dto.product.ProductResponse;
 import cart.application.mapper.ProductMapper;
+import cart.common.cache.CatalogVersions;
+import cart.common.cache.CatalogVersions.Catalog;
+import cart.common.cache.ProductCache;
+import cart.common.cache.ProductCountCache;
 import cart.domain.product.Product;
 import cart.domain.product.ProductRepository;
+import cart.exception.BadRequestException;
+import cart.exception.ErrorCode;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
@@ -18,10 +25,21 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final long FIRST_CURSOR = 0L;
+    private static final int MIN_PRODUCT_PAGE_SIZE = 1;
+    private static final int MAX_PRODUCT_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
+    private final ProductCountCache productCountCache;
+    private final ProductCache productCache;
+    private final CatalogVersions catalogVersions;
 
-    public ProductService(final ProductRepository productRepository) {
+    public ProductService(final ProductRepository productRepository, final ProductCountCache productCountCache,
+                          final ProductCache productCache, final CatalogVersions catalogVersions) {
         this.productRepository = productRepository;
+        this.productCountCache = productCountCache;
+        this.productCache = productCache;
+        this.catalogVersions = catalogVersions;
     }
 
     public List<ProductResponse> getAllProducts() {
@@ -47,21 +65,50 @@ public class ProductService {
         return new ProductPageResponse(totalPage, productResponses);
     }
 
+    public ProductCursorResponse getProductsByCursor(final Long lastId, final int size,
+                                                     final boolean withTotalCount) {
+        validateProductPageSize(size);
+        final Long cursor = lastId == null ? FIRST_CURSOR : lastId;
+        final List<Product> products = productRepository.getProductsAfterId(cursor, size + 1);
+        final boolean hasNext = products.size() > size;
+        final List<ProductResponse> productResponses = products.stream()
+            .limit(size)
+            .map(ProductMapper::convertProductResponse)
+            .collect(Collectors.toList());
+
+        final Long nextCursor = hasNext ? productResponses.get(size - 1).getId() : null;
+        final Long totalCount = withTotalCount ? productCountCache.getProductCount() : null;
+        return new ProductCursorResponse(nextCursor, totalCount, productResponses);
+    }
+
     @Transactional
     public Long createProduct(ProductRequest productRequest) {
         final Product product = convertProduct(productRequest);
-        return productRepository.save(product);
+        final Long productId = productRepository.save(product);
+        productCache.invalidate(productId);
+        catalogVersions.refreshAfterCommit(Catalog.PRODUCT);
+        return productId;
     }
 
     @Transactional
     public void updateProduct(Long productId, ProductRequest productRequest) {
         final Product product = convertProduct(productRequest);
         productRepository.updateProduct(productId, product);
+        productCache.invalidate(productId);
+        catalogVersions.refreshAfterCommit(Catalog.PRODUCT);
     }
 
     @Transactional
     public void deleteProduct(Long productId) {
         productRepository.deleteProduct(productId);
+        productCache.invalidate(productId);
+        catalogVersions.refreshAfterCommit(Catalog.PRODUCT);
+    }
+
+    private void validateProductPageSize(final int size) {
+        if (size < MIN_PRODUCT_PAGE_SIZE || size > MAX_PRODUCT_PAGE_SIZE) {
+            throw new BadRequestException(ErrorCode.PRODUCT_PAGE_SIZE_RANGE);
+        }
     }
 
     private long calculateTotalPage(final int size, final long totalProductCount) {
@@ -0,0 +1,28 @@
+package cart.application.dto.cartitem;
+
+import cart.exception.ErrorResponse;
+
+public class CartBatchItemResponse {
+
+    private final Long productId;
+    private final Long cartItemId;
+    private final ErrorResponse error;
+
+    public CartBatchItemResponse(final Long productId, final Long cartItemId, final ErrorResponse error) {
+        this.productId = productId;
+        this.cartItemId = cartItemId;
+        this.error = error;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Long getCartItemId() {
+        return cartItemId;
+    }
+
+    public ErrorResponse getError() {
+        return error;
+    }
+}
@@ -0,0 +1,25 @@
+package cart.application.dto.cartitem;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class CartBatchRequest {
+
+    @NotEmpty(message = "장바구니에 추가할 상품은 비어있을 수 없습니다.")
+    @Size(max = 100, message = "장바구니에는 한 번에 최대 100개의 상품까지 추가할 수 있습니다.")
+    private final List<@Valid CartRequest> items;
+
+    public CartBatchRequest() {
+        this(null);
+    }
+
+    public CartBatchRequest(final List<CartRequest> items) {
+        this.items = items;
+    }
+
+    public List<CartRequest> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,16 @@
+package cart.application.dto.cartitem;
+
+import java.util.List;
+
+public class CartBatchResponse {
+
+    private final List<CartBatchItemResponse> results;
+
+    public CartBatchResponse(final List<CartBatchItemResponse> results) {
+        this.results = results;
+    }
+
+    public List<CartBatchItemResponse> getResults() {
+        return results;
+    }
+}
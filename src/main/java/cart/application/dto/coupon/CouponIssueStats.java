@@ -0,0 +1,33 @@
+package cart.application.dto.coupon;
+
+public class CouponIssueStats {
+
+    private final long queueDepth;
+    private final long lagMillis;
+    private final long processedCount;
+    private final long failureCount;
+
+    public CouponIssueStats(final long queueDepth, final long lagMillis, final long processedCount,
+                            final long failureCount) {
+        this.queueDepth = queueDepth;
+        this.lagMillis = lagMillis;
+        this.processedCount = processedCount;
+        this.failureCount = failureCount;
+    }
+
+    public long getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+}
@@ -0,0 +1,20 @@
+package cart.application.dto.order;
+
+import java.util.List;
+
+public class OrderCancelRequest {
+
+    private final List<Long> orderIds;
+
+    public OrderCancelRequest() {
+        this(null);
+    }
+
+    public OrderCancelRequest(final List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+}
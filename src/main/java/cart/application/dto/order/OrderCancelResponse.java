@@ -0,0 +1,36 @@
+package cart.application.dto.order;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class OrderCancelResponse {
+
+    private final long canceledCount;
+    private final long failedCount;
+    private final BigDecimal totalRefundPrice;
+    private final List<OrderCancelResultResponse> results;
+
+    public OrderCancelResponse(final long canceledCount, final long failedCount, final BigDecimal totalRefundPrice,
+                               final List<OrderCancelResultResponse> results) {
+        this.canceledCount = canceledCount;
+        this.failedCount = failedCount;
+        this.totalRefundPrice = totalRefundPrice;
+        this.results = results;
+    }
+
+    public long getCanceledCount() {
+        return canceledCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public BigDecimal getTotalRefundPrice() {
+        return totalRefundPrice;
+    }
+
+    public List<OrderCancelResultResponse> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,50 @@
+package cart.application.dto.order;
+
+import cart.exception.ErrorCode;
+import java.math.BigDecimal;
+
+public class OrderCancelResultResponse {
+
+    private final Long orderId;
+    private final boolean isCanceled;
+    private final BigDecimal refundPrice;
+    private final String errorCode;
+    private final String errorMessage;
+
+    private OrderCancelResultResponse(final Long orderId, final boolean isCanceled, final BigDecimal refundPrice,
+                                      final String errorCode, final String errorMessage) {
+        this.orderId = orderId;
+        this.isCanceled = isCanceled;
+        this.refundPrice = refundPrice;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public static OrderCancelResultResponse canceled(final Long orderId, final BigDecimal refundPrice) {
+        return new OrderCancelResultResponse(orderId, true, refundPrice, null, null);
+    }
+
+    public static OrderCancelResultResponse failed(final Long orderId, final ErrorCode errorCode) {
+        return new OrderCancelResultResponse(orderId, false, null, errorCode.name(), errorCode.getMessage());
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public boolean getIsCanceled() {
+        return isCanceled;
+    }
+
+    public BigDecimal getRefundPrice() {
+        return refundPrice;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
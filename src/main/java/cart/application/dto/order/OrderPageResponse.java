@@ -0,0 +1,36 @@
+package cart.application.dto.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderPageResponse {
+
+    private final boolean hasNext;
+    private final LocalDateTime lastOrderedAt;
+    private final Long lastOrderId;
+    private final List<OrderResponse> orders;
+
+    public OrderPageResponse(final boolean hasNext, final LocalDateTime lastOrderedAt, final Long lastOrderId,
+                             final List<OrderResponse> orders) {
+        this.hasNext = hasNext;
+        this.lastOrderedAt = lastOrderedAt;
+        this.lastOrderId = lastOrderId;
+        this.orders = orders;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public LocalDateTime getLastOrderedAt() {
+        return lastOrderedAt;
+    }
+
+    public Long getLastOrderId() {
+        return lastOrderId;
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+}
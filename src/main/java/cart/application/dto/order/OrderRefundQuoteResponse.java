@@ -0,0 +1,30 @@
+package cart.application.dto.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class OrderRefundQuoteResponse {
+
+    private final BigDecimal refundPrice;
+    private final String refundPolicy;
+    private final LocalDateTime refundableUntil;
+
+    public OrderRefundQuoteResponse(final BigDecimal refundPrice, final String refundPolicy,
+                                    final LocalDateTime refundableUntil) {
+        this.refundPrice = refundPrice;
+        this.refundPolicy = refundPolicy;
+        this.refundableUntil = refundableUntil;
+    }
+
+    public BigDecimal getRefundPrice() {
+        return refundPrice;
+    }
+
+    public String getRefundPolicy() {
+        return refundPolicy;
+    }
+
+    public LocalDateTime getRefundableUntil() {
+        return refundableUntil;
+    }
+}
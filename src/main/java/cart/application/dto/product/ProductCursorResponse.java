@@ -0,0 +1,29 @@
+package cart.application.dto.product;
+
+import java.util.List;
+
+public class ProductCursorResponse {
+
+    private final Long nextCursor;
+    private final Long totalCount;
+    private final List<ProductResponse> products;
+
+    public ProductCursorResponse(final Long nextCursor, final Long totalCount,
+                                 final List<ProductResponse> products) {
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+        this.products = products;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public Long getTotalCount() {
+        return totalCount;
+    }
+
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+}
@@ -0,0 +1,35 @@
+package cart.application.dto.product;
+
+import cart.exception.BadRequestException;
+import cart.exception.ErrorCode;
+import java.util.Arrays;
+import org.springframework.http.MediaType;
+
+public enum ProductFileFormat {
+    NDJSON(MediaType.valueOf("application/x-ndjson")),
+    CSV(MediaType.valueOf("text/csv"));
+
+    private final MediaType mediaType;
+
+    ProductFileFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static ProductFileFormat from(final String format) {
+        return Arrays.stream(values())
+            .filter(value -> value.name().equalsIgnoreCase(format))
+            .findFirst()
+            .orElseThrow(() -> new BadRequestException(ErrorCode.PRODUCT_FILE_FORMAT_UNSUPPORTED));
+    }
+
+    public static ProductFileFormat from(final MediaType mediaType) {
+        return Arrays.stream(values())
+            .filter(value -> value.mediaType.isCompatibleWith(mediaType))
+            .findFirst()
+            .orElseThrow(() -> new BadRequestException(ErrorCode.PRODUCT_FILE_FORMAT_UNSUPPORTED));
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,48 @@
+package cart.application.dto.product;
+
+import java.util.List;
+
+public class ProductImportResponse {
+
+    private final long importedCount;
+    private final long failedCount;
+    private final List<Long> failedLineNumbers;
+    private final Long stoppedLineNumber;
+    private final long elapsedMillis;
+    private final long rowsPerSecond;
+
+    public ProductImportResponse(final long importedCount, final long failedCount,
+                                 final List<Long> failedLineNumbers, final Long stoppedLineNumber,
+                                 final long elapsedMillis, final long rowsPerSecond) {
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.failedLineNumbers = failedLineNumbers;
+        this.stoppedLineNumber = stoppedLineNumber;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public List<Long> getFailedLineNumbers() {
+        return failedLineNumbers;
+    }
+
+    public Long getStoppedLineNumber() {
+        return stoppedLineNumber;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+}
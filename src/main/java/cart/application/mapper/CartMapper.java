@@ -2,15 +2,14 @@ package cart.application.mapper;
 
 import cart.application.dto.cartitem.CartResponse;
 import cart.application.dto.product.ProductResponse;
-import cart.domain.cartitem.CartItem;
-import cart.domain.product.Product;
+import cart.domain.cartitem.CartItemSummary;
 
 public class CartMapper {
 
-    public static CartResponse convertCartItemResponse(final CartItem cartItem) {
-        final Product product = cartItem.getProduct();
-        return new CartResponse(cartItem.getCartId(), cartItem.getQuantity(),
-            new ProductResponse(product.getProductId(), product.getName(), product.getPrice(),
-                product.getImageUrl()));
+    public static CartResponse convertCartResponse(final CartItemSummary cartItemSummary) {
+        final ProductResponse productResponse = new ProductResponse(cartItemSummary.getProductId(),
+            cartItemSummary.getProductName(), cartItemSummary.getProductPrice(),
+            cartItemSummary.getProductImageUrl());
+        return new CartResponse(cartItemSummary.getCartItemId(), cartItemSummary.getQuantity(), productResponse);
     }
 }
@@ -0,0 +1,49 @@
+package cart.common.auth;
+
+import cart.common.cache.CacheStats;
+import cart.common.cache.ExpiringCache;
+import cart.domain.security.SHA256Service;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuthenticationCache {
+
+    private final ExpiringCache<String, String> memberNamesByToken;
+
+    public AuthenticationCache(@Value("${auth.cache.maximum-size:10000}") final int maximumSize,
+                               @Value("${auth.cache.ttl:5m}") final Duration ttl) {
+        this.memberNamesByToken = new ExpiringCache<>(maximumSize, ttl);
+    }
+
+    public Optional<String> findMemberName(final String authorization) {
+        return memberNamesByToken.get(hash(authorization));
+    }
+
+    public void put(final String authorization, final String memberName) {
+        memberNamesByToken.put(hash(authorization), memberName);
+    }
+
+    public void invalidate(final String memberName) {
+        memberNamesByToken.invalidateIf(cachedName -> Objects.equals(cachedName, memberName));
+    }
+
+    public void invalidateAll() {
+        memberNamesByToken.invalidateAll();
+    }
+
+    public int size() {
+        return memberNamesByToken.size();
+    }
+
+    public CacheStats stats() {
+        return memberNamesByToken.stats();
+    }
+
+    private String hash(final String authorization) {
+        return SHA256Service.encrypt(authorization);
+    }
+}
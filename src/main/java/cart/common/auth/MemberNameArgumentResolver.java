@@ -4,9 +4,11 @@ import cart.application.MemberService;
 import cart.application.dto.member.MemberResponse;
 import cart.domain.security.SHA256Service;
 import cart.exception.AuthenticationException;
+import java.util.Optional;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
@@ -14,13 +16,18 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 public class MemberNameArgumentResolver implements HandlerMethodArgumentResolver {
 
+    public static final String MEMBER_NAME_ATTRIBUTE = MemberNameArgumentResolver.class.getName() + ".memberName";
+
     private static final String DELIMITER = ":";
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
     private final MemberService memberService;
+    private final AuthenticationCache authenticationCache;
 
-    public MemberNameArgumentResolver(final MemberService memberService) {
+    public MemberNameArgumentResolver(final MemberService memberService,
+                                      final AuthenticationCache authenticationCache) {
         this.memberService = memberService;
+        this.authenticationCache = authenticationCache;
     }
 
     @Override
@@ -35,15 +42,33 @@ public class MemberNameArgumentResolver implements HandlerMethodArgumentResolver
                                   final NativeWebRequest webRequest,
                                   final WebDataBinderFactory binderFactory) {
         final String authorization = webRequest.getHeader(AUTHORIZATION_HEADER);
+        final Optional<String> cachedMemberName = findCachedMemberName(authorization);
+        if (cachedMemberName.isPresent()) {
+            return rememberMemberName(webRequest, cachedMemberName.get());
+        }
+
         final String memberToken = BasicTokenProvider.extractToken(authorization);
         final String memberName = memberToken.split(DELIMITER)[0];
         final String memberPassword = memberToken.split(DELIMITER)[1];
 
         final MemberResponse memberResponse = memberService.getByName(memberName);
-        final String encodedPassword = SHA256Service.encrypt(memberPassword);
-        if (!memberResponse.getPassword().equals(encodedPassword)) {
+        if (!SHA256Service.matches(memberPassword, memberResponse.getPassword())) {
             throw new AuthenticationException();
         }
+        authenticationCache.put(authorization, memberName);
+        return rememberMemberName(webRequest, memberName);
+    }
+
+    private String rememberMemberName(final NativeWebRequest webRequest, final String memberName) {
+        // 이후의 DB 조회가 같은 회원의 최근 변경을 볼 수 있도록 요청 범위에 회원을 남겨 둔다.
+        webRequest.setAttribute(MEMBER_NAME_ATTRIBUTE, memberName, RequestAttributes.SCOPE_REQUEST);
         return memberName;
     }
+
+    private Optional<String> findCachedMemberName(final String authorization) {
+        if (authorization == null) {
+            return Optional.empty();
+        }
+        return authenticationCache.findMemberName(authorization);
+    }
 }
@@ -0,0 +1,54 @@
+package cart.common.cache;
+
+public class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long loadCount;
+    private final long totalLoadTimeNanos;
+
+    public CacheStats(final long hitCount, final long missCount, final long evictionCount,
+                      final long loadCount, final long totalLoadTimeNanos) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+    }
+
+    public double hitRate() {
+        final long requestCount = hitCount + missCount;
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) hitCount / requestCount;
+    }
+
+    public double averageLoadPenaltyNanos() {
+        if (loadCount == 0) {
+            return 0;
+        }
+        return (double) totalLoadTimeNanos / loadCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+}
@@ -0,0 +1,121 @@
+package cart.common.cache;
+
+import cart.domain.catalog.TableVersion;
+import cart.domain.coupon.CouponRepository;
+import cart.domain.product.ProductRepository;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CatalogVersions {
+
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private final ProductRepository productRepository;
+    private final CouponRepository couponRepository;
+
+    private final Map<Catalog, VersionSlot> slots = new EnumMap<>(Catalog.class);
+
+    public CatalogVersions(final ProductRepository productRepository, final CouponRepository couponRepository) {
+        this.productRepository = productRepository;
+        this.couponRepository = couponRepository;
+        for (final Catalog catalog : Catalog.values()) {
+            slots.put(catalog, new VersionSlot());
+        }
+    }
+
+    public String eTag(final Catalog catalog) {
+        return "\"" + catalog.prefix + "-" + version(catalog) + "\"";
+    }
+
+    public String eTag(final Catalog catalog, final Long id) {
+        return "\"" + catalog.prefix + "-" + id + "-" + version(catalog) + "\"";
+    }
+
+    public boolean isNotModified(final Catalog catalog, final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        final VersionSlot slot = slots.get(catalog);
+        slot.requestCount.incrementAndGet();
+        if (!matches(ifNoneMatch, eTag)) {
+            return false;
+        }
+        slot.notModifiedCount.incrementAndGet();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.version.refresh-interval:10000}")
+    public void refresh() {
+        for (final Catalog catalog : Catalog.values()) {
+            refresh(catalog);
+        }
+    }
+
+    public void refresh(final Catalog catalog) {
+        final TableVersion tableVersion = catalog == Catalog.PRODUCT
+            ? productRepository.getTableVersion()
+            : couponRepository.getTableVersion();
+        slots.get(catalog).version = tableVersion.getRowCount() + "." + tableVersion.getMaxId() + "."
+            + tableVersion.getVersionSum();
+    }
+
+    public void refreshAfterCommit(final Catalog catalog) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(catalog);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(catalog);
+            }
+        });
+    }
+
+    public ConditionalGetStats stats(final Catalog catalog) {
+        final VersionSlot slot = slots.get(catalog);
+        return new ConditionalGetStats(slot.requestCount.get(), slot.notModifiedCount.get());
+    }
+
+    private String version(final Catalog catalog) {
+        final VersionSlot slot = slots.get(catalog);
+        if (slot.version == null) {
+            refresh(catalog);
+        }
+        return slot.version;
+    }
+
+    private boolean matches(final String ifNoneMatch, final String eTag) {
+        // "*" 는 자원이 있을 때만 일치해야 하지만 버전만으로는 자원이 있는지 알 수 없으므로 일치하지 않는 것으로 본다.
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(candidate -> candidate.startsWith(WEAK_ETAG_PREFIX)
+                ? candidate.substring(WEAK_ETAG_PREFIX.length()) : candidate)
+            .anyMatch(candidate -> candidate.equals(eTag));
+    }
+
+    public enum Catalog {
+        PRODUCT("products"),
+        COUPON("coupons");
+
+        private final String prefix;
+
+        Catalog(final String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private static class VersionSlot {
+
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong notModifiedCount = new AtomicLong();
+        private volatile String version;
+    }
+}
@@ -0,0 +1,27 @@
+package cart.common.cache;
+
+public class ConditionalGetStats {
+
+    private final long requestCount;
+    private final long notModifiedCount;
+
+    public ConditionalGetStats(final long requestCount, final long notModifiedCount) {
+        this.requestCount = requestCount;
+        this.notModifiedCount = notModifiedCount;
+    }
+
+    public double notModifiedRatio() {
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) notModifiedCount / requestCount;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getNotModifiedCount() {
+        return notModifiedCount;
+    }
+}
@@ -0,0 +1,133 @@
+package cart.common.cache;
+
+import cart.domain.coupon.Coupon;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class CouponRegistry {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong totalLoadTimeNanos = new AtomicLong();
+
+    private static final Snapshot EMPTY_SNAPSHOT = new Snapshot(List.of(), NOT_LOADED);
+
+    private final TransactionTemplate loadTemplate;
+
+    private volatile Snapshot snapshot = EMPTY_SNAPSHOT;
+
+    public CouponRegistry(final PlatformTransactionManager transactionManager) {
+        // 호출한 트랜잭션이 readOnly 라 replica 를 읽고 있어도, 쿠폰 목록은 primary 에서 읽은 값으로만 채운다.
+        this.loadTemplate = new TransactionTemplate(transactionManager);
+        this.loadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    public Optional<Coupon> findById(final Long couponId, final Supplier<List<Coupon>> loader) {
+        return record(loadedSnapshot(loader).couponsById.get(couponId));
+    }
+
+    public Optional<Coupon> findByNameAndDiscountRate(final String name, final int discountRate,
+                                                      final Supplier<List<Coupon>> loader) {
+        return record(loadedSnapshot(loader).couponsByNameAndDiscountRate.get(key(name, discountRate)));
+    }
+
+    public boolean existByNameAndDiscountRate(final String name, final int discountRate,
+                                              final Supplier<List<Coupon>> loader) {
+        return findByNameAndDiscountRate(name, discountRate, loader).isPresent();
+    }
+
+    /**
+     * 다음 조회 때 쿠폰 목록을 다시 읽도록 비운다. 다른 인스턴스의 변경도 이 주기 안에 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.registry.refresh-interval:60000}")
+    public void invalidate() {
+        snapshot = EMPTY_SNAPSHOT;
+    }
+
+    public void invalidateAfterCommit() {
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    public long stalenessMillis() {
+        final long loadedAt = snapshot.loadedAt;
+        if (loadedAt == NOT_LOADED) {
+            return 0;
+        }
+        return System.currentTimeMillis() - loadedAt;
+    }
+
+    public int size() {
+        return snapshot.couponsById.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hitCount.get(), missCount.get(), 0, loadCount.get(), totalLoadTimeNanos.get());
+    }
+
+    private Snapshot loadedSnapshot(final Supplier<List<Coupon>> loader) {
+        final Snapshot current = snapshot;
+        if (current.loadedAt != NOT_LOADED) {
+            return current;
+        }
+        final long startNanos = System.nanoTime();
+        final Snapshot loaded = new Snapshot(List.copyOf(loadTemplate.execute(status -> loader.get())),
+            System.currentTimeMillis());
+        loadCount.incrementAndGet();
+        totalLoadTimeNanos.addAndGet(System.nanoTime() - startNanos);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private Optional<Coupon> record(final Coupon coupon) {
+        if (coupon == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(coupon);
+    }
+
+    private static String key(final String name, final int discountRate) {
+        return name + "#" + discountRate;
+    }
+
+    private static class Snapshot {
+
+        private final Map<Long, Coupon> couponsById;
+        private final Map<String, Coupon> couponsByNameAndDiscountRate;
+        private final long loadedAt;
+
+        private Snapshot(final List<Coupon> coupons, final long loadedAt) {
+            this.couponsById = coupons.stream()
+                .collect(Collectors.toUnmodifiableMap(Coupon::couponId, Function.identity()));
+            this.couponsByNameAndDiscountRate = coupons.stream()
+                .collect(Collectors.toUnmodifiableMap(
+                    coupon -> key(coupon.name(), coupon.discountRate()), Function.identity()));
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package cart.common.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+public class ExpiringCache<K, V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong totalLoadTimeNanos = new AtomicLong();
+
+    private long generation;
+
+    public ExpiringCache(final int maximumSize, final Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    public ExpiringCache(final int maximumSize, final Duration ttl, final LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("캐시의 최대 크기는 0보다 커야 합니다.");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    }
+
+    public synchronized Optional<V> get(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        if (entry.isExpired(ticker.getAsLong())) {
+            entries.remove(key);
+            evictionCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(entry.value);
+    }
+
+    public Optional<V> getOrLoad(final K key, final Function<? super K, Optional<V>> loader) {
+        final Optional<V> cachedValue = get(key);
+        if (cachedValue.isPresent()) {
+            return cachedValue;
+        }
+
+        final long loadGeneration = currentGeneration();
+        final long loadStartedAt = ticker.getAsLong();
+        final Optional<V> loadedValue = loader.apply(key);
+        loadCount.incrementAndGet();
+        totalLoadTimeNanos.addAndGet(ticker.getAsLong() - loadStartedAt);
+
+        loadedValue.ifPresent(value -> putIfNotInvalidated(key, value, loadGeneration));
+        return loadedValue;
+    }
+
+    public synchronized void put(final K key, final V value) {
+        final long now = ticker.getAsLong();
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+        evictExpired(now);
+        evictOverflow();
+    }
+
+    public synchronized void invalidate(final K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(final Predicate<V> condition) {
+        generation++;
+        entries.values().removeIf(entry -> condition.test(entry.value));
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(),
+            loadCount.get(), totalLoadTimeNanos.get());
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void putIfNotInvalidated(final K key, final V value, final long loadGeneration) {
+        if (generation == loadGeneration) {
+            put(key, value);
+        }
+    }
+
+    private void evictExpired(final long now) {
+        final Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && iterator.next().getValue().isExpired(now)) {
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private void evictOverflow() {
+        final Iterator<K> iterator = entries.keySet().iterator();
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(final V value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package cart.common.cache;
+
+import java.util.BitSet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class OrderedMemberCache {
+
+    private final BitSet orderedMemberIds = new BitSet();
+
+    public synchronized boolean hasOrdered(final Long memberId) {
+        return isIndexable(memberId) && orderedMemberIds.get(memberId.intValue());
+    }
+
+    public synchronized void mark(final Long memberId) {
+        if (isIndexable(memberId)) {
+            orderedMemberIds.set(memberId.intValue());
+        }
+    }
+
+    public void markAfterCommit(final Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(memberId);
+            }
+        });
+    }
+
+    public synchronized void invalidateAll() {
+        orderedMemberIds.clear();
+    }
+
+    public synchronized int size() {
+        return orderedMemberIds.cardinality();
+    }
+
+    private boolean isIndexable(final Long memberId) {
+        return memberId != null && memberId >= 0 && memberId <= Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,76 @@
+package cart.common.cache;
+
+import cart.domain.product.Product;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ProductCache {
+
+    private static final String ALL_PRODUCTS_KEY = "all";
+
+    private final ExpiringCache<Long, Product> productsById;
+    private final ExpiringCache<String, List<Product>> allProducts;
+    private final TransactionTemplate loadTemplate;
+
+    public ProductCache(@Value("${product.cache.maximum-size:10000}") final int maximumSize,
+                        @Value("${product.cache.ttl:10m}") final Duration ttl,
+                        final PlatformTransactionManager transactionManager) {
+        this.productsById = new ExpiringCache<>(maximumSize, ttl);
+        this.allProducts = new ExpiringCache<>(1, ttl);
+        // 호출한 트랜잭션이 readOnly 라 replica 를 읽고 있어도, 캐시는 ETag 를 계산하는 primary 의 값으로만 채운다.
+        this.loadTemplate = new TransactionTemplate(transactionManager);
+        this.loadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    public Optional<Product> getProductById(final Long productId,
+                                            final Function<Long, Optional<Product>> loader) {
+        return productsById.getOrLoad(productId, id -> loadTemplate.execute(status -> loader.apply(id)));
+    }
+
+    public List<Product> getAllProducts(final Supplier<List<Product>> loader) {
+        return allProducts.getOrLoad(ALL_PRODUCTS_KEY,
+                ignored -> Optional.ofNullable(loadTemplate.execute(status -> loader.get())))
+            .orElseGet(List::of);
+    }
+
+    public void invalidate(final Long productId) {
+        evict(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evict(productId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        productsById.invalidateAll();
+        allProducts.invalidateAll();
+    }
+
+    public CacheStats productStats() {
+        return productsById.stats();
+    }
+
+    public CacheStats allProductsStats() {
+        return allProducts.stats();
+    }
+
+    private void evict(final Long productId) {
+        productsById.invalidate(productId);
+        allProducts.invalidateAll();
+    }
+}
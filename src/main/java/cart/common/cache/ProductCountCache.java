@@ -0,0 +1,34 @@
+package cart.common.cache;
+
+import cart.domain.product.ProductRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductCountCache {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final ProductRepository productRepository;
+    private final AtomicLong productCount = new AtomicLong(NOT_LOADED);
+
+    public ProductCountCache(final ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public long getProductCount() {
+        final long cachedCount = productCount.get();
+        if (cachedCount == NOT_LOADED) {
+            return refresh();
+        }
+        return cachedCount;
+    }
+
+    @Scheduled(fixedDelayString = "${product.count.refresh-interval:60000}")
+    public long refresh() {
+        final long notDeletedProductCount = productRepository.getNotDeletedProductCount();
+        productCount.set(notDeletedProductCount);
+        return notDeletedProductCount;
+    }
+}
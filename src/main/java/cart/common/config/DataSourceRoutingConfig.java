@@ -0,0 +1,89 @@
+package cart.common.config;
+
+import cart.common.datasource.DataSourceRoutingProperties;
+import cart.common.datasource.DataSourceRoutingProperties.Replica;
+import cart.common.datasource.ReadYourWritesWindow;
+import cart.common.datasource.ReplicaLagMonitor;
+import cart.common.datasource.ReplicationDataSources;
+import cart.common.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    private static final String REPLICA_POOL_NAME_PREFIX = "replica-";
+
+    @Bean
+    public ReplicationDataSources replicationDataSources(final DataSourceProperties dataSourceProperties,
+                                                         final DataSourceRoutingProperties routingProperties,
+                                                         final ObjectProvider<MeterRegistry> meterRegistry) {
+        final HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName(ReplicationRoutingDataSource.PRIMARY);
+        routingProperties.getDataSourceProperties().forEach(primary::addDataSourceProperty);
+        meterRegistry.ifAvailable(primary::setMetricRegistry);
+
+        final List<Replica> replicas = routingProperties.getReplicas();
+        final Map<String, DataSource> replicaDataSources = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            final HikariDataSource replica = createReplica(replicas.get(i));
+            replica.setPoolName(REPLICA_POOL_NAME_PREFIX + (i + 1));
+            replica.setReadOnly(true);
+            routingProperties.getDataSourceProperties().forEach(replica::addDataSourceProperty);
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicaDataSources.put(replica.getPoolName(), replica);
+        }
+        return new ReplicationDataSources(primary, replicaDataSources);
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(final DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesWindow(routingProperties.getReadYourWritesMaximumSize(),
+            routingProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(final ReplicationDataSources replicationDataSources,
+                                               final DataSourceRoutingProperties routingProperties) {
+        return new ReplicaLagMonitor(replicationDataSources.getReplicas(), routingProperties.getLagQuery(),
+            routingProperties.getLagColumn(), routingProperties.getMaxReplicaLag());
+    }
+
+    @Bean
+    public DataSource dataSource(final ReplicationDataSources replicationDataSources,
+                                 final ReadYourWritesWindow readYourWritesWindow,
+                                 final ReplicaLagMonitor replicaLagMonitor) {
+        final ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+            replicationDataSources, readYourWritesWindow, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createReplica(final Replica replica) {
+        final DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(replica.getUrl())
+            .username(replica.getUsername())
+            .password(replica.getPassword());
+        if (replica.getDriverClassName() != null) {
+            builder.driverClassName(replica.getDriverClassName());
+        }
+        return builder.build();
+    }
+}
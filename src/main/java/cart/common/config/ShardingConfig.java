@@ -0,0 +1,137 @@
+package cart.common.config;
+
+import cart.common.shard.GlobalTableReplicator;
+import cart.common.shard.HashMemberShardStrategy;
+import cart.common.shard.MemberDirectory;
+import cart.common.shard.MemberShardRouter;
+import cart.common.shard.MemberShardStrategy;
+import cart.common.shard.ShardDataSources;
+import cart.common.shard.ShardRouter;
+import cart.common.shard.ShardRoutingDataSource;
+import cart.common.shard.ShardRowIdRanges;
+import cart.common.shard.ShardedSqlInitializer;
+import cart.common.shard.ShardingProperties;
+import cart.common.shard.ShardingProperties.Shard;
+import cart.common.shard.SingleShardRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final String SHARD_POOL_NAME_PREFIX = "shard-";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public ShardRouter singleShardRouter() {
+        return new SingleShardRouter();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "sharding", name = "enabled", havingValue = "true")
+    static class MemberShardingConfig {
+
+        @Bean
+        public ShardDataSources shardDataSources(final ShardingProperties shardingProperties,
+                                                 final ObjectProvider<MeterRegistry> meterRegistry) {
+            final List<Shard> shardProperties = shardingProperties.getShards();
+            final List<DataSource> shards = new ArrayList<>(shardProperties.size());
+            for (int shard = 0; shard < shardProperties.size(); shard++) {
+                final HikariDataSource dataSource = createShard(shardProperties.get(shard));
+                dataSource.setPoolName(SHARD_POOL_NAME_PREFIX + shard);
+                meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+                shards.add(dataSource);
+            }
+            return new ShardDataSources(shards, shardingProperties.getGlobalShard());
+        }
+
+        @Bean
+        public MemberDirectory memberDirectory(final ShardDataSources shardDataSources,
+                                               final ShardingProperties shardingProperties,
+                                               final ObjectProvider<MemberShardStrategy> memberShardStrategy) {
+            return new MemberDirectory(new JdbcTemplate(shardDataSources.getGlobalShardDataSource()),
+                memberShardStrategy.getIfAvailable(HashMemberShardStrategy::new), shardDataSources.getShardCount(),
+                shardingProperties.getDirectoryMaximumSize(), shardingProperties.getDirectoryTtl());
+        }
+
+        @Bean
+        public ShardRowIdRanges shardRowIdRanges(final ShardDataSources shardDataSources,
+                                                 final ShardingProperties shardingProperties) {
+            return new ShardRowIdRanges(shardDataSources.getShardCount(), shardDataSources.getGlobalShard(),
+                shardingProperties.getRowIdBlockSize());
+        }
+
+        @Bean
+        public DataSource dataSource(final ShardDataSources shardDataSources) {
+            final ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDataSources);
+            routingDataSource.afterPropertiesSet();
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+
+        @Bean
+        public GlobalTableReplicator globalTableReplicator(final JdbcTemplate jdbcTemplate,
+                                                           final ShardDataSources shardDataSources,
+                                                           final ShardingProperties shardingProperties) {
+            // outbox 는 공용 테이블 변경과 같은 트랜잭션에 남겨야 하므로 트랜잭션에 참여하는 JdbcTemplate 을 받는다.
+            return new GlobalTableReplicator(jdbcTemplate, shardDataSources,
+                shardingProperties.getReplicationBatchSize(), shardingProperties.getReplicationMaxAttempts());
+        }
+
+        @Bean
+        public ShardRouter memberShardRouter(final ShardDataSources shardDataSources,
+                                             final MemberDirectory memberDirectory,
+                                             final ShardRowIdRanges shardRowIdRanges,
+                                             final GlobalTableReplicator globalTableReplicator,
+                                             final PlatformTransactionManager transactionManager,
+                                             final ShardingProperties shardingProperties) {
+            return new MemberShardRouter(shardDataSources, memberDirectory, shardRowIdRanges, globalTableReplicator,
+                transactionManager, shardingProperties.getScatterTimeout());
+        }
+
+        @Bean
+        public ShardedSqlInitializer shardedSqlInitializer(
+            final ShardDataSources shardDataSources,
+            final ShardRowIdRanges shardRowIdRanges,
+            final ObjectProvider<SqlInitializationProperties> sqlInitializationProperties) {
+            return new ShardedSqlInitializer(shardDataSources, shardRowIdRanges,
+                sqlInitializationProperties.getIfAvailable(this::skippedSqlInitialization));
+        }
+
+        private SqlInitializationProperties skippedSqlInitialization() {
+            final SqlInitializationProperties properties = new SqlInitializationProperties();
+            properties.setMode(DatabaseInitializationMode.NEVER);
+            return properties;
+        }
+
+        private HikariDataSource createShard(final Shard shard) {
+            final DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword());
+            if (shard.getDriverClassName() != null) {
+                builder.driverClassName(shard.getDriverClassName());
+            }
+            final HikariDataSource dataSource = builder.build();
+            if (shard.getConnectionInitSql() != null) {
+                dataSource.setConnectionInitSql(shard.getConnectionInitSql());
+            }
+            return dataSource;
+        }
+    }
+}
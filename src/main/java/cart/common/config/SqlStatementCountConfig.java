@@ -0,0 +1,27 @@
+package cart.common.config;
+
+import cart.common.sql.SqlStatementCounter;
+import cart.common.sql.StatementCountingDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlStatementCountConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(
+        final ObjectProvider<SqlStatementCounter> sqlStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource((DataSource) bean, sqlStatementCounter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package cart.common.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    private Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private int readYourWritesMaximumSize = 10000;
+    private Duration maxReplicaLag = Duration.ofSeconds(3);
+    private String lagQuery = "SHOW REPLICA STATUS";
+    private String lagColumn = "Seconds_Behind_Source";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(final List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Map<String, String> getDataSourceProperties() {
+        return dataSourceProperties;
+    }
+
+    public void setDataSourceProperties(final Map<String, String> dataSourceProperties) {
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(final Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public int getReadYourWritesMaximumSize() {
+        return readYourWritesMaximumSize;
+    }
+
+    public void setReadYourWritesMaximumSize(final int readYourWritesMaximumSize) {
+        this.readYourWritesMaximumSize = readYourWritesMaximumSize;
+    }
+
+    public Duration getMaxReplicaLag() {
+        return maxReplicaLag;
+    }
+
+    public void setMaxReplicaLag(final Duration maxReplicaLag) {
+        this.maxReplicaLag = maxReplicaLag;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(final String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public String getLagColumn() {
+        return lagColumn;
+    }
+
+    public void setLagColumn(final String lagColumn) {
+        this.lagColumn = lagColumn;
+    }
+
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(final String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(final String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(final String password) {
+            this.password = password;
+        }
+
+        public String getDriverClassName() {
+            return driverClassName;
+        }
+
+        public void setDriverClassName(final String driverClassName) {
+            this.driverClassName = driverClassName;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package cart.common.datasource;
+
+import cart.common.cache.ExpiringCache;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근에 데이터를 변경한 회원을 기억해, 복제 지연 동안에는 그 회원의 조회도 primary 로 보낸다.
+ */
+public class ReadYourWritesWindow {
+
+    private final ExpiringCache<String, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(final int maximumSize, final Duration window) {
+        this(maximumSize, window, System::nanoTime);
+    }
+
+    public ReadYourWritesWindow(final int maximumSize, final Duration window, final LongSupplier ticker) {
+        this.recentWriters = new ExpiringCache<>(maximumSize, window, ticker);
+    }
+
+    public boolean contains(final String memberName) {
+        return memberName != null && recentWriters.get(memberName).isPresent();
+    }
+
+    public void mark(final String memberName) {
+        if (memberName != null) {
+            recentWriters.put(memberName, Boolean.TRUE);
+        }
+    }
+
+    public void markAfterCommit(final String memberName) {
+        if (memberName == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(memberName);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(memberName);
+            }
+        });
+    }
+
+    public int size() {
+        return recentWriters.size();
+    }
+}
@@ -0,0 +1,101 @@
+package cart.common.datasource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaLagMonitor {
+
+    public static final long UNAVAILABLE = -1L;
+
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 1;
+    private static final BigDecimal MILLIS_PER_SECOND = BigDecimal.valueOf(1000);
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> lagMillisByReplica = new LinkedHashMap<>();
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagMillis;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private volatile List<String> availableReplicas = List.of();
+
+    public ReplicaLagMonitor(final Map<String, DataSource> replicas, final String lagQuery, final String lagColumn,
+                             final Duration maxLag) {
+        replicas.forEach((replicaName, dataSource) -> {
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+            this.replicas.put(replicaName, jdbcTemplate);
+            this.lagMillisByReplica.put(replicaName, new AtomicLong(UNAVAILABLE));
+        });
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:1000}")
+    public void check() {
+        final List<String> checkedReplicas = new ArrayList<>(replicas.size());
+        replicas.forEach((replicaName, jdbcTemplate) -> {
+            final long lagMillis = measureLagMillis(replicaName, jdbcTemplate);
+            lagMillisByReplica.get(replicaName).set(lagMillis);
+            if (lagMillis != UNAVAILABLE && lagMillis <= maxLagMillis) {
+                checkedReplicas.add(replicaName);
+            }
+        });
+        if (!checkedReplicas.equals(availableReplicas)) {
+            log.info("조회에 사용할 replica 가 {} 에서 {} 로 바뀌었습니다.", availableReplicas, checkedReplicas);
+        }
+        availableReplicas = List.copyOf(checkedReplicas);
+    }
+
+    public Optional<String> nextAvailableReplica() {
+        final List<String> replicaNames = availableReplicas;
+        if (replicaNames.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(replicaNames.get(Math.floorMod(cursor.getAndIncrement(), replicaNames.size())));
+    }
+
+    public Set<String> getReplicaNames() {
+        return replicas.keySet();
+    }
+
+    public long getLagMillis(final String replicaName) {
+        return lagMillisByReplica.get(replicaName).get();
+    }
+
+    public boolean isAvailable(final String replicaName) {
+        return availableReplicas.contains(replicaName);
+    }
+
+    private long measureLagMillis(final String replicaName, final JdbcTemplate jdbcTemplate) {
+        try {
+            final List<BigDecimal> lagSeconds = jdbcTemplate.query(lagQuery,
+                (rs, rowNum) -> rs.getBigDecimal(lagColumn));
+            // 복제가 설정되지 않았거나 멈춘 replica 는 지연을 알 수 없으므로 사용하지 않는다.
+            if (lagSeconds.isEmpty() || lagSeconds.get(0) == null) {
+                return UNAVAILABLE;
+            }
+            return lagSeconds.get(0).multiply(MILLIS_PER_SECOND).longValue();
+        } catch (DataAccessException exception) {
+            log.warn("{} 의 복제 지연을 확인하지 못했습니다. message={}", replicaName, exception.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+}
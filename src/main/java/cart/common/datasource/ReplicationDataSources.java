@@ -0,0 +1,49 @@
+package cart.common.datasource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 라우팅 대상 커넥션 풀을 한곳에서 소유하고, 애플리케이션이 종료될 때 함께 닫는다.
+ */
+public class ReplicationDataSources implements AutoCloseable {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+
+    public ReplicationDataSources(final DataSource primary, final Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(this::closeQuietly);
+        closeQuietly(primary);
+    }
+
+    private void closeQuietly(final DataSource dataSource) {
+        if (!(dataSource instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) dataSource).close();
+        } catch (Exception exception) {
+            log.warn("커넥션 풀을 닫는 중 오류가 발생했습니다.", exception);
+        }
+    }
+}
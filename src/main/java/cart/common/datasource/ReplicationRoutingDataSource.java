@@ -0,0 +1,58 @@
+package cart.common.datasource;
+
+import cart.common.auth.MemberNameArgumentResolver;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * readOnly 트랜잭션은 복제 지연이 허용 범위 안인 replica 로, 나머지는 primary 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(final ReplicationDataSources replicationDataSources,
+                                        final ReadYourWritesWindow readYourWritesWindow,
+                                        final ReplicaLagMonitor replicaLagMonitor) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.replicaLagMonitor = replicaLagMonitor;
+
+        final Map<Object, Object> targetDataSources = new HashMap<>(replicationDataSources.getReplicas());
+        targetDataSources.put(PRIMARY, replicationDataSources.getPrimary());
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(replicationDataSources.getPrimary());
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final String memberName = currentMemberName();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesWindow.markAfterCommit(memberName);
+            }
+            return PRIMARY;
+        }
+        if (readYourWritesWindow.contains(memberName)) {
+            return PRIMARY;
+        }
+        return replicaLagMonitor.nextAvailableReplica().orElse(PRIMARY);
+    }
+
+    private String currentMemberName() {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        return (String) requestAttributes.getAttribute(MemberNameArgumentResolver.MEMBER_NAME_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,37 @@
+package cart.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 큐가 가득 차 버려진 로그 이벤트 수를 appender 이름별로 센다.
+ * 큐의 남은 용량을 보고 판단하므로 경합 중에는 근사치이다.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private static final Map<String, AtomicLong> DROPPED_COUNTS = new ConcurrentHashMap<>();
+
+    private AtomicLong droppedCount = new AtomicLong();
+
+    public static Map<String, AtomicLong> droppedCounts() {
+        return DROPPED_COUNTS;
+    }
+
+    @Override
+    public void start() {
+        droppedCount = DROPPED_COUNTS.computeIfAbsent(getName(), ignored -> new AtomicLong());
+        super.start();
+    }
+
+    @Override
+    protected void append(final ILoggingEvent event) {
+        final int remainingCapacity = getRemainingCapacity();
+        if (remainingCapacity == 0 || (remainingCapacity < getDiscardingThreshold() && isDiscardable(event))) {
+            droppedCount.incrementAndGet();
+        }
+        super.append(event);
+    }
+}
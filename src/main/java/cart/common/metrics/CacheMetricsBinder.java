@@ -0,0 +1,87 @@
+package cart.common.metrics;
+
+import cart.application.CouponIssueWorker;
+import cart.common.auth.AuthenticationCache;
+import cart.common.cache.CacheStats;
+import cart.common.cache.CatalogVersions;
+import cart.common.cache.CatalogVersions.Catalog;
+import cart.common.cache.CouponRegistry;
+import cart.common.cache.ProductCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final ProductCache productCache;
+    private final AuthenticationCache authenticationCache;
+    private final CouponRegistry couponRegistry;
+    private final CatalogVersions catalogVersions;
+    private final CouponIssueWorker couponIssueWorker;
+
+    public CacheMetricsBinder(final ProductCache productCache, final AuthenticationCache authenticationCache,
+                              final CouponRegistry couponRegistry, final CatalogVersions catalogVersions,
+                              final CouponIssueWorker couponIssueWorker) {
+        this.productCache = productCache;
+        this.authenticationCache = authenticationCache;
+        this.couponRegistry = couponRegistry;
+        this.catalogVersions = catalogVersions;
+        this.couponIssueWorker = couponIssueWorker;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        bindCache(registry, "product", productCache, ProductCache::productStats);
+        bindCache(registry, "all-products", productCache, ProductCache::allProductsStats);
+        bindCache(registry, "authentication", authenticationCache, AuthenticationCache::stats);
+        bindCache(registry, "coupon", couponRegistry, CouponRegistry::stats);
+
+        for (final Catalog catalog : Catalog.values()) {
+            FunctionCounter.builder("cart.conditional.get.requests", catalogVersions,
+                    versions -> versions.stats(catalog).getRequestCount())
+                .tag("catalog", catalog.name().toLowerCase())
+                .register(registry);
+            FunctionCounter.builder("cart.conditional.get.not.modified", catalogVersions,
+                    versions -> versions.stats(catalog).getNotModifiedCount())
+                .tag("catalog", catalog.name().toLowerCase())
+                .register(registry);
+        }
+
+        Gauge.builder("cart.coupon.issue.queue.depth", couponIssueWorker,
+                worker -> worker.stats().getQueueDepth())
+            .register(registry);
+        Gauge.builder("cart.coupon.issue.lag", couponIssueWorker, worker -> worker.stats().getLagMillis())
+            .baseUnit("milliseconds")
+            .register(registry);
+        FunctionCounter.builder("cart.coupon.issue.processed", couponIssueWorker,
+                worker -> worker.stats().getProcessedCount())
+            .register(registry);
+        FunctionCounter.builder("cart.coupon.issue.failures", couponIssueWorker,
+                worker -> worker.stats().getFailureCount())
+            .register(registry);
+    }
+
+    private <T> void bindCache(final MeterRegistry registry, final String cacheName, final T cache,
+                               final Function<T, CacheStats> stats) {
+        FunctionCounter.builder("cart.cache.gets", cache, target -> stats.apply(target).getHitCount())
+            .tag("cache", cacheName)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("cart.cache.gets", cache, target -> stats.apply(target).getMissCount())
+            .tag("cache", cacheName)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("cart.cache.evictions", cache, target -> stats.apply(target).getEvictionCount())
+            .tag("cache", cacheName)
+            .register(registry);
+        FunctionCounter.builder("cart.cache.load.duration", cache,
+                target -> stats.apply(target).getTotalLoadTimeNanos() / 1_000_000_000d)
+            .tag("cache", cacheName)
+            .baseUnit("seconds")
+            .register(registry);
+    }
+}
@@ -0,0 +1,42 @@
+package cart.common.metrics;
+
+import cart.common.datasource.ReadYourWritesWindow;
+import cart.common.datasource.ReplicaLagMonitor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DataSourceRoutingMetricsBinder implements MeterBinder {
+
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final ObjectProvider<ReadYourWritesWindow> readYourWritesWindow;
+
+    public DataSourceRoutingMetricsBinder(final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                          final ObjectProvider<ReadYourWritesWindow> readYourWritesWindow) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        replicaLagMonitor.ifAvailable(monitor -> {
+            for (final String replicaName : monitor.getReplicaNames()) {
+                Gauge.builder("cart.datasource.replica.lag", monitor, it -> it.getLagMillis(replicaName))
+                    .description("replica 의 복제 지연, 확인하지 못하면 -1")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replicaName)
+                    .register(registry);
+                Gauge.builder("cart.datasource.replica.available", monitor,
+                        it -> it.isAvailable(replicaName) ? 1 : 0)
+                    .tag("replica", replicaName)
+                    .register(registry);
+            }
+        });
+        readYourWritesWindow.ifAvailable(window ->
+            Gauge.builder("cart.datasource.read.your.writes.members", window, ReadYourWritesWindow::size)
+                .register(registry));
+    }
+}
@@ -0,0 +1,21 @@
+package cart.common.metrics;
+
+import cart.common.logging.DropCountingAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LogMetricsBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        DropCountingAsyncAppender.droppedCounts().forEach((appenderName, droppedCount) ->
+            FunctionCounter.builder("cart.log.dropped", droppedCount, AtomicLong::get)
+                .description("비동기 appender 큐가 가득 차 버려진 로그 이벤트 수")
+                .tag("appender", appenderName)
+                .register(registry));
+    }
+}
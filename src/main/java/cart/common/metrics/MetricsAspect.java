@@ -0,0 +1,52 @@
+package cart.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class MetricsAspect {
+
+    private static final String SERVICE_TIMER = "cart.service";
+    private static final String DAO_TIMER = "cart.dao";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(cart.application..*) && @within(org.springframework.stereotype.Service)")
+    public Object timeService(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, Timer.builder(SERVICE_TIMER)
+            .description("application 계층 서비스 메서드 실행 시간"));
+    }
+
+    @Around("within(cart.persistence.dao..*) && @within(org.springframework.stereotype.Repository)")
+    public Object timeDao(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, Timer.builder(DAO_TIMER)
+            .description("DAO 메서드 실행 시간"));
+    }
+
+    private Object record(final ProceedingJoinPoint joinPoint, final Timer.Builder timer) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(timer
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package cart.common.shard;
+
+/**
+ * 공용 샤드에서만 변경하고 나머지 샤드에는 같은 id 로 복제해 두는 테이블.
+ * 회원 데이터와의 조인과 외래 키를 샤드 안에서 그대로 쓰기 위해 복제한다.
+ */
+public enum GlobalTable {
+    PRODUCT("product"),
+    COUPON("coupon");
+
+    private final String tableName;
+
+    GlobalTable(final String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+}
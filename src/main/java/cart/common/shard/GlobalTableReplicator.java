@@ -0,0 +1,198 @@
+package cart.common.shard;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공용 샤드에서 바뀐 공용 테이블의 행을 나머지 샤드에 복제한다.
+ * 복제할 행은 변경과 같은 트랜잭션에서 공용 샤드의 outbox 에 남기고, 커밋 뒤에 보낸 다음 실패한 행은 주기적으로 다시 보낸다.
+ * 정해진 횟수만큼 실패한 행은 outbox 에 남겨 둔 채 더 이상 보내지 않는다.
+ */
+public class GlobalTableReplicator {
+
+    private static final RowMapper<ReplicationEntry> ENTRY_ROW_MAPPER = (rs, rowNum) -> new ReplicationEntry(
+        rs.getLong("id"), GlobalTable.valueOf(rs.getString("global_table")), rs.getLong("row_id"), rs.getInt("shard"),
+        rs.getInt("attempt_count")
+    );
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final JdbcTemplate transactionalJdbcTemplate;
+    private final List<JdbcTemplate> shardJdbcTemplates;
+    private final int globalShard;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+
+    public GlobalTableReplicator(final JdbcTemplate transactionalJdbcTemplate,
+                                 final ShardDataSources shardDataSources, final int batchSize,
+                                 final int maxAttempts) {
+        this.transactionalJdbcTemplate = transactionalJdbcTemplate;
+        this.shardJdbcTemplates = shardDataSources.getShards().stream()
+            .map(JdbcTemplate::new)
+            .collect(Collectors.toUnmodifiableList());
+        this.globalShard = shardDataSources.getGlobalShard();
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 공용 샤드에 묶인 트랜잭션 안에서 호출한다. 변경이 롤백되면 outbox 에 남긴 행도 함께 롤백된다.
+     */
+    public void enqueue(final GlobalTable globalTable, final List<Long> rowIds) {
+        final Timestamp requestedAt = Timestamp.valueOf(LocalDateTime.now());
+        final List<Object[]> batchArgs = new ArrayList<>();
+        for (final Long rowId : rowIds) {
+            for (int shard = 0; shard < shardJdbcTemplates.size(); shard++) {
+                if (shard != globalShard) {
+                    batchArgs.add(new Object[]{globalTable.name(), rowId, shard, requestedAt});
+                }
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        transactionalJdbcTemplate.batchUpdate(
+            "INSERT INTO shard_replication_outbox(global_table, row_id, shard, requested_at) VALUES (?, ?, ?, ?)",
+            batchArgs);
+        deliverAfterCommit();
+    }
+
+    @Scheduled(fixedDelayString = "${sharding.replication-retry-interval:10000}")
+    public void deliverQuietly() {
+        try {
+            deliver();
+        } catch (RuntimeException exception) {
+            log.warn("공용 테이블 복제를 다시 시도하지 못했습니다. 다음 주기에 다시 시도합니다.", exception);
+        }
+    }
+
+    /**
+     * 밀린 복제를 모두 보내고, 보내지 못한 건수를 돌려준다.
+     */
+    public int deliver() {
+        deliveryLock.lock();
+        try {
+            int failedCount = 0;
+            long lastEntryId = 0;
+            List<ReplicationEntry> entries;
+            do {
+                entries = globalJdbcTemplate().query(
+                    "SELECT id, global_table, row_id, shard, attempt_count FROM shard_replication_outbox "
+                        + "WHERE id > ? AND attempt_count < ? ORDER BY id LIMIT ?",
+                    ENTRY_ROW_MAPPER, lastEntryId, maxAttempts, batchSize);
+                for (final ReplicationEntry entry : entries) {
+                    lastEntryId = entry.id;
+                    if (!deliver(entry)) {
+                        failedCount++;
+                    }
+                }
+            } while (entries.size() == batchSize);
+            return failedCount;
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    public long countPending() {
+        final Long pendingCount = globalJdbcTemplate().queryForObject(
+            "SELECT COUNT(*) FROM shard_replication_outbox WHERE attempt_count < ?", Long.class, maxAttempts);
+        return pendingCount == null ? 0 : pendingCount;
+    }
+
+    public long countParked() {
+        final Long parkedCount = globalJdbcTemplate().queryForObject(
+            "SELECT COUNT(*) FROM shard_replication_outbox WHERE attempt_count >= ?", Long.class, maxAttempts);
+        return parkedCount == null ? 0 : parkedCount;
+    }
+
+    private boolean deliver(final ReplicationEntry entry) {
+        final String tableName = entry.globalTable.getTableName();
+        try {
+            final List<Map<String, Object>> rows = globalJdbcTemplate().queryForList(
+                "SELECT * FROM " + tableName + " WHERE id = ?", entry.rowId);
+            final JdbcTemplate target = shardJdbcTemplates.get(entry.shard);
+            if (rows.isEmpty()) {
+                target.update("DELETE FROM " + tableName + " WHERE id = ?", entry.rowId);
+            } else {
+                upsert(target, tableName, rows.get(0));
+            }
+            globalJdbcTemplate().update("DELETE FROM shard_replication_outbox WHERE id = ?", entry.id);
+            return true;
+        } catch (DataAccessException exception) {
+            globalJdbcTemplate().update(
+                "UPDATE shard_replication_outbox SET attempt_count = attempt_count + 1 WHERE id = ?", entry.id);
+            if (entry.attemptCount + 1 >= maxAttempts) {
+                log.error("{}번 샤드에 {} {}번 행을 {}번 복제하지 못해 더 이상 시도하지 않습니다. outbox {}번 행을 확인해 주세요.",
+                    entry.shard, tableName, entry.rowId, maxAttempts, entry.id, exception);
+            } else {
+                log.warn("{}번 샤드에 {} {}번 행을 복제하지 못했습니다. 다음 주기에 다시 시도합니다.",
+                    entry.shard, tableName, entry.rowId, exception);
+            }
+            return false;
+        }
+    }
+
+    private void upsert(final JdbcTemplate target, final String tableName, final Map<String, Object> row) {
+        // 같은 id 로 들어가야 다른 샤드의 외래 키와 조인이 공용 샤드와 같은 행을 가리킨다.
+        final String columns = row.keySet().stream()
+            .map(column -> "`" + column + "`")
+            .collect(Collectors.joining(", "));
+        final String placeholders = row.keySet().stream()
+            .map(column -> "?")
+            .collect(Collectors.joining(", "));
+        final String updates = row.keySet().stream()
+            .map(column -> "`" + column + "` = VALUES(`" + column + "`)")
+            .collect(Collectors.joining(", "));
+        target.update("INSERT INTO " + tableName + "(" + columns + ") VALUES (" + placeholders + ") "
+            + "ON DUPLICATE KEY UPDATE " + updates, row.values().toArray());
+    }
+
+    private JdbcTemplate globalJdbcTemplate() {
+        return shardJdbcTemplates.get(globalShard);
+    }
+
+    private void deliverAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliverQuietly();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliverQuietly();
+            }
+        });
+    }
+
+    private static class ReplicationEntry {
+
+        private final long id;
+        private final GlobalTable globalTable;
+        private final long rowId;
+        private final int shard;
+        private final int attemptCount;
+
+        private ReplicationEntry(final long id, final GlobalTable globalTable, final long rowId, final int shard,
+                                 final int attemptCount) {
+            this.id = id;
+            this.globalTable = globalTable;
+            this.rowId = rowId;
+            this.shard = shard;
+            this.attemptCount = attemptCount;
+        }
+    }
+}
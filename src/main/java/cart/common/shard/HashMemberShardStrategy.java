@@ -0,0 +1,16 @@
+package cart.common.shard;
+
+public class HashMemberShardStrategy implements MemberShardStrategy {
+
+    @Override
+    public int shardOf(final long memberId, final int shardCount) {
+        // 연속으로 발급된 id 가 한 샤드에 몰리지 않도록 비트를 섞은 뒤 나눈다.
+        long hash = memberId;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return Math.floorMod(hash, shardCount);
+    }
+}
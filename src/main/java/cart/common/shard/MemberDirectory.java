@@ -0,0 +1,89 @@
+package cart.common.shard;
+
+import cart.common.cache.ExpiringCache;
+import cart.exception.BadRequestException;
+import cart.exception.ErrorCode;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공용 샤드의 member_directory 에서 회원 id 를 발급하고, 이름으로 회원의 샤드를 찾는다.
+ * 회원 이름과 id 는 바뀌지 않으므로 찾은 결과는 메모리에 둔다.
+ */
+public class MemberDirectory {
+
+    private final JdbcTemplate globalJdbcTemplate;
+    private final MemberShardStrategy memberShardStrategy;
+    private final int shardCount;
+    private final ExpiringCache<String, Long> memberIdsByName;
+
+    public MemberDirectory(final JdbcTemplate globalJdbcTemplate, final MemberShardStrategy memberShardStrategy,
+                           final int shardCount, final int maximumSize, final Duration ttl) {
+        this.globalJdbcTemplate = globalJdbcTemplate;
+        this.memberShardStrategy = memberShardStrategy;
+        this.shardCount = shardCount;
+        this.memberIdsByName = new ExpiringCache<>(maximumSize, ttl);
+    }
+
+    public long register(final String memberName) {
+        final GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            globalJdbcTemplate.update(connection -> {
+                final PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO member_directory(name) VALUES (?)", new String[]{"id"});
+                ps.setString(1, memberName);
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException exception) {
+            throw new BadRequestException(ErrorCode.MEMBER_DUPLICATE_NAME);
+        }
+        final long memberId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        memberIdsByName.put(memberName, memberId);
+        unregisterAfterRollback(memberName, memberId);
+        return memberId;
+    }
+
+    public Optional<Long> findMemberId(final String memberName) {
+        return memberIdsByName.getOrLoad(memberName, name -> {
+            final List<Long> memberIds = globalJdbcTemplate.queryForList(
+                "SELECT id FROM member_directory WHERE name = ?", Long.class, name);
+            return memberIds.stream().findFirst();
+        });
+    }
+
+    public int shardOf(final Long memberId) {
+        return memberShardStrategy.shardOf(memberId, shardCount);
+    }
+
+    public Optional<Integer> shardOfName(final String memberName) {
+        return findMemberId(memberName).map(this::shardOf);
+    }
+
+    public void invalidateAll() {
+        memberIdsByName.invalidateAll();
+    }
+
+    private void unregisterAfterRollback(final String memberName, final long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // 디렉터리는 회원 샤드와 다른 커넥션에서 바로 커밋되므로, 가입이 롤백되면 직접 지운다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    memberIdsByName.invalidate(memberName);
+                    globalJdbcTemplate.update("DELETE FROM member_directory WHERE id = ?", memberId);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,203 @@
+package cart.common.shard;
+
+import cart.exception.DBException;
+import cart.exception.ErrorCode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class MemberShardRouter implements ShardRouter {
+
+    private static final String THREAD_NAME_PREFIX = "shard-scatter-";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final int shardCount;
+    private final int globalShard;
+    private final MemberDirectory memberDirectory;
+    private final ShardRowIdRanges shardRowIdRanges;
+    private final GlobalTableReplicator globalTableReplicator;
+    private final TransactionTemplate globalReadTemplate;
+    private final long scatterTimeoutNanos;
+    private final ExecutorService executor;
+
+    public MemberShardRouter(final ShardDataSources shardDataSources, final MemberDirectory memberDirectory,
+                             final ShardRowIdRanges shardRowIdRanges,
+                             final GlobalTableReplicator globalTableReplicator,
+                             final PlatformTransactionManager transactionManager, final Duration scatterTimeout) {
+        this.shardCount = shardDataSources.getShardCount();
+        this.globalShard = shardDataSources.getGlobalShard();
+        this.memberDirectory = memberDirectory;
+        this.shardRowIdRanges = shardRowIdRanges;
+        this.globalTableReplicator = globalTableReplicator;
+        this.globalReadTemplate = new TransactionTemplate(transactionManager);
+        this.globalReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.scatterTimeoutNanos = scatterTimeout.toNanos();
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(shardCount, runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public <T> T onMember(final Long memberId, final Supplier<T> action) {
+        return callOnShard(memberDirectory.shardOf(memberId), action);
+    }
+
+    @Override
+    public <T> T onMembers(final Collection<Long> memberIds, final Supplier<T> action) {
+        return callOnShard(shardOfAll(memberIds, memberDirectory::shardOf), action);
+    }
+
+    @Override
+    public <T> T onMemberName(final String memberName, final Supplier<T> action) {
+        return callOnShard(memberDirectory.shardOfName(memberName).orElse(globalShard), action);
+    }
+
+    @Override
+    public <T> T onRowId(final Long rowId, final Supplier<T> action) {
+        return callOnShard(shardRowIdRanges.shardOf(rowId), action);
+    }
+
+    @Override
+    public <T> T onRowIds(final Collection<Long> rowIds, final Supplier<T> action) {
+        return callOnShard(shardOfAll(rowIds, shardRowIdRanges::shardOf), action);
+    }
+
+    @Override
+    public List<List<Long>> partitionRowIds(final List<Long> rowIds) {
+        final Map<Integer, List<Long>> rowIdsByShard = new LinkedHashMap<>();
+        for (final Long rowId : rowIds) {
+            rowIdsByShard.computeIfAbsent(shardRowIdRanges.shardOf(rowId), shard -> new ArrayList<>()).add(rowId);
+        }
+        return new ArrayList<>(rowIdsByShard.values());
+    }
+
+    @Override
+    public void checkRowId(final Long memberId, final Long rowId) {
+        final int memberShard = memberDirectory.shardOf(memberId);
+        final int rowShard = shardRowIdRanges.shardOf(rowId);
+        if (memberShard != rowShard) {
+            log.error("{}번 샤드의 회원 {}에게 {}번 샤드 범위의 id {}가 발급되었습니다.", memberShard, memberId, rowShard, rowId);
+            throw new DBException(ErrorCode.DB_SHARD_ERROR);
+        }
+    }
+
+    @Override
+    public <T> T onGlobal(final Supplier<T> action) {
+        return callOnShard(globalShard, action);
+    }
+
+    @Override
+    public <T> T readGlobal(final Supplier<T> action) {
+        final Integer transactionShard = ShardContext.transactionShard();
+        if (transactionShard != null) {
+            // 이미 회원 샤드에 묶였다면 그 샤드에 복제된 행을 읽어야 같은 커넥션의 조인, 외래 키와 어긋나지 않는다.
+            return ShardContext.callOn(transactionShard, action);
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return ShardContext.callOn(globalShard, action);
+        }
+        // 아직 샤드가 정해지지 않은 트랜잭션이 공용 테이블 조회 때문에 공용 샤드에 묶이지 않도록 트랜잭션 밖에서 읽는다.
+        return globalReadTemplate.execute(status -> ShardContext.callOn(globalShard, action));
+    }
+
+    @Override
+    public <T> List<T> scatter(final Supplier<T> action) {
+        final List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            final int targetShard = shard;
+            futures.add(executor.submit(() -> ShardContext.callOn(targetShard, action)));
+        }
+
+        final long deadline = System.nanoTime() + scatterTimeoutNanos;
+        final List<T> results = new ArrayList<>(shardCount);
+        try {
+            for (final Future<T> future : futures) {
+                results.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new DBException(ErrorCode.DB_SHARD_ERROR);
+        } catch (TimeoutException exception) {
+            log.warn("{}개 샤드 중 {}개만 {}ms 안에 응답했습니다.", shardCount, results.size(),
+                TimeUnit.NANOSECONDS.toMillis(scatterTimeoutNanos));
+            throw new DBException(ErrorCode.DB_SHARD_ERROR);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new DBException(ErrorCode.DB_SHARD_ERROR);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public void replicate(final GlobalTable globalTable, final List<Long> rowIds) {
+        onGlobal(() -> {
+            globalTableReplicator.enqueue(globalTable, rowIds);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Long> reserveMemberId(final String memberName) {
+        return Optional.of(memberDirectory.register(memberName));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T callOnShard(final int shard, final Supplier<T> action) {
+        final Integer transactionShard = ShardContext.transactionShard();
+        if (transactionShard != null && transactionShard != shard) {
+            // 트랜잭션은 첫 샤드의 커넥션에 고정되므로, 다른 샤드의 데이터를 그대로 실행하면 엉뚱한 샤드에 쓰게 된다.
+            log.error("{}번 샤드에 묶인 트랜잭션에서 {}번 샤드의 데이터를 다루려고 했습니다.", transactionShard, shard);
+            throw new DBException(ErrorCode.DB_SHARD_ERROR);
+        }
+        return ShardContext.callOn(shard, action);
+    }
+
+    private int shardOfAll(final Collection<Long> ids, final Function<Long, Integer> shardOf) {
+        if (ids.isEmpty()) {
+            final Integer transactionShard = ShardContext.transactionShard();
+            return transactionShard == null ? globalShard : transactionShard;
+        }
+        final int shard = shardOf.apply(ids.iterator().next());
+        for (final Long id : ids) {
+            final int otherShard = shardOf.apply(id);
+            if (otherShard != shard) {
+                log.error("{}번 샤드와 {}번 샤드의 데이터를 한 번에 다루려고 했습니다.", shard, otherShard);
+                throw new DBException(ErrorCode.DB_SHARD_ERROR);
+            }
+        }
+        return shard;
+    }
+}
@@ -0,0 +1,7 @@
+package cart.common.shard;
+
+@FunctionalInterface
+public interface MemberShardStrategy {
+
+    int shardOf(long memberId, int shardCount);
+}
@@ -0,0 +1,72 @@
+package cart.common.shard;
+
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 스레드가 사용할 샤드를 지정한다.
+ * 트랜잭션은 첫 SQL 을 실행할 때 커넥션을 고정하므로, 고정된 샤드를 트랜잭션 자원으로 남겨 다른 샤드로 가려는 호출을 막는다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+    private static final Object TRANSACTION_SHARD_KEY = new Object();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT_SHARD.get();
+    }
+
+    public static Integer transactionShard() {
+        return (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD_KEY);
+    }
+
+    public static <T> T callOn(final int shard, final Supplier<T> action) {
+        final Integer previousShard = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previousShard == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previousShard);
+            }
+        }
+    }
+
+    public static void runOn(final int shard, final Runnable action) {
+        callOn(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static void bindTransaction(final int shard) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.isSynchronizationActive()
+            || TransactionSynchronizationManager.hasResource(TRANSACTION_SHARD_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD_KEY, shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD_KEY);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD_KEY, shard);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD_KEY);
+            }
+        });
+    }
+}
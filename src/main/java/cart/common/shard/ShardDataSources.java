@@ -0,0 +1,59 @@
+package cart.common.shard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 샤드 커넥션 풀을 샤드 번호 순서대로 소유하고, 애플리케이션이 종료될 때 함께 닫는다.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final List<DataSource> shards;
+    private final int globalShard;
+
+    public ShardDataSources(final List<DataSource> shards, final int globalShard) {
+        if (shards.isEmpty() || globalShard < 0 || globalShard >= shards.size()) {
+            throw new IllegalArgumentException("공용 샤드 번호가 샤드 목록의 범위를 벗어났습니다.");
+        }
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+        this.globalShard = globalShard;
+    }
+
+    public List<DataSource> getShards() {
+        return shards;
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public int getGlobalShard() {
+        return globalShard;
+    }
+
+    public DataSource getGlobalShardDataSource() {
+        return shards.get(globalShard);
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(this::closeQuietly);
+    }
+
+    private void closeQuietly(final DataSource dataSource) {
+        if (!(dataSource instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) dataSource).close();
+        } catch (Exception exception) {
+            log.warn("커넥션 풀을 닫는 중 오류가 발생했습니다.", exception);
+        }
+    }
+}
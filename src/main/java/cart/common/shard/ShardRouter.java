@@ -0,0 +1,62 @@
+package cart.common.shard;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 저장소 구현체가 회원 id, 샤드 번호가 담긴 행 id 로 데이터를 둘 샤드를 고른다.
+ * 하나의 트랜잭션은 한 샤드에만 묶이므로, 이미 다른 샤드에 묶인 트랜잭션에서 호출하면 예외가 발생한다.
+ */
+public interface ShardRouter {
+
+    <T> T onMember(Long memberId, Supplier<T> action);
+
+    /**
+     * 같은 샤드에 있는 회원들의 데이터를 한 번에 다룬다. 회원들이 여러 샤드에 흩어져 있으면 예외가 발생한다.
+     */
+    <T> T onMembers(Collection<Long> memberIds, Supplier<T> action);
+
+    <T> T onMemberName(String memberName, Supplier<T> action);
+
+    /**
+     * 주문, 장바구니 상품처럼 샤드마다 id 범위가 나뉜 행을 그 행이 있는 샤드에서 다룬다.
+     */
+    <T> T onRowId(Long rowId, Supplier<T> action);
+
+    <T> T onRowIds(Collection<Long> rowIds, Supplier<T> action);
+
+    /**
+     * 같은 샤드에 있는 행 id 끼리 요청 순서를 유지한 채로 나눈다.
+     */
+    List<List<Long>> partitionRowIds(List<Long> rowIds);
+
+    /**
+     * 새로 저장한 행의 id 가 회원의 샤드 범위 안에 있는지 확인한다.
+     */
+    void checkRowId(Long memberId, Long rowId);
+
+    /**
+     * 공용 테이블(product, coupon)을 공용 샤드에서 변경한다.
+     * 프로세스 전체가 공유하는 캐시를 채울 때도 샤드의 복제본이 아닌 공용 샤드의 원본을 읽도록 이 메서드를 사용한다.
+     */
+    <T> T onGlobal(Supplier<T> action);
+
+    /**
+     * 공용 테이블을 읽는다. 샤드가 정해진 트랜잭션이면 그 샤드의 복제본을, 아니면 공용 샤드를 읽는다.
+     */
+    <T> T readGlobal(Supplier<T> action);
+
+    /**
+     * 모든 샤드에서 동시에 실행하고, 샤드 순서대로 결과를 돌려준다.
+     */
+    <T> List<T> scatter(Supplier<T> action);
+
+    /**
+     * 공용 샤드에서 변경한 공용 테이블의 행을 나머지 샤드에도 반영한다.
+     */
+    void replicate(GlobalTable globalTable, List<Long> rowIds);
+
+    Optional<Long> reserveMemberId(String memberName);
+}
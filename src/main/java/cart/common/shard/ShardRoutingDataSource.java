@@ -0,0 +1,37 @@
+package cart.common.shard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardRouter 가 지정한 샤드로, 지정된 샤드가 없으면 공용 샤드로 보낸다.
+ * 트랜잭션이 시작된 뒤에 샤드를 고를 수 있도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final int globalShard;
+
+    public ShardRoutingDataSource(final ShardDataSources shardDataSources) {
+        this.globalShard = shardDataSources.getGlobalShard();
+
+        final Map<Object, Object> targetDataSources = new HashMap<>();
+        final List<DataSource> shards = shardDataSources.getShards();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targetDataSources.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(shardDataSources.getGlobalShardDataSource());
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final Integer currentShard = ShardContext.current();
+        final int shard = currentShard == null ? globalShard : currentShard;
+        ShardContext.bindTransaction(shard);
+        return shard;
+    }
+}
@@ -0,0 +1,70 @@
+package cart.common.shard;
+
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 회원 샤드에 쌓이는 장바구니 상품, 주문의 id 를 샤드마다 겹치지 않는 범위에서 발급한다.
+ * k번 샤드는 [k * blockSize + 1, (k + 1) * blockSize] 범위를 쓰므로, id 만으로 행이 있는 샤드를 찾을 수 있다.
+ */
+public class ShardRowIdRanges {
+
+    private static final List<String> ROW_ID_TABLES = List.of("cart_item", "`order`");
+
+    private final int shardCount;
+    private final int globalShard;
+    private final long blockSize;
+
+    public ShardRowIdRanges(final int shardCount, final int globalShard, final long blockSize) {
+        if (blockSize < 1 || blockSize > Long.MAX_VALUE / shardCount) {
+            throw new IllegalArgumentException("샤드별 id 범위의 크기가 올바르지 않습니다.");
+        }
+        this.shardCount = shardCount;
+        this.globalShard = globalShard;
+        this.blockSize = blockSize;
+    }
+
+    public int shardOf(final Long rowId) {
+        if (rowId == null || rowId < 1) {
+            return globalShard;
+        }
+        final long shard = (rowId - 1) / blockSize;
+        return shard < shardCount ? (int) shard : globalShard;
+    }
+
+    public long firstIdOf(final int shard) {
+        return shard * blockSize + 1;
+    }
+
+    public long lastIdOf(final int shard) {
+        return (shard + 1) * blockSize;
+    }
+
+    /**
+     * 샤드마다 다음 id 를 그 샤드의 범위 안으로 맞춘다. 이미 범위를 벗어난 행이 있으면 기동을 멈춘다.
+     */
+    public void assign(final ShardDataSources shardDataSources) {
+        final List<DataSource> shards = shardDataSources.getShards();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.get(shard));
+            for (final String table : ROW_ID_TABLES) {
+                assign(jdbcTemplate, shard, table);
+            }
+        }
+    }
+
+    private void assign(final JdbcTemplate jdbcTemplate, final int shard, final String table) {
+        final Map<String, Object> range = jdbcTemplate.queryForMap(
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM " + table);
+        final Number minId = (Number) range.get("min_id");
+        final Number maxId = (Number) range.get("max_id");
+        if (minId != null && (minId.longValue() < firstIdOf(shard) || maxId.longValue() > lastIdOf(shard))) {
+            throw new IllegalStateException(String.format("%d번 샤드의 %s id(%d~%d)가 샤드 범위(%d~%d)를 벗어났습니다.",
+                shard, table, minId.longValue(), maxId.longValue(), firstIdOf(shard), lastIdOf(shard)));
+        }
+        final long nextId = maxId == null ? firstIdOf(shard) : maxId.longValue() + 1;
+        jdbcTemplate.execute("ALTER TABLE " + table + " auto_increment = " + nextId);
+    }
+}
@@ -0,0 +1,42 @@
+package cart.common.shard;
+
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * spring.sql.init 스크립트를 모든 샤드에 실행하고, 공용 샤드에는 회원 디렉터리와 복제 outbox 테이블을 만든다.
+ * 스크립트를 실행한 뒤 샤드마다 장바구니 상품, 주문 id 를 그 샤드의 범위에서 발급하도록 맞춘다.
+ */
+public class ShardedSqlInitializer extends SqlDataSourceScriptDatabaseInitializer {
+
+    private static final String DIRECTORY_SCHEMA_LOCATION = "sharding-schema.sql";
+
+    private final ShardDataSources shardDataSources;
+    private final ShardRowIdRanges shardRowIdRanges;
+    private final SqlInitializationProperties properties;
+
+    public ShardedSqlInitializer(final ShardDataSources shardDataSources, final ShardRowIdRanges shardRowIdRanges,
+                                 final SqlInitializationProperties properties) {
+        super(shardDataSources.getGlobalShardDataSource(), properties);
+        this.shardDataSources = shardDataSources;
+        this.shardRowIdRanges = shardRowIdRanges;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        final DataSource globalShard = shardDataSources.getGlobalShardDataSource();
+        new ResourceDatabasePopulator(new ClassPathResource(DIRECTORY_SCHEMA_LOCATION)).execute(globalShard);
+        boolean initialized = super.initializeDatabase();
+        for (final DataSource shard : shardDataSources.getShards()) {
+            if (shard != globalShard) {
+                initialized |= new SqlDataSourceScriptDatabaseInitializer(shard, properties).initializeDatabase();
+            }
+        }
+        shardRowIdRanges.assign(shardDataSources);
+        return initialized;
+    }
+}
@@ -0,0 +1,141 @@
+package cart.common.shard;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+    private List<Shard> shards = new ArrayList<>();
+    private int globalShard;
+    private Duration scatterTimeout = Duration.ofSeconds(3);
+    private int directoryMaximumSize = 100000;
+    private Duration directoryTtl = Duration.ofHours(1);
+    private long rowIdBlockSize = 1_000_000_000_000L;
+    private int replicationBatchSize = 100;
+    private int replicationMaxAttempts = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(final List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public int getGlobalShard() {
+        return globalShard;
+    }
+
+    public void setGlobalShard(final int globalShard) {
+        this.globalShard = globalShard;
+    }
+
+    public Duration getScatterTimeout() {
+        return scatterTimeout;
+    }
+
+    public void setScatterTimeout(final Duration scatterTimeout) {
+        this.scatterTimeout = scatterTimeout;
+    }
+
+    public int getDirectoryMaximumSize() {
+        return directoryMaximumSize;
+    }
+
+    public void setDirectoryMaximumSize(final int directoryMaximumSize) {
+        this.directoryMaximumSize = directoryMaximumSize;
+    }
+
+    public Duration getDirectoryTtl() {
+        return directoryTtl;
+    }
+
+    public void setDirectoryTtl(final Duration directoryTtl) {
+        this.directoryTtl = directoryTtl;
+    }
+
+    public long getRowIdBlockSize() {
+        return rowIdBlockSize;
+    }
+
+    public void setRowIdBlockSize(final long rowIdBlockSize) {
+        this.rowIdBlockSize = rowIdBlockSize;
+    }
+
+    public int getReplicationBatchSize() {
+        return replicationBatchSize;
+    }
+
+    public void setReplicationBatchSize(final int replicationBatchSize) {
+        this.replicationBatchSize = replicationBatchSize;
+    }
+
+    public int getReplicationMaxAttempts() {
+        return replicationMaxAttempts;
+    }
+
+    public void setReplicationMaxAttempts(final int replicationMaxAttempts) {
+        this.replicationMaxAttempts = replicationMaxAttempts;
+    }
+
+    public static class Shard {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private String connectionInitSql;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(final String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(final String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(final String password) {
+            this.password = password;
+        }
+
+        public String getDriverClassName() {
+            return driverClassName;
+        }
+
+        public void setDriverClassName(final String driverClassName) {
+            this.driverClassName = driverClassName;
+        }
+
+        public String getConnectionInitSql() {
+            return connectionInitSql;
+        }
+
+        public void setConnectionInitSql(final String connectionInitSql) {
+            this.connectionInitSql = connectionInitSql;
+        }
+    }
+}
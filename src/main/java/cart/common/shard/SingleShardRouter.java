@@ -0,0 +1,68 @@
+package cart.common.shard;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class SingleShardRouter implements ShardRouter {
+
+    @Override
+    public <T> T onMember(final Long memberId, final Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T onMembers(final Collection<Long> memberIds, final Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T onMemberName(final String memberName, final Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T onRowId(final Long rowId, final Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T onRowIds(final Collection<Long> rowIds, final Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public List<List<Long>> partitionRowIds(final List<Long> rowIds) {
+        return Collections.singletonList(rowIds);
+    }
+
+    @Override
+    public void checkRowId(final Long memberId, final Long rowId) {
+    }
+
+    @Override
+    public <T> T onGlobal(final Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T readGlobal(final Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> List<T> scatter(final Supplier<T> action) {
+        return Collections.singletonList(action.get());
+    }
+
+    @Override
+    public void replicate(final GlobalTable globalTable, final List<Long> rowIds) {
+    }
+
+    @Override
+    public Optional<Long> reserveMemberId(final String memberName) {
+        return Optional.empty();
+    }
+}
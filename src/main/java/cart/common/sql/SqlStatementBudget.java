@@ -0,0 +1,34 @@
+package cart.common.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sql.budget")
+public class SqlStatementBudget {
+
+    private int defaultCount = 30;
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetOf(final String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultCount);
+    }
+
+    public int getDefaultCount() {
+        return defaultCount;
+    }
+
+    public void setDefaultCount(final int defaultCount) {
+        this.defaultCount = defaultCount;
+    }
+
+    public Map<String, Integer> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(final Map<String, Integer> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
@@ -0,0 +1,138 @@
+package cart.common.sql;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Sql-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String SLOWEST_HEADER = "X-Sql-Slowest-Ms";
+
+    private static final String PROD_PROFILE = "prod";
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final SqlStatementBudget sqlStatementBudget;
+    private final boolean headersEnabled;
+
+    public SqlStatementCountFilter(final SqlStatementCounter sqlStatementCounter,
+                                   final SqlStatementBudget sqlStatementBudget,
+                                   final Environment environment) {
+        this.sqlStatementCounter = sqlStatementCounter;
+        this.sqlStatementBudget = sqlStatementBudget;
+        this.headersEnabled = !environment.acceptsProfiles(Profiles.of(PROD_PROFILE));
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        sqlStatementCounter.reset();
+        final SqlHeaderResponse sqlHeaderResponse = new SqlHeaderResponse(response);
+        try {
+            filterChain.doFilter(request, headersEnabled ? sqlHeaderResponse : response);
+        } finally {
+            if (headersEnabled) {
+                sqlHeaderResponse.writeHeaders();
+            }
+            checkBudget(request);
+            sqlStatementCounter.clear();
+        }
+    }
+
+    private void checkBudget(final HttpServletRequest request) {
+        final String endpoint = endpoint(request);
+        final long count = sqlStatementCounter.getCount();
+        final int budget = sqlStatementBudget.budgetOf(endpoint);
+        if (count <= budget) {
+            log.debug("{} 요청에서 {}개의 SQL 문이 실행되었습니다.", endpoint, count);
+            return;
+        }
+        log.warn("SQL 실행 예산을 초과했습니다. endpoint=\"{}\" count={} budget={} totalMs={} slowestMs={} slowestSql=\"{}\"",
+            endpoint, count, budget, toMillis(sqlStatementCounter.getTotalNanos()),
+            toMillis(sqlStatementCounter.getSlowestNanos()), sqlStatementCounter.getSlowestSql());
+    }
+
+    private String endpoint(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+    }
+
+    private long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * 컨트롤러가 본문을 쓰면서 응답이 커밋되므로, 커밋 직전에 그때까지의 SQL 통계를 헤더로 남긴다.
+     */
+    private class SqlHeaderResponse extends HttpServletResponseWrapper {
+
+        private boolean headersWritten;
+
+        private SqlHeaderResponse(final HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        private void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(COUNT_HEADER, String.valueOf(sqlStatementCounter.getCount()));
+            setHeader(TIME_HEADER, String.valueOf(toMillis(sqlStatementCounter.getTotalNanos())));
+            setHeader(SLOWEST_HEADER, String.valueOf(toMillis(sqlStatementCounter.getSlowestNanos())));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package cart.common.sql;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlStatementCounter {
+
+    private final ThreadLocal<Statistics> statistics = ThreadLocal.withInitial(Statistics::new);
+
+    public void reset() {
+        statistics.get().reset();
+    }
+
+    public void record(final String sql, final long elapsedNanos) {
+        statistics.get().record(sql, elapsedNanos);
+    }
+
+    public long getCount() {
+        return statistics.get().count;
+    }
+
+    public long getTotalNanos() {
+        return statistics.get().totalNanos;
+    }
+
+    public long getSlowestNanos() {
+        return statistics.get().slowestNanos;
+    }
+
+    public String getSlowestSql() {
+        return statistics.get().slowestSql;
+    }
+
+    public void clear() {
+        statistics.remove();
+    }
+
+    private static class Statistics {
+
+        private long count;
+        private long totalNanos;
+        private long slowestNanos;
+        private String slowestSql;
+
+        private void record(final String sql, final long elapsedNanos) {
+            count++;
+            totalNanos += elapsedNanos;
+            if (slowestSql == null || elapsedNanos > slowestNanos) {
+                slowestNanos = elapsedNanos;
+                slowestSql = sql;
+            }
+        }
+
+        private void reset() {
+            count = 0;
+            totalNanos = 0;
+            slowestNanos = 0;
+            slowestSql = null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package cart.common.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final String EXECUTE_METHOD_PREFIX = "execute";
+    private static final String PREPARE_METHOD_PREFIX = "prepare";
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    public StatementCountingDataSource(final DataSource targetDataSource,
+                                       final SqlStatementCounter sqlStatementCounter) {
+        super(targetDataSource);
+        this.sqlStatementCounter = sqlStatementCounter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private Connection countingConnection(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class},
+            (proxy, method, args) -> {
+                final Object result = invoke(connection, method, args);
+                if (result instanceof Statement) {
+                    final String preparedSql = method.getName().startsWith(PREPARE_METHOD_PREFIX)
+                        ? (String) args[0] : null;
+                    return countingStatement((Statement) result, preparedSql);
+                }
+                return result;
+            });
+    }
+
+    private Statement countingStatement(final Statement statement, final String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{statementType(statement)},
+            (proxy, method, args) -> {
+                if (!method.getName().startsWith(EXECUTE_METHOD_PREFIX)) {
+                    return invoke(statement, method, args);
+                }
+                final long startNanos = System.nanoTime();
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    sqlStatementCounter.record(executedSql(preparedSql, args), System.nanoTime() - startNanos);
+                }
+            });
+    }
+
+    private String executedSql(final String preparedSql, final Object[] args) {
+        if (args != null && args.length > 0 && args[0] instanceof String) {
+            return (String) args[0];
+        }
+        return preparedSql;
+    }
+
+    private Class<?> statementType(final Statement statement) {
+        if (statement instanceof CallableStatement) {
+            return CallableStatement.class;
+        }
+        if (statement instanceof PreparedStatement) {
+            return PreparedStatement.class;
+        }
+        return Statement.class;
+    }
+
+    private Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getTargetException();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Objects;
 
 public class CartItem {
 
+    public static final int MAX_QUANTITY = 100_000;
+
     private final Long cartId;
     private final int quantity;
     private final Product product;
@@ -0,0 +1,8 @@
+package cart.domain.cartitem;
+
+import java.util.List;
+
+public interface CartItemQueryRepository {
+
+    List<CartItemSummary> findSummariesByMemberId(final Long memberId);
+}
@@ -0,0 +1,45 @@
+package cart.domain.cartitem;
+
+public class CartItemSummary {
+
+    private final Long cartItemId;
+    private final int quantity;
+    private final Long productId;
+    private final String productName;
+    private final int productPrice;
+    private final String productImageUrl;
+
+    public CartItemSummary(final Long cartItemId, final int quantity, final Long productId,
+                           final String productName, final int productPrice, final String productImageUrl) {
+        this.cartItemId = cartItemId;
+        this.quantity = quantity;
+        this.productId = productId;
+        this.productName = productName;
+        this.productPrice = productPrice;
+        this.productImageUrl = productImageUrl;
+    }
+
+    public Long getCartItemId() {
+        return cartItemId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public int getProductPrice() {
+        return productPrice;
+    }
+
+    public String getProductImageUrl() {
+        return productImageUrl;
+    }
+}
@@ -2,12 +2,15 @@ package cart.domain.cartitem;
 
 import cart.domain.cartitem.dto.CartItemSaveReq;
 import java.util.List;
+import java.util.Map;
 
 public interface CartRepository {
 
     Cart findByMemberName(final String memberName);
 
-    Long save(final String memberName, final CartItemSaveReq cartItemSaveReq);
+    Long saveOrIncreaseQuantity(final String memberName, final CartItemSaveReq cartItemSaveReq);
+
+    Map<Long, Long> saveOrIncreaseQuantities(final Long memberId, final List<CartItemSaveReq> cartItemSaveReqs);
 
     void deleteById(final Long cartItemId);
 
@@ -19,7 +22,5 @@ public interface CartRepository {
 
     void deleteByCartItemIdsAndMemberId(final List<Long> cartItemIds, final String memberName);
 
-    boolean existByMemberNameAndProductId(final String memberName, final Long productId);
-
     void deleteByProductIdsAndMemberId(final List<Long> productIds, final Long memberId);
 }
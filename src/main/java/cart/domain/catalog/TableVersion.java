@@ -0,0 +1,26 @@
+package cart.domain.catalog;
+
+public class TableVersion {
+
+    private final long rowCount;
+    private final long maxId;
+    private final long versionSum;
+
+    public TableVersion(final long rowCount, final long maxId, final long versionSum) {
+        this.rowCount = rowCount;
+        this.maxId = maxId;
+        this.versionSum = versionSum;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    public long getVersionSum() {
+        return versionSum;
+    }
+}
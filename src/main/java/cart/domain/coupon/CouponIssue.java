@@ -0,0 +1,45 @@
+package cart.domain.coupon;
+
+import java.time.LocalDateTime;
+
+public class CouponIssue {
+
+    private final Long couponIssueId;
+    private final Long memberId;
+    private final CouponType couponType;
+    private final LocalDateTime requestedAt;
+
+    private CouponIssue(final Long couponIssueId, final Long memberId, final CouponType couponType,
+                        final LocalDateTime requestedAt) {
+        this.couponIssueId = couponIssueId;
+        this.memberId = memberId;
+        this.couponType = couponType;
+        this.requestedAt = requestedAt;
+    }
+
+    public static CouponIssue create(final Long memberId, final CouponType couponType,
+                                     final LocalDateTime requestedAt) {
+        return new CouponIssue(null, memberId, couponType, requestedAt);
+    }
+
+    public static CouponIssue create(final Long couponIssueId, final Long memberId, final CouponType couponType,
+                                     final LocalDateTime requestedAt) {
+        return new CouponIssue(couponIssueId, memberId, couponType, requestedAt);
+    }
+
+    public Long couponIssueId() {
+        return couponIssueId;
+    }
+
+    public Long memberId() {
+        return memberId;
+    }
+
+    public CouponType couponType() {
+        return couponType;
+    }
+
+    public LocalDateTime requestedAt() {
+        return requestedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package cart.domain.coupon;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CouponIssueRepository {
+
+    void save(final CouponIssue couponIssue);
+
+    List<CouponIssue> findOldest(final LocalDateTime now, final int limit);
+
+    void deleteAll(final List<CouponIssue> couponIssues);
+
+    void postponeAll(final List<CouponIssue> couponIssues, final LocalDateTime nextAttemptAt);
+}
@@ -1,5 +1,6 @@
 package cart.domain.coupon;
 
+import cart.domain.catalog.TableVersion;
 import java.util.List;
 
 public interface CouponRepository {
@@ -14,5 +15,9 @@ public interface CouponRepository {
 
     void deleteById(final Long couponId);
 
+    boolean existReferenceById(final Long couponId);
+
     Coupon findByNameAndDiscountRate(final String name, final int discountRate);
+
+    TableVersion getTableVersion();
 }
@@ -0,0 +1,14 @@
+package cart.domain.event;
+
+public class CouponIssueRequestedEvent {
+
+    private final Long memberId;
+
+    public CouponIssueRequestedEvent(final Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+}
@@ -3,12 +3,18 @@ package cart.domain.event;
 public class FirstOrderCouponEvent {
 
     private final Long memberId;
+    private final Long orderId;
 
-    public FirstOrderCouponEvent(final Long memberId) {
+    public FirstOrderCouponEvent(final Long memberId, final Long orderId) {
         this.memberId = memberId;
+        this.orderId = orderId;
     }
 
     public Long getMemberId() {
         return memberId;
     }
+
+    public Long getOrderId() {
+        return orderId;
+    }
 }
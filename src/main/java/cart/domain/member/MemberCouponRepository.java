@@ -1,9 +1,15 @@
 package cart.domain.member;
 
+import java.util.List;
+
 public interface MemberCouponRepository {
 
     void save(final Long memberId, final MemberCoupon memberCoupon);
 
+    void saveAll(final List<Long> memberIds, final MemberCoupon memberCoupon);
+
+    List<Long> findIssuedMemberIds(final Long couponId, final List<Long> memberIds);
+
     boolean existByMemberIdAndCouponId(final Long memberId, final Long couponId);
 
     MemberCoupon findByMemberIdAndCouponId(final Long memberId, final Long couponId);
@@ -11,4 +17,6 @@ public interface MemberCouponRepository {
     void updateUsed(final Long memberId, final Long couponId);
 
     void updateNotUsed(final Long memberId, final Long couponId);
+
+    void updateNotUsedAll(final List<Long> memberIds, final List<Long> couponIds);
 }
@@ -37,7 +37,7 @@ public class BasicOrder implements Order {
     }
 
     private BigDecimal calculateTotalOrderPrice() {
-        return OrderPriceCalculator.calculateTotalOrderPrice(cartItems);
+        return OrderPriceCalculator.calculateTotalOrderPrice(cartItems).toBigDecimal();
     }
 
     @Override
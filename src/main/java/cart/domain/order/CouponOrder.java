@@ -4,7 +4,6 @@ import cart.domain.cartitem.CartItem;
 import cart.domain.coupon.Coupon;
 import cart.domain.member.Member;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -12,7 +11,6 @@ import java.util.Optional;
 public class CouponOrder implements Order {
 
     private static final int PERCENTAGE = 100;
-    private static final double DECIMAL_CONVERSION = 0.01;
 
     private final Long orderId;
     private final Member member;
@@ -36,21 +34,16 @@ public class CouponOrder implements Order {
         this.coupon = coupon;
         this.orderedAt = orderedAt;
         this.cartItems = cartItems;
-        this.totalPrice = calculateTotalOrderPrice();
-        this.discountedTotalPrice = calculateDiscountPrice();
+        final Money totalOrderPrice = OrderPriceCalculator.calculateTotalOrderPrice(cartItems);
+        this.totalPrice = totalOrderPrice.toBigDecimal();
+        this.discountedTotalPrice = calculateDiscountPrice(totalOrderPrice);
         this.deliveryPrice = deliveryPrice;
         this.isValid = isValid;
     }
 
-    private BigDecimal calculateTotalOrderPrice() {
-        return OrderPriceCalculator.calculateTotalOrderPrice(cartItems);
-    }
-
-    private BigDecimal calculateDiscountPrice() {
+    private BigDecimal calculateDiscountPrice(final Money totalOrderPrice) {
         final int discountRate = coupon.discountRate();
-        final BigDecimal convertedDiscountRate = BigDecimal.valueOf(
-            (PERCENTAGE - discountRate) * DECIMAL_CONVERSION);
-        return totalPrice.multiply(convertedDiscountRate).setScale(0, RoundingMode.DOWN);
+        return totalOrderPrice.percent(PERCENTAGE - discountRate).toBigDecimal();
     }
 
     @Override
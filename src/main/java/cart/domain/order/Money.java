@@ -0,0 +1,69 @@
+package cart.domain.order;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public class Money {
+
+    public static final Money ZERO = new Money(0L);
+
+    private static final int PERCENTAGE = 100;
+
+    private final long amount;
+
+    private Money(final long amount) {
+        this.amount = amount;
+    }
+
+    public static Money create(final long amount) {
+        if (amount == 0L) {
+            return ZERO;
+        }
+        return new Money(amount);
+    }
+
+    public static Money from(final BigDecimal amount) {
+        return create(amount.longValueExact());
+    }
+
+    public static long multiply(final int price, final int quantity) {
+        return Math.multiplyExact((long) price, (long) quantity);
+    }
+
+    public Money plus(final Money other) {
+        return create(Math.addExact(amount, other.amount));
+    }
+
+    public Money times(final int multiplier) {
+        return create(Math.multiplyExact(amount, (long) multiplier));
+    }
+
+    public Money percent(final int rate) {
+        return create(Math.multiplyExact(amount, (long) rate) / PERCENTAGE);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Money that = (Money) o;
+        return amount == that.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(amount);
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+}
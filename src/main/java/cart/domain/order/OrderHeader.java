@@ -0,0 +1,86 @@
+package cart.domain.order;
+
+import cart.domain.refund.RefundPolicy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class OrderHeader {
+
+    private final Long orderId;
+    private final Long memberId;
+    private final String memberName;
+    private final BigDecimal totalPrice;
+    private final BigDecimal discountedTotalPrice;
+    private final Integer deliveryPrice;
+    private final LocalDateTime orderedAt;
+    private final Boolean isValid;
+    private final Long couponId;
+    private final LocalDateTime couponExpiredAt;
+
+    public OrderHeader(final Long orderId, final Long memberId, final String memberName,
+                       final BigDecimal totalPrice, final BigDecimal discountedTotalPrice,
+                       final Integer deliveryPrice, final LocalDateTime orderedAt, final Boolean isValid,
+                       final Long couponId, final LocalDateTime couponExpiredAt) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.totalPrice = totalPrice;
+        this.discountedTotalPrice = discountedTotalPrice;
+        this.deliveryPrice = deliveryPrice;
+        this.orderedAt = orderedAt;
+        this.isValid = isValid;
+        this.couponId = couponId;
+        this.couponExpiredAt = couponExpiredAt;
+    }
+
+    public boolean isNotOwner(final String memberName) {
+        return !this.memberName.equals(memberName);
+    }
+
+    public boolean hasUsableCoupon(final LocalDateTime targetTime) {
+        return couponId != null && couponExpiredAt.isAfter(targetTime);
+    }
+
+    public BigDecimal getPaymentPrice(final LocalDateTime targetTime) {
+        if (hasUsableCoupon(targetTime)) {
+            return discountedTotalPrice;
+        }
+        return totalPrice;
+    }
+
+    public BigDecimal calculateRefundPrice(final RefundPolicy refundPolicy, final LocalDateTime targetTime) {
+        return refundPolicy.calculatePrice(getPaymentPrice(targetTime)).add(BigDecimal.valueOf(deliveryPrice));
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public BigDecimal getDiscountedTotalPrice() {
+        return discountedTotalPrice;
+    }
+
+    public Integer getDeliveryPrice() {
+        return deliveryPrice;
+    }
+
+    public LocalDateTime getOrderedAt() {
+        return orderedAt;
+    }
+
+    public Boolean isValid() {
+        return isValid;
+    }
+
+    public Long getCouponId() {
+        return couponId;
+    }
+}
@@ -1,5 +1,6 @@
 package cart.domain.order;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderRepository {
@@ -8,11 +9,22 @@ public interface OrderRepository {
 
     Long saveWithCoupon(final Order order);
 
-    Long countByMemberId(final Long memberId);
+    boolean existOtherOrder(final Long memberId, final Long orderId);
 
     Order getById(final Long id);
 
+    OrderHeader getHeaderById(final Long id);
+
+    List<OrderHeader> findHeadersByIds(final List<Long> ids);
+
     List<Order> findByMemberName(final String memberName);
 
+    List<Order> findByMemberName(final String memberName, final LocalDateTime lastOrderedAt,
+                                 final Long lastOrderId, final int size);
+
     void updateNotValidById(final Long id);
+
+    List<Long> updateNotValidByIds(final List<Long> ids);
+
+    List<List<Long>> partitionIds(final List<Long> ids);
 }
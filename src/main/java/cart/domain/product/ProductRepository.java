@@ -1,6 +1,8 @@
 package cart.domain.product;
 
+import cart.domain.catalog.TableVersion;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProductRepository {
 
@@ -10,13 +12,25 @@ public interface ProductRepository {
 
     Long save(final Product product);
 
+    void saveAll(final List<Product> products);
+
     void updateProduct(final Long id, final Product product);
 
     void deleteProduct(final Long id);
 
     boolean existById(final Long id);
 
+    List<Long> findNotDeletedProductIds(final List<Long> ids);
+
     List<Product> getProductsByPage(final int page, final int size);
 
     long getAllProductCount();
+
+    List<Product> getProductsAfterId(final Long lastId, final int size);
+
+    long getNotDeletedProductCount();
+
+    void forEachProduct(final int fetchSize, final Consumer<Product> consumer);
+
+    TableVersion getTableVersion();
 }
@@ -1,23 +1,34 @@
 package cart.domain.refund;
 
-import cart.domain.order.Order;
 import cart.exception.BadRequestException;
 import cart.exception.ErrorCode;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 public class RefundPolicyComposite {
 
-    private final List<RefundPolicy> refundPolicies;
+    private final RefundPolicy[] refundPolicies;
+    private final long[] windowEndMillis;
 
     public RefundPolicyComposite(final List<RefundPolicy> refundPolicies) {
-        this.refundPolicies = refundPolicies;
+        this.refundPolicies = refundPolicies.stream()
+            .sorted(Comparator.comparingInt(refundPolicy -> refundPolicy.getLimitDate().getDay()))
+            .toArray(RefundPolicy[]::new);
+        this.windowEndMillis = Arrays.stream(this.refundPolicies)
+            .mapToLong(refundPolicy -> Duration.ofDays(refundPolicy.getLimitDate().getDay()).toMillis())
+            .toArray();
     }
 
-    public RefundPolicy getRefundPolicies(final Order order, final LocalDateTime currentTime) {
-        return refundPolicies.stream()
-            .filter(refundPolicy -> refundPolicy.isAvailable(order, currentTime))
-            .findFirst()
-            .orElseThrow(() -> new BadRequestException(ErrorCode.ORDER_CANNOT_CANCEL));
+    public RefundPolicy getRefundPolicy(final LocalDateTime orderedAt, final LocalDateTime currentTime) {
+        final long elapsedMillis = Duration.between(orderedAt, currentTime).toMillis();
+        final int searchedIndex = Arrays.binarySearch(windowEndMillis, elapsedMillis);
+        final int windowIndex = searchedIndex >= 0 ? searchedIndex + 1 : -(searchedIndex + 1);
+        if (windowIndex >= refundPolicies.length) {
+            throw new BadRequestException(ErrorCode.ORDER_CANNOT_CANCEL);
+        }
+        return refundPolicies[windowIndex];
     }
 }
@@ -5,21 +5,79 @@ import java.security.NoSuchAlgorithmException;
 
 public class SHA256Service {
 
+    private static final String ALGORITHM = "SHA-256";
+    private static final int DIGEST_LENGTH = 32;
+    private static final int HEX_LENGTH = DIGEST_LENGTH * 2;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int HEX_RADIX = 16;
+
+    private static final ThreadLocal<DigestContext> DIGEST_CONTEXT = ThreadLocal.withInitial(DigestContext::new);
+
     public static String encrypt(final String target) {
-        try {
-            final MessageDigest md = MessageDigest.getInstance("SHA-256");
-            md.update(target.getBytes());
-            return bytesToHex(md.digest());
-        } catch (NoSuchAlgorithmException ignored) {
-            throw new RuntimeException("암호화 중 오류가 발생하였습니다.");
+        final DigestContext context = DIGEST_CONTEXT.get();
+        final byte[] digest = context.digest(target);
+        return new String(context.toHex(digest));
+    }
+
+    public static byte[] digest(final String target) {
+        return DIGEST_CONTEXT.get().digest(target);
+    }
+
+    public static boolean matches(final String target, final String encrypted) {
+        if (target == null || encrypted == null || encrypted.length() != HEX_LENGTH) {
+            return false;
+        }
+        final DigestContext context = DIGEST_CONTEXT.get();
+        final byte[] expected = context.fromHex(encrypted);
+        if (expected == null) {
+            return false;
         }
+        return MessageDigest.isEqual(context.digest(target), expected);
+    }
+
+    public static boolean matches(final byte[] digest, final byte[] expected) {
+        return MessageDigest.isEqual(digest, expected);
     }
 
-    private static String bytesToHex(byte[] bytes) {
-        final StringBuilder builder = new StringBuilder();
-        for (byte b : bytes) {
-            builder.append(String.format("%02x", b));
+    private static class DigestContext {
+
+        private final MessageDigest messageDigest;
+        private final char[] hexBuffer = new char[HEX_LENGTH];
+        private final byte[] decodeBuffer = new byte[DIGEST_LENGTH];
+
+        private DigestContext() {
+            try {
+                this.messageDigest = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException ignored) {
+                throw new RuntimeException("암호화 중 오류가 발생하였습니다.");
+            }
+        }
+
+        private byte[] digest(final String target) {
+            return messageDigest.digest(target.getBytes());
+        }
+
+        private char[] toHex(final byte[] bytes) {
+            for (int i = 0; i < bytes.length; i++) {
+                final int value = bytes[i] & 0xff;
+                hexBuffer[i * 2] = HEX_DIGITS[value >>> 4];
+                hexBuffer[i * 2 + 1] = HEX_DIGITS[value & 0x0f];
+            }
+            return hexBuffer;
+        }
+
+        private byte[] fromHex(final String hex) {
+            int invalid = 0;
+            for (int i = 0; i < DIGEST_LENGTH; i++) {
+                final int high = Character.digit(hex.charAt(i * 2), HEX_RADIX);
+                final int low = Character.digit(hex.charAt(i * 2 + 1), HEX_RADIX);
+                invalid |= (high | low) & 0x80000000;
+                decodeBuffer[i] = (byte) ((high << 4) | low);
+            }
+            if (invalid != 0) {
+                return null;
+            }
+            return decodeBuffer;
         }
-        return builder.toString();
     }
 }
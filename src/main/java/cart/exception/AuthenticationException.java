@@ -5,6 +5,10 @@ import org.springframework.http.HttpStatus;
 public class AuthenticationException extends RuntimeException {
     private static final HttpStatus httpStatus = HttpStatus.UNAUTHORIZED;
 
+    public AuthenticationException() {
+        super(ErrorCode.UNAUTHORIZED.getMessage(), null, false, false);
+    }
+
     public HttpStatus getHttpStatus() {
         return httpStatus;
     }
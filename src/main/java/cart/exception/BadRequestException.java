@@ -9,6 +9,7 @@ public class BadRequestException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public BadRequestException(final ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 
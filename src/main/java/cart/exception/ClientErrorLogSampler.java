@@ -0,0 +1,32 @@
+package cart.exception;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ClientErrorLogSampler {
+
+    private final Map<ErrorCode, AtomicLong> occurrences = new EnumMap<>(ErrorCode.class);
+    private final int sampleRate;
+
+    public ClientErrorLogSampler(@Value("${exception.log.client-error-sample-rate:1}") final int sampleRate) {
+        this.sampleRate = Math.max(sampleRate, 1);
+        for (final ErrorCode errorCode : ErrorCode.values()) {
+            occurrences.put(errorCode, new AtomicLong());
+        }
+    }
+
+    /**
+     * 같은 에러 코드의 sampleRate 번째 발생마다 0보다 큰 누적 발생 횟수를 돌려주고, 나머지는 0을 돌려준다.
+     */
+    public long sample(final ErrorCode errorCode) {
+        final long occurrence = occurrences.get(errorCode).incrementAndGet();
+        if ((occurrence - 1) % sampleRate == 0) {
+            return occurrence;
+        }
+        return 0;
+    }
+}
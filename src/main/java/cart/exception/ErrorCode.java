@@ -8,6 +8,8 @@ public enum ErrorCode {
     PRODUCT_NAME_LENGTH("상품 이름의 길이는 1 ~ 20자까지 가능합니다."),
     PRODUCT_PRICE_RANGE("상품 가격은 1 ~ 10,000,000원까지 가능합니다."),
     PRODUCT_DELETED("현재 판매 중이지 않은 상품은 주문할 수 없습니다."),
+    PRODUCT_PAGE_SIZE_RANGE("상품 목록은 한 번에 1 ~ 100개까지 조회할 수 있습니다."),
+    PRODUCT_FILE_FORMAT_UNSUPPORTED("상품 파일은 NDJSON, CSV 형식만 지원합니다."),
 
     /**
      * MEMBER
@@ -27,9 +29,8 @@ public enum ErrorCode {
     COUPON_DUPLICATE("이미 존재하는 쿠폰 정보입니다."),
     COUPON_NOT_FOUND("쿠폰 정보를 찾을 수 없습니다."),
     COUPON_EXPIRED("만료된 쿠폰입니다."),
-    COUPON_ALREADY_EXIST("이미 발급된 쿠폰입니다."),
     COUPON_ALREADY_USED("이미 사용한 쿠폰입니다."),
-    COUPON_NOT_FIRST_ORDER("첫 주문이 아닙니다."),
+    COUPON_IN_USE("회원에게 발급되었거나 주문에 사용된 쿠폰은 삭제할 수 없습니다."),
 
     /**
      * CART
@@ -44,6 +45,10 @@ public enum ErrorCode {
     ORDER_INVALID_PRODUCTS("장바구니에 담기지 않은 상품은 주문할 수 없습니다."),
     ORDER_QUANTITY_EXCEED("상품은 최대 100,000개까지 주문할 수 있습니다."),
     ORDER_CANNOT_CANCEL("주문 취소 기간이 지나 취소가 불가능합니다."),
+    ORDER_PAGE_SIZE_RANGE("주문 목록은 한 번에 1 ~ 100개까지 조회할 수 있습니다."),
+    ORDER_CURSOR_INVALID("주문 목록의 커서 정보가 올바르지 않습니다."),
+    ORDER_ALREADY_CANCELED("이미 취소된 주문입니다."),
+    ORDER_CANCEL_SIZE_RANGE("주문은 한 번에 1 ~ 1,000개까지 취소할 수 있습니다."),
 
     /**
      * VALIDATION ERROR
@@ -65,6 +70,7 @@ public enum ErrorCode {
      */
     DB_UPDATE_ERROR("DB 업데이트가 정상적으로 진행되지 않았습니다."),
     DB_DELETE_ERROR("DB 삭제가 정상적으로 진행되지 않았습니다."),
+    DB_SHARD_ERROR("샤드 조회가 정상적으로 진행되지 않았습니다."),
     INTERNAL_SERVER_ERROR("서버에서 예기치 못한 오류가 발생하였습니다.");
 
     private final String message;
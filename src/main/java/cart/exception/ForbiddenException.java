@@ -8,6 +8,7 @@ public class ForbiddenException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public ForbiddenException(final ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 
@@ -5,6 +5,7 @@ import static cart.exception.ErrorCode.INTERNAL_SERVER_ERROR;
 import static cart.exception.ErrorCode.INVALID_REQUEST;
 import static cart.exception.ErrorCode.UNAUTHORIZED;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -19,40 +20,51 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String ERROR_COUNTER = "cart.errors";
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    private final MeterRegistry meterRegistry;
+    private final ClientErrorLogSampler clientErrorLogSampler;
+
+    public GlobalExceptionHandler(final MeterRegistry meterRegistry,
+                                  final ClientErrorLogSampler clientErrorLogSampler) {
+        this.meterRegistry = meterRegistry;
+        this.clientErrorLogSampler = clientErrorLogSampler;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponses> methodArgumentNotValidException(final MethodArgumentNotValidException e) {
         final List<String> errorMessage = getErrorMessage(e);
-        log.warn(String.join("", errorMessage), e);
+        recordClientError(INVALID_REQUEST, HttpStatus.BAD_REQUEST, String.join("", errorMessage));
         final ErrorResponses errorResponse = new ErrorResponses(INVALID_REQUEST, errorMessage);
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> authenticationException(final AuthenticationException e) {
-        log.warn(UNAUTHORIZED.getMessage(), e);
+        recordClientError(UNAUTHORIZED, e.getHttpStatus(), UNAUTHORIZED.getMessage());
         final ErrorResponse errorResponse = new ErrorResponse(UNAUTHORIZED, UNAUTHORIZED.getMessage());
         return ResponseEntity.status(e.getHttpStatus()).body(errorResponse);
     }
 
     @ExceptionHandler(ForbiddenException.class)
     public ResponseEntity<ErrorResponse> forbiddenException(final ForbiddenException e) {
-        log.warn(FORBIDDEN.getMessage(), e);
+        recordClientError(FORBIDDEN, e.getHttpStatus(), FORBIDDEN.getMessage());
         final ErrorResponse errorResponse = new ErrorResponse(FORBIDDEN, FORBIDDEN.getMessage());
         return ResponseEntity.status(e.getHttpStatus()).body(errorResponse);
     }
 
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponse> notFoundException(final NotFoundException e) {
-        log.warn(e.getErrorCode().getMessage(), e);
+        recordClientError(e.getErrorCode(), e.getHttpStatus(), e.getErrorCode().getMessage());
         final ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getErrorCode().getMessage());
         return ResponseEntity.status(e.getHttpStatus()).body(errorResponse);
     }
 
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResponse> badRequestException(final BadRequestException e) {
-        log.warn(e.getErrorCode().getMessage(), e);
+        recordClientError(e.getErrorCode(), e.getHttpStatus(), e.getErrorCode().getMessage());
         final ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getErrorCode().getMessage());
         return ResponseEntity.status(e.getHttpStatus()).body(errorResponse);
     }
@@ -60,6 +72,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(DBException.class)
     public ResponseEntity<ErrorResponse> dbException(final DBException e) {
         log.error(e.getErrorCode().getMessage(), e);
+        countError(e.getErrorCode(), e.getHttpStatus());
         final ErrorResponse errorResponse = new ErrorResponse(e.getErrorCode(), e.getErrorCode().getMessage());
         return ResponseEntity.status(e.getHttpStatus()).body(errorResponse);
     }
@@ -67,11 +80,25 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> exception(final Exception e) {
         log.error(INTERNAL_SERVER_ERROR.getMessage(), e);
+        countError(INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR);
         final ErrorResponse errorResponse = new ErrorResponse(INTERNAL_SERVER_ERROR,
             INTERNAL_SERVER_ERROR.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    private void recordClientError(final ErrorCode errorCode, final HttpStatus httpStatus, final String message) {
+        countError(errorCode, httpStatus);
+        final long occurrence = clientErrorLogSampler.sample(errorCode);
+        if (occurrence > 0) {
+            log.warn("{} errorCode={} status={} occurrence={}", message, errorCode, httpStatus.value(), occurrence);
+        }
+    }
+
+    private void countError(final ErrorCode errorCode, final HttpStatus httpStatus) {
+        meterRegistry.counter(ERROR_COUNTER, "errorCode", errorCode.name(),
+            "status", String.valueOf(httpStatus.value())).increment();
+    }
+
     private List<String> getErrorMessage(final MethodArgumentNotValidException e) {
         return e.getFieldErrors().stream()
             .map(DefaultMessageSourceResolvable::getDefaultMessage)
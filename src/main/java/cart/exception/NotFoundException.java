@@ -9,6 +9,7 @@ public class NotFoundException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public NotFoundException(final ErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 
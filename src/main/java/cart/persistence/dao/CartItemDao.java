@@ -3,10 +3,12 @@ package cart.persistence.dao;
 import cart.persistence.dao.dto.CartItemDto;
 import cart.persistence.entity.CartEntity;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -67,6 +69,38 @@ public class CartItemDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    public int insertOrIncreaseQuantity(final CartEntity cartEntity, final int maxQuantity) {
+        final String sql = "INSERT INTO cart_item(member_id, product_id, quantity) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE quantity = LEAST(quantity + VALUES(quantity), ?)";
+        return jdbcTemplate.update(sql, cartEntity.getMemberId(), cartEntity.getProductId(),
+            cartEntity.getQuantity(), maxQuantity);
+    }
+
+    public int[] insertOrIncreaseQuantities(final List<CartEntity> cartEntities, final int maxQuantity) {
+        final String sql = "INSERT INTO cart_item(member_id, product_id, quantity) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE quantity = LEAST(quantity + VALUES(quantity), ?)";
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                ps.setLong(1, cartEntities.get(i).getMemberId());
+                ps.setLong(2, cartEntities.get(i).getProductId());
+                ps.setInt(3, cartEntities.get(i).getQuantity());
+                ps.setInt(4, maxQuantity);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return cartEntities.size();
+            }
+        });
+    }
+
+    public Optional<Long> findIdByMemberIdAndProductId(final Long memberId, final Long productId) {
+        final String sql = "SELECT id FROM cart_item WHERE member_id = ? AND product_id = ?";
+        final List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, memberId, productId);
+        return ids.stream().findFirst();
+    }
+
     public Optional<CartItemDto> findById(final Long id) {
         try {
             final String sql = "SELECT cart_item.id AS cartItemId, cart_item.member_id AS memberId, "
@@ -123,31 +157,22 @@ public class CartItemDao {
         return namedParameterJdbcTemplate.update(sql, mapSqlParameterSource);
     }
 
-    public boolean existByMemberNameAndProductId(final String memberName, final Long productId) {
-        final String sql = "SELECT COUNT(*) FROM cart_item ci " +
-            "INNER JOIN member m ON ci.member_id = m.id " +
-            "WHERE m.name = ? and ci.product_id = ?";
-        final long count = jdbcTemplate.queryForObject(sql, Long.class, memberName, productId);
-        return count > 0;
+    public List<CartEntity> findByMemberIdAndProductIds(final Long memberId, final List<Long> productIds) {
+        final String sql = "SELECT id, member_id, product_id, quantity FROM cart_item "
+            + "WHERE member_id = :memberId AND product_id IN (:productIds)";
+        final MapSqlParameterSource mapSqlParameterSource = new MapSqlParameterSource();
+        mapSqlParameterSource.addValue("memberId", memberId);
+        mapSqlParameterSource.addValue("productIds", productIds);
+        return namedParameterJdbcTemplate.query(sql, mapSqlParameterSource,
+            (rs, rowNum) -> new CartEntity(rs.getLong("id"), rs.getLong("member_id"), rs.getLong("product_id"),
+                rs.getInt("quantity")));
     }
 
     public int deleteByProductIdsAndMemberId(final List<Long> productIds, final Long memberId) {
-        final String sql = "DELETE FROM cart_item AS c "
-            + "WHERE c.id "
-            + "IN ("
-            + "    SELECT cart_item_temp.id"
-            + "    FROM"
-            + "    ("
-            + "        SELECT ci.id AS id FROM cart_item AS ci"
-            + "        INNER JOIN member AS m ON ci.member_id = m.id"
-            + "        INNER JOIN product AS c ON c.id = ci.product_id"
-            + "        AND c.id IN (:productIds) AND m.id = :memberId "
-            + "    ) cart_item_temp"
-            + ")";
+        final String sql = "DELETE FROM cart_item WHERE member_id = :memberId AND product_id IN (:productIds)";
         final MapSqlParameterSource mapSqlParameterSource = new MapSqlParameterSource();
         mapSqlParameterSource.addValue("productIds", productIds);
         mapSqlParameterSource.addValue("memberId", memberId);
         return namedParameterJdbcTemplate.update(sql, mapSqlParameterSource);
     }
 }
-
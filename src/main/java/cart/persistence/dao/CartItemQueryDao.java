@@ -0,0 +1,30 @@
+package cart.persistence.dao;
+
+import cart.domain.cartitem.CartItemSummary;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CartItemQueryDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CartItemQueryDao(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<CartItemSummary> findSummariesByMemberId(final Long memberId) {
+        final String sql = "SELECT ci.id, ci.quantity, p.id, p.name, p.price, p.image_url "
+            + "FROM cart_item ci "
+            + "INNER JOIN product p ON ci.product_id = p.id "
+            + "WHERE ci.member_id = ? "
+            + "ORDER BY ci.id";
+        final List<CartItemSummary> cartItemSummaries = new ArrayList<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> cartItemSummaries.add(new CartItemSummary(
+            rs.getLong(1), rs.getInt(2), rs.getLong(3), rs.getString(4), rs.getInt(5), rs.getString(6))), memberId);
+        return cartItemSummaries;
+    }
+}
@@ -1,5 +1,6 @@
 package cart.persistence.dao;
 
+import cart.persistence.dao.dto.TableVersionDto;
 import cart.persistence.entity.CouponEntity;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
@@ -68,6 +69,13 @@ public class CouponDao {
         return jdbcTemplate.update(sql, couponId);
     }
 
+    public boolean existReferenceById(final Long couponId) {
+        final String sql = "SELECT (SELECT COUNT(*) FROM member_coupon WHERE coupon_id = ?) "
+            + "+ (SELECT COUNT(*) FROM order_coupon WHERE coupon_id = ?)";
+        final long count = jdbcTemplate.queryForObject(sql, Long.class, couponId, couponId);
+        return count > 0;
+    }
+
     public boolean existByNameAndDiscountRate(final String name, final int discountRate) {
         final String sql = "SELECT COUNT(*) FROM coupon WHERE name = ? and discount_rate = ?";
         final long count = jdbcTemplate.queryForObject(sql, Long.class, name, discountRate);
@@ -82,4 +90,11 @@ public class CouponDao {
             return Optional.empty();
         }
     }
+
+    public TableVersionDto getTableVersion() {
+        final String sql = "SELECT COUNT(*) AS row_count, COALESCE(MAX(id), 0) AS max_id, "
+            + "COALESCE(SUM(version), 0) AS version_sum FROM coupon";
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new TableVersionDto(rs.getLong("row_count"),
+            rs.getLong("max_id"), rs.getLong("version_sum")));
+    }
 }
@@ -0,0 +1,60 @@
+package cart.persistence.dao;
+
+import cart.persistence.entity.CouponIssueOutboxEntity;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CouponIssueOutboxDao {
+
+    private final RowMapper<CouponIssueOutboxEntity> couponIssueOutboxEntityRowMapper = (rs, rowNum) ->
+        new CouponIssueOutboxEntity(
+            rs.getLong("id"),
+            rs.getLong("member_id"),
+            rs.getString("coupon_type"),
+            rs.getTimestamp("requested_at").toLocalDateTime()
+        );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public CouponIssueOutboxDao(final JdbcTemplate jdbcTemplate,
+                                final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    public int insert(final CouponIssueOutboxEntity couponIssueOutboxEntity) {
+        final String sql = "INSERT INTO coupon_issue_outbox (member_id, coupon_type, requested_at, next_attempt_at) "
+            + "VALUES (?, ?, ?, ?)";
+        final Timestamp requestedAt = Timestamp.valueOf(couponIssueOutboxEntity.getRequestedAt());
+        return jdbcTemplate.update(sql, couponIssueOutboxEntity.getMemberId(),
+            couponIssueOutboxEntity.getCouponType(), requestedAt, requestedAt);
+    }
+
+    public List<CouponIssueOutboxEntity> findOldest(final LocalDateTime now, final int limit) {
+        final String sql = "SELECT id, member_id, coupon_type, requested_at FROM coupon_issue_outbox "
+            + "WHERE next_attempt_at <= ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, couponIssueOutboxEntityRowMapper, Timestamp.valueOf(now), limit);
+    }
+
+    public int postponeByIds(final List<Long> ids, final LocalDateTime nextAttemptAt) {
+        final String sql = "UPDATE coupon_issue_outbox SET attempt_count = attempt_count + 1, "
+            + "next_attempt_at = :nextAttemptAt WHERE id IN (:ids)";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids)
+            .addValue("nextAttemptAt", Timestamp.valueOf(nextAttemptAt));
+        return namedParameterJdbcTemplate.update(sql, parameters);
+    }
+
+    public int deleteByIds(final List<Long> ids) {
+        final String sql = "DELETE FROM coupon_issue_outbox WHERE id IN (:ids)";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        return namedParameterJdbcTemplate.update(sql, parameters);
+    }
+}
@@ -3,14 +3,20 @@ package cart.persistence.dao;
 import cart.persistence.dao.dto.MemberCouponDto;
 import cart.persistence.entity.MemberCouponEntity;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -33,9 +39,12 @@ public class MemberCouponDao {
         );
 
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
-    public MemberCouponDao(final JdbcTemplate jdbcTemplate) {
+    public MemberCouponDao(final JdbcTemplate jdbcTemplate,
+                           final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
     }
 
     public Long insert(final MemberCouponEntity memberCoupon) {
@@ -56,6 +65,29 @@ public class MemberCouponDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    public int insertAll(final List<MemberCouponEntity> memberCoupons) {
+        final String values = String.join(", ", Collections.nCopies(memberCoupons.size(), "(?, ?, ?, ?, ?)"));
+        final String sql = "INSERT INTO member_coupon (member_id, coupon_id, issued_at, expired_at, is_used) "
+            + "VALUES " + values;
+        final List<Object> parameters = new ArrayList<>(memberCoupons.size() * 5);
+        for (final MemberCouponEntity memberCoupon : memberCoupons) {
+            parameters.add(memberCoupon.getMemberId());
+            parameters.add(memberCoupon.getCouponId());
+            parameters.add(Timestamp.valueOf(memberCoupon.getIssuedAt()));
+            parameters.add(Timestamp.valueOf(memberCoupon.getExpiredAt()));
+            parameters.add(memberCoupon.isUsed());
+        }
+        return jdbcTemplate.update(sql, parameters.toArray());
+    }
+
+    public List<Long> findMemberIdsByCouponIdAndMemberIds(final Long couponId, final List<Long> memberIds) {
+        final String sql = "SELECT member_id FROM member_coupon WHERE coupon_id = :couponId AND member_id IN (:memberIds)";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("couponId", couponId)
+            .addValue("memberIds", memberIds);
+        return namedParameterJdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
     public boolean existByMemberIdAndCouponId(final Long memberId, final Long couponId) {
         final String sql = "SELECT COUNT(*) FROM member_coupon WHERE member_id = ? and coupon_id = ?";
         final long count = jdbcTemplate.queryForObject(sql, Long.class, memberId, couponId);
@@ -99,4 +131,21 @@ public class MemberCouponDao {
             + "WHERE member_id = ? and coupon_id = ?";
         return jdbcTemplate.update(sql, memberId, couponId);
     }
+
+    public int[] updateNotUsedAll(final List<Long> memberIds, final List<Long> couponIds) {
+        final String sql = "UPDATE member_coupon SET is_used = 0 "
+            + "WHERE member_id = ? and coupon_id = ?";
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                ps.setLong(1, memberIds.get(i));
+                ps.setLong(2, couponIds.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return memberIds.size();
+            }
+        });
+    }
 }
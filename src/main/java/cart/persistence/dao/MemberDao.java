@@ -36,6 +36,11 @@ public class MemberDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    public int insertWithId(final MemberEntity memberEntity) {
+        final String query = "INSERT INTO member(id, name, password) VALUES (?, ?, ?)";
+        return jdbcTemplate.update(query, memberEntity.getId(), memberEntity.getName(), memberEntity.getPassword());
+    }
+
     public Optional<MemberEntity> findById(final Long id) {
         final String query = "SELECT m.id, m.name, m.password FROM member m WHERE m.id = ?";
         try {
@@ -1,13 +1,18 @@
 package cart.persistence.dao;
 
 import cart.persistence.dao.dto.OrderDto;
+import cart.persistence.dao.dto.OrderHeaderDto;
 import cart.persistence.entity.OrderEntity;
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
@@ -37,10 +42,38 @@ public class OrderDao {
         rs.getBoolean("productIsDeleted")
     );
 
+    private final RowMapper<OrderHeaderDto> orderHeaderDtoRowMapper = (rs, count) -> {
+        final Timestamp couponExpiredAt = rs.getTimestamp("couponExpiredAt");
+        return new OrderHeaderDto(
+            rs.getLong("orderId"),
+            rs.getLong("memberId"),
+            rs.getString("memberName"),
+            rs.getBigDecimal("totalPrice"),
+            rs.getBigDecimal("discountedTotalPrice"),
+            rs.getInt("deliveryPrice"),
+            rs.getTimestamp("orderedAt").toLocalDateTime(),
+            rs.getBoolean("isValid"),
+            rs.getObject("couponId", Long.class),
+            couponExpiredAt == null ? null : couponExpiredAt.toLocalDateTime()
+        );
+    };
+
+    private static final String ORDER_HEADER_SQL = "SELECT o.id AS orderId, o.member_id AS memberId, "
+        + "m.name AS memberName, o.total_price AS totalPrice, o.discounted_total_price AS discountedTotalPrice, "
+        + "o.delivery_price AS deliveryPrice, o.ordered_at AS orderedAt, o.is_valid AS isValid, "
+        + "c.id AS couponId, c.expired_at AS couponExpiredAt "
+        + "FROM `order` o "
+        + "JOIN member m on o.member_id = m.id "
+        + "LEFT JOIN order_coupon oc on o.id = oc.order_id "
+        + "LEFT JOIN coupon c on c.id = oc.coupon_id ";
+
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
-    public OrderDao(final JdbcTemplate jdbcTemplate) {
+    public OrderDao(final JdbcTemplate jdbcTemplate,
+                    final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
     }
 
     public Long insert(final OrderEntity orderEntity) {
@@ -61,9 +94,9 @@ public class OrderDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
-    public Long countByMemberId(final Long memberId) {
-        final String sql = "SELECT COUNT(*) FROM `order` WHERE member_id = ?";
-        return jdbcTemplate.queryForObject(sql, Long.class, memberId);
+    public boolean existByMemberIdExceptOrderId(final Long memberId, final Long orderId) {
+        final String sql = "SELECT 1 FROM `order` WHERE member_id = ? AND id <> ? LIMIT 1";
+        return !jdbcTemplate.queryForList(sql, Integer.class, memberId, orderId).isEmpty();
     }
 
     public List<OrderDto> findById(final Long id) {
@@ -84,6 +117,17 @@ public class OrderDao {
         return jdbcTemplate.query(sql, orderDtoRowMapper, id);
     }
 
+    public Optional<OrderHeaderDto> findHeaderById(final Long id) {
+        final String sql = ORDER_HEADER_SQL + "WHERE o.id = ?";
+        return jdbcTemplate.query(sql, orderHeaderDtoRowMapper, id).stream().findAny();
+    }
+
+    public List<OrderHeaderDto> findHeadersByIds(final List<Long> ids) {
+        final String sql = ORDER_HEADER_SQL + "WHERE o.id IN (:ids)";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        return namedParameterJdbcTemplate.query(sql, parameters, orderHeaderDtoRowMapper);
+    }
+
     public List<OrderDto> findByMemberName(final String memberName) {
         final String sql = "SELECT m.id AS memberId, m.name AS memberName, m.password AS memberPassword, "
             + "o.id AS orderId, o.total_price AS totalPrice, o.discounted_total_price AS discountedTotalPrice, "
@@ -98,12 +142,61 @@ public class OrderDao {
             + "LEFT JOIN coupon c on c.id = oc.coupon_id "
             + "LEFT JOIN order_product op on o.id = op.order_id "
             + "LEFT JOIN product p on op.product_id = p.id "
-            + "WHERE m.name = ?";
+            + "WHERE m.name = ? "
+            + "ORDER BY o.id, op.id";
         return jdbcTemplate.query(sql, orderDtoRowMapper, memberName);
     }
 
+    public List<OrderDto> findLatestByMemberName(final String memberName, final int limit) {
+        final String pagedOrderSql = "SELECT o.* FROM `order` o "
+            + "JOIN member m on o.member_id = m.id "
+            + "WHERE m.name = ? "
+            + "ORDER BY o.ordered_at DESC, o.id DESC LIMIT ?";
+        return jdbcTemplate.query(pagedOrderDetailSql(pagedOrderSql), orderDtoRowMapper, memberName, limit);
+    }
+
+    public List<OrderDto> findByMemberNameBeforeCursor(final String memberName, final LocalDateTime orderedAt,
+                                                       final Long orderId, final int limit) {
+        final String pagedOrderSql = "SELECT o.* FROM `order` o "
+            + "JOIN member m on o.member_id = m.id "
+            + "WHERE m.name = ? AND (o.ordered_at < ? OR (o.ordered_at = ? AND o.id < ?)) "
+            + "ORDER BY o.ordered_at DESC, o.id DESC LIMIT ?";
+        final Timestamp cursorOrderedAt = Timestamp.valueOf(orderedAt);
+        return jdbcTemplate.query(pagedOrderDetailSql(pagedOrderSql), orderDtoRowMapper,
+            memberName, cursorOrderedAt, cursorOrderedAt, orderId, limit);
+    }
+
     public int updateNotValidById(final Long id) {
         final String sql = "UPDATE `order` SET is_valid = 0 WHERE id = ?";
         return jdbcTemplate.update(sql, id);
     }
+
+    public List<Long> findValidIdsByIdsForUpdate(final List<Long> ids) {
+        final String sql = "SELECT id FROM `order` WHERE id IN (:ids) AND is_valid = 1 FOR UPDATE";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        return namedParameterJdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    public int updateNotValidByIds(final List<Long> ids) {
+        final String sql = "UPDATE `order` SET is_valid = 0 WHERE id IN (:ids) AND is_valid = 1";
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        return namedParameterJdbcTemplate.update(sql, parameters);
+    }
+
+    private String pagedOrderDetailSql(final String pagedOrderSql) {
+        return "SELECT m.id AS memberId, m.name AS memberName, m.password AS memberPassword, "
+            + "o.id AS orderId, o.total_price AS totalPrice, o.discounted_total_price AS discountedTotalPrice, "
+            + "o.delivery_price AS deliveryPrice, o.ordered_at AS orderedAt, o.is_valid AS isValid, "
+            + "c.id AS couponId, c.name AS couponName, c.discount_rate AS couponDiscountRate, "
+            + "c.period AS couponPeriod, c.expired_at AS couponExpiredAt, "
+            + "op.ordered_product_price AS orderedProductPrice, op.quantity as orderQuantity, "
+            + "p.id AS productId, p.name AS productName, p.image_url AS productImageUrl, p.is_deleted As productIsDeleted "
+            + "FROM (" + pagedOrderSql + ") o "
+            + "JOIN member m on o.member_id = m.id "
+            + "LEFT JOIN order_coupon oc on o.id = oc.order_id "
+            + "LEFT JOIN coupon c on c.id = oc.coupon_id "
+            + "LEFT JOIN order_product op on o.id = op.order_id "
+            + "LEFT JOIN product p on op.product_id = p.id "
+            + "ORDER BY o.ordered_at DESC, o.id DESC, op.id";
+    }
 }
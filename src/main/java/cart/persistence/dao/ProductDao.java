@@ -1,14 +1,25 @@
 package cart.persistence.dao;
 
+import cart.exception.DBException;
+import cart.exception.ErrorCode;
+import cart.persistence.dao.dto.TableVersionDto;
 import cart.persistence.entity.ProductEntity;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -26,9 +37,12 @@ public class ProductDao {
     };
 
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
-    public ProductDao(JdbcTemplate jdbcTemplate) {
+    public ProductDao(final JdbcTemplate jdbcTemplate,
+                      final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
     }
 
     public List<ProductEntity> getNotDeletedProducts() {
@@ -44,6 +58,22 @@ public class ProductDao {
         return jdbcTemplate.query(sql, productEntityRowMapper, size, offset);
     }
 
+    public List<ProductEntity> getNotDeletedProductsAfterId(final Long lastId, final int size) {
+        final String sql = "SELECT id, name, image_url, price, is_deleted FROM product "
+            + "WHERE is_deleted = 0 AND id > ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, productEntityRowMapper, lastId, size);
+    }
+
+    public List<Long> getNotDeletedProductIds(final List<Long> productIds) {
+        final String sql = "SELECT id FROM product WHERE id IN (:productIds) AND is_deleted = 0";
+        return namedParameterJdbcTemplate.queryForList(sql, Map.of("productIds", productIds), Long.class);
+    }
+
+    public long getNotDeletedProductCount() {
+        final String sql = "SELECT COUNT(*) FROM product WHERE is_deleted = 0";
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
     public long getAllProductCount() {
         final String sql = "SELECT COUNT(*) FROM product";
         return jdbcTemplate.queryForObject(sql, Long.class);
@@ -73,8 +103,35 @@ public class ProductDao {
         return Objects.requireNonNull(keyHolder.getKey()).longValue();
     }
 
+    public List<Long> insertAll(final List<ProductEntity> products) {
+        final String sql = "INSERT INTO product (name, price, image_url) VALUES (?, ?, ?)";
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (final PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"})) {
+                for (final ProductEntity product : products) {
+                    ps.setString(1, product.getName());
+                    ps.setInt(2, product.getPrice());
+                    ps.setString(3, product.getImageUrl());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                return getGeneratedIds(ps, products.size());
+            }
+        });
+    }
+
+    public void forEachNotDeletedProduct(final int fetchSize, final Consumer<ProductEntity> consumer) {
+        final String sql = "SELECT id, name, image_url, price, is_deleted FROM product "
+            + "WHERE is_deleted = 0 ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(productEntityRowMapper.mapRow(rs, rs.getRow())));
+    }
+
     public int updateProduct(final Long productId, final ProductEntity product) {
-        final String sql = "UPDATE product SET name = ?, price = ?, image_url = ? WHERE id = ?";
+        final String sql = "UPDATE product SET name = ?, price = ?, image_url = ?, version = version + 1 WHERE id = ?";
         return jdbcTemplate.update(sql, product.getName(), product.getPrice(), product.getImageUrl(), productId);
     }
 
@@ -85,14 +142,34 @@ public class ProductDao {
     }
 
     public int updateProductDeleted(final Long productId) {
-        final String sql = "UPDATE product SET is_deleted = 1 WHERE id = ?";
+        final String sql = "UPDATE product SET is_deleted = 1, version = version + 1 WHERE id = ?";
         return jdbcTemplate.update(sql, productId);
     }
 
+    public TableVersionDto getTableVersion() {
+        final String sql = "SELECT COUNT(*) AS row_count, COALESCE(MAX(id), 0) AS max_id, "
+            + "COALESCE(SUM(version), 0) AS version_sum FROM product";
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new TableVersionDto(rs.getLong("row_count"),
+            rs.getLong("max_id"), rs.getLong("version_sum")));
+    }
+
     private int calculateOffset(final int page, final int size) {
         if (page == 1) {
             return 0;
         }
         return (page - 1) * size;
     }
+
+    private List<Long> getGeneratedIds(final PreparedStatement ps, final int expectedSize) throws SQLException {
+        final List<Long> ids = new ArrayList<>(expectedSize);
+        try (final ResultSet generatedKeys = ps.getGeneratedKeys()) {
+            while (generatedKeys.next()) {
+                ids.add(generatedKeys.getLong(1));
+            }
+        }
+        if (ids.size() != expectedSize) {
+            throw new DBException(ErrorCode.DB_UPDATE_ERROR);
+        }
+        return ids;
+    }
 }
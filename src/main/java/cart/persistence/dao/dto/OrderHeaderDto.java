@@ -0,0 +1,74 @@
+package cart.persistence.dao.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class OrderHeaderDto {
+
+    private final Long orderId;
+    private final Long memberId;
+    private final String memberName;
+    private final BigDecimal totalPrice;
+    private final BigDecimal discountedTotalPrice;
+    private final Integer deliveryPrice;
+    private final LocalDateTime orderedAt;
+    private final Boolean isValid;
+    private final Long couponId;
+    private final LocalDateTime couponExpiredAt;
+
+    public OrderHeaderDto(final Long orderId, final Long memberId, final String memberName,
+                          final BigDecimal totalPrice, final BigDecimal discountedTotalPrice,
+                          final Integer deliveryPrice, final LocalDateTime orderedAt, final Boolean isValid,
+                          final Long couponId, final LocalDateTime couponExpiredAt) {
+        this.orderId = orderId;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.totalPrice = totalPrice;
+        this.discountedTotalPrice = discountedTotalPrice;
+        this.deliveryPrice = deliveryPrice;
+        this.orderedAt = orderedAt;
+        this.isValid = isValid;
+        this.couponId = couponId;
+        this.couponExpiredAt = couponExpiredAt;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public BigDecimal getDiscountedTotalPrice() {
+        return discountedTotalPrice;
+    }
+
+    public Integer getDeliveryPrice() {
+        return deliveryPrice;
+    }
+
+    public LocalDateTime getOrderedAt() {
+        return orderedAt;
+    }
+
+    public Boolean getIsValid() {
+        return isValid;
+    }
+
+    public Long getCouponId() {
+        return couponId;
+    }
+
+    public LocalDateTime getCouponExpiredAt() {
+        return couponExpiredAt;
+    }
+}
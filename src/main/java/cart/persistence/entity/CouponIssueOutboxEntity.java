@@ -0,0 +1,39 @@
+package cart.persistence.entity;
+
+import java.time.LocalDateTime;
+
+public class CouponIssueOutboxEntity {
+
+    private final Long id;
+    private final Long memberId;
+    private final String couponType;
+    private final LocalDateTime requestedAt;
+
+    public CouponIssueOutboxEntity(final Long memberId, final String couponType, final LocalDateTime requestedAt) {
+        this(null, memberId, couponType, requestedAt);
+    }
+
+    public CouponIssueOutboxEntity(final Long id, final Long memberId, final String couponType,
+                                   final LocalDateTime requestedAt) {
+        this.id = id;
+        this.memberId = memberId;
+        this.couponType = couponType;
+        this.requestedAt = requestedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getCouponType() {
+        return couponType;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+}
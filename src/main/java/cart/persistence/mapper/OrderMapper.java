@@ -10,8 +10,10 @@ import cart.domain.member.Member;
 import cart.domain.order.BasicOrder;
 import cart.domain.order.CouponOrder;
 import cart.domain.order.Order;
+import cart.domain.order.OrderHeader;
 import cart.domain.product.Product;
 import cart.persistence.dao.dto.OrderDto;
+import cart.persistence.dao.dto.OrderHeaderDto;
 import cart.persistence.entity.OrderEntity;
 import cart.persistence.entity.OrderProductEntity;
 import java.util.List;
@@ -45,6 +47,13 @@ public class OrderMapper {
             order.getOrderedAt(), cartItems, order.getIsValid());
     }
 
+    public static OrderHeader convertOrderHeader(final OrderHeaderDto orderHeaderDto) {
+        return new OrderHeader(orderHeaderDto.getOrderId(), orderHeaderDto.getMemberId(),
+            orderHeaderDto.getMemberName(), orderHeaderDto.getTotalPrice(), orderHeaderDto.getDiscountedTotalPrice(),
+            orderHeaderDto.getDeliveryPrice(), orderHeaderDto.getOrderedAt(), orderHeaderDto.getIsValid(),
+            orderHeaderDto.getCouponId(), orderHeaderDto.getCouponExpiredAt());
+    }
+
     private static OrderProductEntity convertOrderProductEntity(final Long orderId,
                                                                 final CartItem cartItem) {
         final Product product = cartItem.getProduct();
@@ -0,0 +1,25 @@
+package cart.persistence.repository;
+
+import cart.common.shard.ShardRouter;
+import cart.domain.cartitem.CartItemQueryRepository;
+import cart.domain.cartitem.CartItemSummary;
+import cart.persistence.dao.CartItemQueryDao;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CartItemQueryRepositoryImpl implements CartItemQueryRepository {
+
+    private final CartItemQueryDao cartItemQueryDao;
+    private final ShardRouter shardRouter;
+
+    public CartItemQueryRepositoryImpl(final CartItemQueryDao cartItemQueryDao, final ShardRouter shardRouter) {
+        this.cartItemQueryDao = cartItemQueryDao;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public List<CartItemSummary> findSummariesByMemberId(final Long memberId) {
+        return shardRouter.onMember(memberId, () -> cartItemQueryDao.findSummariesByMemberId(memberId));
+    }
+}
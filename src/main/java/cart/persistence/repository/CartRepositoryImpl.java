@@ -2,7 +2,9 @@ package cart.persistence.repository;
 
 import static cart.persistence.mapper.CartMapper.convertCart;
 
+import cart.common.shard.ShardRouter;
 import cart.domain.cartitem.Cart;
+import cart.domain.cartitem.CartItem;
 import cart.domain.cartitem.CartRepository;
 import cart.domain.cartitem.dto.CartItemSaveReq;
 import cart.exception.DBException;
@@ -14,38 +16,68 @@ import cart.persistence.dao.dto.CartItemDto;
 import cart.persistence.entity.CartEntity;
 import cart.persistence.entity.MemberEntity;
 import cart.persistence.mapper.CartMapper;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class CartRepositoryImpl implements CartRepository {
 
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
     private final MemberDao memberDao;
     private final CartItemDao cartItemDao;
+    private final ShardRouter shardRouter;
 
-    public CartRepositoryImpl(final MemberDao memberDao, final CartItemDao cartItemDao) {
+    public CartRepositoryImpl(final MemberDao memberDao, final CartItemDao cartItemDao,
+                              final ShardRouter shardRouter) {
         this.memberDao = memberDao;
         this.cartItemDao = cartItemDao;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public Cart findByMemberName(final String memberName) {
-        final MemberEntity memberEntity = getMemberEntity(memberName);
-        final List<CartItemDto> carItems = cartItemDao.findByMemberName(memberName);
-        return CartMapper.convertCart(carItems, memberEntity);
+        return shardRouter.onMemberName(memberName, () -> {
+            final MemberEntity memberEntity = getMemberEntity(memberName);
+            final List<CartItemDto> carItems = cartItemDao.findByMemberName(memberName);
+            return CartMapper.convertCart(carItems, memberEntity);
+        });
     }
 
     @Override
-    public Long save(final String memberName, final CartItemSaveReq cartItemSaveReq) {
-        final MemberEntity memberEntity = getMemberEntity(memberName);
-        final CartEntity cartEntity = new CartEntity(memberEntity.getId(), cartItemSaveReq.getCartItemId(),
-            cartItemSaveReq.getCartItemQuantity());
-        return cartItemDao.insert(cartEntity);
+    public Long saveOrIncreaseQuantity(final String memberName, final CartItemSaveReq cartItemSaveReq) {
+        return shardRouter.onMemberName(memberName, () -> {
+            final MemberEntity memberEntity = getMemberEntity(memberName);
+            final CartEntity cartEntity = new CartEntity(memberEntity.getId(), cartItemSaveReq.getCartItemId(),
+                cartItemSaveReq.getCartItemQuantity());
+            insertOrIncreaseQuantity(cartEntity);
+            final Long cartItemId = cartItemDao.findIdByMemberIdAndProductId(cartEntity.getMemberId(),
+                    cartEntity.getProductId())
+                .orElseThrow(() -> new DBException(ErrorCode.DB_UPDATE_ERROR));
+            shardRouter.checkRowId(memberEntity.getId(), cartItemId);
+            return cartItemId;
+        });
+    }
+
+    @Override
+    public Map<Long, Long> saveOrIncreaseQuantities(final Long memberId,
+                                                    final List<CartItemSaveReq> cartItemSaveReqs) {
+        return shardRouter.onMember(memberId, () -> insertOrIncreaseQuantities(memberId, cartItemSaveReqs));
     }
 
     @Override
     public void deleteById(final Long cartItemId) {
-        final int deletedCount = cartItemDao.deleteById(cartItemId);
+        final int deletedCount = shardRouter.onRowId(cartItemId, () -> cartItemDao.deleteById(cartItemId));
         if (deletedCount != 1) {
             throw new DBException(ErrorCode.DB_DELETE_ERROR);
         }
@@ -53,7 +85,8 @@ public class CartRepositoryImpl implements CartRepository {
 
     @Override
     public void updateQuantity(final Long cartItemId, final int quantity) {
-        final int updatedCount = cartItemDao.updateQuantity(cartItemId, quantity);
+        final int updatedCount = shardRouter.onRowId(cartItemId,
+            () -> cartItemDao.updateQuantity(cartItemId, quantity));
         if (updatedCount != 1) {
             throw new DBException(ErrorCode.DB_UPDATE_ERROR);
         }
@@ -61,31 +94,95 @@ public class CartRepositoryImpl implements CartRepository {
 
     @Override
     public Cart findById(final Long cartItemId) {
-        final CartItemDto cartItemDto = cartItemDao.findById(cartItemId)
+        final CartItemDto cartItemDto = shardRouter.onRowId(cartItemId, () -> cartItemDao.findById(cartItemId))
             .orElseThrow(() -> new NotFoundException(ErrorCode.CART_NOT_FOUND));
         return convertCart(cartItemDto);
     }
 
     @Override
     public Long countByCartItemIdsAndMemberId(final List<Long> cartItemIds, final String memberName) {
-        final MemberEntity memberEntity = getMemberEntity(memberName);
-        return cartItemDao.countByIdsAndMemberId(cartItemIds, memberEntity.getId());
+        return shardRouter.onMemberName(memberName, () -> {
+            final MemberEntity memberEntity = getMemberEntity(memberName);
+            return cartItemDao.countByIdsAndMemberId(cartItemIds, memberEntity.getId());
+        });
     }
 
     @Override
     public void deleteByCartItemIdsAndMemberId(final List<Long> cartItemIds, final String memberName) {
-        final MemberEntity memberEntity = getMemberEntity(memberName);
-        cartItemDao.deleteByIdsAndMemberId(cartItemIds, memberEntity.getId());
+        shardRouter.onMemberName(memberName, () -> {
+            final MemberEntity memberEntity = getMemberEntity(memberName);
+            return cartItemDao.deleteByIdsAndMemberId(cartItemIds, memberEntity.getId());
+        });
     }
 
     @Override
-    public boolean existByMemberNameAndProductId(final String memberName, final Long productId) {
-        return cartItemDao.existByMemberNameAndProductId(memberName, productId);
+    public void deleteByProductIdsAndMemberId(final List<Long> productIds, final Long memberId) {
+        shardRouter.onMember(memberId, () -> cartItemDao.deleteByProductIdsAndMemberId(productIds, memberId));
     }
 
-    @Override
-    public void deleteByProductIdsAndMemberId(final List<Long> productIds, final Long memberId) {
-        cartItemDao.deleteByProductIdsAndMemberId(productIds, memberId);
+    private Map<Long, Long> insertOrIncreaseQuantities(final Long memberId,
+                                                       final List<CartItemSaveReq> cartItemSaveReqs) {
+        final List<CartEntity> cartEntities = cartItemSaveReqs.stream()
+            .map(cartItemSaveReq -> new CartEntity(memberId, cartItemSaveReq.getCartItemId(),
+                cartItemSaveReq.getCartItemQuantity()))
+            .collect(Collectors.toUnmodifiableList());
+        final Set<Long> failedProductIds = insertOrIncreaseQuantities(cartEntities);
+        final List<Long> savedProductIds = cartEntities.stream()
+            .map(CartEntity::getProductId)
+            .filter(productId -> !failedProductIds.contains(productId))
+            .collect(Collectors.toUnmodifiableList());
+        if (savedProductIds.isEmpty()) {
+            return Map.of();
+        }
+        final Map<Long, Long> cartItemIds = cartItemDao.findByMemberIdAndProductIds(memberId, savedProductIds)
+            .stream()
+            .collect(Collectors.toMap(CartEntity::getProductId, CartEntity::getId));
+        cartItemIds.values().forEach(cartItemId -> shardRouter.checkRowId(memberId, cartItemId));
+        return cartItemIds;
+    }
+
+    private Set<Long> insertOrIncreaseQuantities(final List<CartEntity> cartEntities) {
+        try {
+            cartItemDao.insertOrIncreaseQuantities(cartEntities, CartItem.MAX_QUANTITY);
+            return Set.of();
+        } catch (DuplicateKeyException exception) {
+            // H2 는 동시에 들어온 같은 키의 삽입을 갱신으로 바꾸지 못하므로, 반영되지 않은 상품만 한 번 더 시도한다.
+            final Set<Long> failedProductIds = new HashSet<>();
+            for (final CartEntity cartEntity : findNotApplied(cartEntities, exception)) {
+                try {
+                    cartItemDao.insertOrIncreaseQuantity(cartEntity, CartItem.MAX_QUANTITY);
+                } catch (DuplicateKeyException retryException) {
+                    // 다시 시도해도 실패한 상품만 결과에서 빠지고, 나머지 상품은 그대로 담는다.
+                    log.warn("장바구니에 상품 {}을 담지 못했습니다.", cartEntity.getProductId(), retryException);
+                    failedProductIds.add(cartEntity.getProductId());
+                }
+            }
+            return failedProductIds;
+        }
+    }
+
+    private List<CartEntity> findNotApplied(final List<CartEntity> cartEntities,
+                                            final DuplicateKeyException exception) {
+        if (!(exception.getCause() instanceof BatchUpdateException)) {
+            throw exception;
+        }
+        final int[] updateCounts = ((BatchUpdateException) exception.getCause()).getUpdateCounts();
+        final List<CartEntity> notApplied = new ArrayList<>();
+        for (int i = 0; i < cartEntities.size(); i++) {
+            if (i >= updateCounts.length || updateCounts[i] == Statement.EXECUTE_FAILED) {
+                notApplied.add(cartEntities.get(i));
+            }
+        }
+        return notApplied;
+    }
+
+    private void insertOrIncreaseQuantity(final CartEntity cartEntity) {
+        try {
+            cartItemDao.insertOrIncreaseQuantity(cartEntity, CartItem.MAX_QUANTITY);
+        } catch (DuplicateKeyException exception) {
+            // H2 는 동시에 들어온 같은 키의 삽입을 갱신으로 바꾸지 못하고 예외를 던지므로 한 번 더 시도한다.
+            cartItemDao.insertOrIncreaseQuantity(cartEntity, CartItem.MAX_QUANTITY);
+        }
     }
 
     private MemberEntity getMemberEntity(final String memberName) {
@@ -0,0 +1,87 @@
+package cart.persistence.repository;
+
+import cart.common.shard.ShardRouter;
+import cart.domain.coupon.CouponIssue;
+import cart.domain.coupon.CouponIssueRepository;
+import cart.domain.coupon.CouponType;
+import cart.exception.DBException;
+import cart.exception.ErrorCode;
+import cart.persistence.dao.CouponIssueOutboxDao;
+import cart.persistence.entity.CouponIssueOutboxEntity;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CouponIssueRepositoryImpl implements CouponIssueRepository {
+
+    private final CouponIssueOutboxDao couponIssueOutboxDao;
+    private final ShardRouter shardRouter;
+
+    public CouponIssueRepositoryImpl(final CouponIssueOutboxDao couponIssueOutboxDao,
+                                     final ShardRouter shardRouter) {
+        this.couponIssueOutboxDao = couponIssueOutboxDao;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void save(final CouponIssue couponIssue) {
+        final CouponIssueOutboxEntity couponIssueOutboxEntity = new CouponIssueOutboxEntity(couponIssue.memberId(),
+            couponIssue.couponType().name(), couponIssue.requestedAt());
+        shardRouter.onMember(couponIssue.memberId(), () -> couponIssueOutboxDao.insert(couponIssueOutboxEntity));
+    }
+
+    @Override
+    public List<CouponIssue> findOldest(final LocalDateTime now, final int limit) {
+        // 발급 요청은 회원의 샤드에 쌓이고 한 번의 발급은 한 샤드에서만 처리하므로, 가장 오래 기다린 샤드의 요청을 고른다.
+        final List<CouponIssueOutboxEntity> oldestEntities = shardRouter.scatter(
+                () -> couponIssueOutboxDao.findOldest(now, limit)).stream()
+            .filter(entities -> !entities.isEmpty())
+            .min(Comparator.comparing(entities -> entities.get(0).getRequestedAt()))
+            .orElse(List.of());
+        return oldestEntities.stream()
+            .map(entity -> CouponIssue.create(entity.getId(), entity.getMemberId(),
+                CouponType.valueOf(entity.getCouponType()), entity.getRequestedAt()))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public void deleteAll(final List<CouponIssue> couponIssues) {
+        if (couponIssues.isEmpty()) {
+            return;
+        }
+        final List<Long> couponIssueIds = getCouponIssueIds(couponIssues);
+        final int deletedCount = shardRouter.onMembers(getMemberIds(couponIssues),
+            () -> couponIssueOutboxDao.deleteByIds(couponIssueIds));
+        if (deletedCount != couponIssueIds.size()) {
+            throw new DBException(ErrorCode.DB_DELETE_ERROR);
+        }
+    }
+
+    @Override
+    public void postponeAll(final List<CouponIssue> couponIssues, final LocalDateTime nextAttemptAt) {
+        if (couponIssues.isEmpty()) {
+            return;
+        }
+        final List<Long> couponIssueIds = getCouponIssueIds(couponIssues);
+        final int updatedCount = shardRouter.onMembers(getMemberIds(couponIssues),
+            () -> couponIssueOutboxDao.postponeByIds(couponIssueIds, nextAttemptAt));
+        if (updatedCount != couponIssueIds.size()) {
+            throw new DBException(ErrorCode.DB_UPDATE_ERROR);
+        }
+    }
+
+    private List<Long> getCouponIssueIds(final List<CouponIssue> couponIssues) {
+        return couponIssues.stream()
+            .map(CouponIssue::couponIssueId)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private List<Long> getMemberIds(final List<CouponIssue> couponIssues) {
+        return couponIssues.stream()
+            .map(CouponIssue::memberId)
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
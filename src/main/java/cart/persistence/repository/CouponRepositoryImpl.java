@@ -3,12 +3,17 @@ package cart.persistence.repository;
 import static cart.persistence.mapper.CouponMapper.convertCoupon;
 import static cart.persistence.mapper.CouponMapper.convertCouponEntity;
 
+import cart.common.cache.CouponRegistry;
+import cart.common.shard.GlobalTable;
+import cart.common.shard.ShardRouter;
+import cart.domain.catalog.TableVersion;
 import cart.domain.coupon.Coupon;
 import cart.domain.coupon.CouponRepository;
 import cart.exception.DBException;
 import cart.exception.ErrorCode;
 import cart.exception.NotFoundException;
 import cart.persistence.dao.CouponDao;
+import cart.persistence.dao.dto.TableVersionDto;
 import cart.persistence.entity.CouponEntity;
 import cart.persistence.mapper.CouponMapper;
 import java.util.List;
@@ -19,51 +24,83 @@ import org.springframework.stereotype.Repository;
 public class CouponRepositoryImpl implements CouponRepository {
 
     private final CouponDao couponDao;
+    private final CouponRegistry couponRegistry;
+    private final ShardRouter shardRouter;
 
-    public CouponRepositoryImpl(final CouponDao couponDao) {
+    public CouponRepositoryImpl(final CouponDao couponDao, final CouponRegistry couponRegistry,
+                                final ShardRouter shardRouter) {
         this.couponDao = couponDao;
+        this.couponRegistry = couponRegistry;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public List<Coupon> findAll() {
-        return couponDao.getAllCoupons().stream()
+        return shardRouter.readGlobal(couponDao::getAllCoupons).stream()
             .map(CouponMapper::convertCoupon)
             .collect(Collectors.toUnmodifiableList());
     }
 
     @Override
     public Coupon findById(final Long id) {
-        final CouponEntity couponEntity = couponDao.findById(id).orElseThrow(() -> {
-            throw new NotFoundException(ErrorCode.COUPON_NOT_FOUND);
+        return couponRegistry.findById(id, this::loadAllCoupons).orElseGet(() -> {
+            final CouponEntity couponEntity = shardRouter.readGlobal(() -> couponDao.findById(id)).orElseThrow(() -> {
+                throw new NotFoundException(ErrorCode.COUPON_NOT_FOUND);
+            });
+            return convertCoupon(couponEntity);
         });
-        return convertCoupon(couponEntity);
     }
 
     @Override
     public boolean existByNameAndDiscountRate(final String name, final int discountRate) {
-        return couponDao.existByNameAndDiscountRate(name, discountRate);
+        return couponRegistry.existByNameAndDiscountRate(name, discountRate, this::loadAllCoupons)
+            || shardRouter.readGlobal(() -> couponDao.existByNameAndDiscountRate(name, discountRate));
     }
 
     @Override
     public long insert(final Coupon coupon) {
         final CouponEntity couponEntity = convertCouponEntity(coupon);
-        return couponDao.insert(couponEntity);
+        final long couponId = shardRouter.onGlobal(() -> couponDao.insert(couponEntity));
+        shardRouter.replicate(GlobalTable.COUPON, List.of(couponId));
+        return couponId;
     }
 
     @Override
     public void deleteById(final Long couponId) {
-        final int deletedCount = couponDao.deleteById(couponId);
+        final int deletedCount = shardRouter.onGlobal(() -> couponDao.deleteById(couponId));
         if (deletedCount != 1) {
             throw new DBException(ErrorCode.DB_DELETE_ERROR);
         }
+        shardRouter.replicate(GlobalTable.COUPON, List.of(couponId));
+    }
+
+    @Override
+    public boolean existReferenceById(final Long couponId) {
+        // 발급한 쿠폰과 주문 쿠폰은 회원의 샤드에 있으므로 모든 샤드를 확인해야 한다.
+        return shardRouter.scatter(() -> couponDao.existReferenceById(couponId)).contains(true);
     }
 
     @Override
     public Coupon findByNameAndDiscountRate(final String name, final int discountRate) {
-        final CouponEntity couponEntity = couponDao.findByNameAndDiscountRate(name, discountRate)
-            .orElseThrow(() -> {
-                throw new NotFoundException(ErrorCode.COUPON_NOT_FOUND);
-            });
-        return convertCoupon(couponEntity);
+        return couponRegistry.findByNameAndDiscountRate(name, discountRate, this::loadAllCoupons).orElseGet(() -> {
+            final CouponEntity couponEntity = shardRouter.readGlobal(
+                    () -> couponDao.findByNameAndDiscountRate(name, discountRate))
+                .orElseThrow(() -> {
+                    throw new NotFoundException(ErrorCode.COUPON_NOT_FOUND);
+                });
+            return convertCoupon(couponEntity);
+        });
+    }
+
+    @Override
+    public TableVersion getTableVersion() {
+        final TableVersionDto tableVersion = shardRouter.readGlobal(couponDao::getTableVersion);
+        return new TableVersion(tableVersion.getRowCount(), tableVersion.getMaxId(), tableVersion.getVersionSum());
+    }
+
+    private List<Coupon> loadAllCoupons() {
+        return shardRouter.onGlobal(couponDao::getAllCoupons).stream()
+            .map(CouponMapper::convertCoupon)
+            .collect(Collectors.toUnmodifiableList());
     }
 }
@@ -2,6 +2,7 @@ package cart.persistence.repository;
 
 import static cart.persistence.mapper.MemberCouponMapper.convertMemberCoupon;
 
+import cart.common.shard.ShardRouter;
 import cart.domain.member.MemberCoupon;
 import cart.domain.member.MemberCouponRepository;
 import cart.exception.DBException;
@@ -10,39 +11,70 @@ import cart.exception.NotFoundException;
 import cart.persistence.dao.MemberCouponDao;
 import cart.persistence.dao.dto.MemberCouponDto;
 import cart.persistence.entity.MemberCouponEntity;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class MemberCouponRepositoryImpl implements MemberCouponRepository {
 
     private final MemberCouponDao memberCouponDao;
+    private final ShardRouter shardRouter;
 
-    public MemberCouponRepositoryImpl(final MemberCouponDao memberCouponDao) {
+    public MemberCouponRepositoryImpl(final MemberCouponDao memberCouponDao, final ShardRouter shardRouter) {
         this.memberCouponDao = memberCouponDao;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public void save(final Long memberId, final MemberCoupon memberCoupon) {
         final MemberCouponEntity memberCouponEntity = new MemberCouponEntity(memberId,
             memberCoupon.getCoupon().couponId(), memberCoupon.getIssuedAt(), memberCoupon.getExpiredAt(), false);
-        memberCouponDao.insert(memberCouponEntity);
+        shardRouter.onMember(memberId, () -> memberCouponDao.insert(memberCouponEntity));
+    }
+
+    @Override
+    public void saveAll(final List<Long> memberIds, final MemberCoupon memberCoupon) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        final Long couponId = memberCoupon.getCoupon().couponId();
+        final List<MemberCouponEntity> memberCouponEntities = memberIds.stream()
+            .map(memberId -> new MemberCouponEntity(memberId, couponId, memberCoupon.getIssuedAt(),
+                memberCoupon.getExpiredAt(), false))
+            .collect(Collectors.toUnmodifiableList());
+        final int insertedCount = shardRouter.onMembers(memberIds,
+            () -> memberCouponDao.insertAll(memberCouponEntities));
+        if (insertedCount != memberCouponEntities.size()) {
+            throw new DBException(ErrorCode.DB_UPDATE_ERROR);
+        }
+    }
+
+    @Override
+    public List<Long> findIssuedMemberIds(final Long couponId, final List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        return shardRouter.onMembers(memberIds,
+            () -> memberCouponDao.findMemberIdsByCouponIdAndMemberIds(couponId, memberIds));
     }
 
     @Override
     public boolean existByMemberIdAndCouponId(final Long memberId, final Long couponId) {
-        return memberCouponDao.existByMemberIdAndCouponId(memberId, couponId);
+        return shardRouter.onMember(memberId, () -> memberCouponDao.existByMemberIdAndCouponId(memberId, couponId));
     }
 
     @Override
     public MemberCoupon findByMemberIdAndCouponId(final Long memberId, final Long couponId) {
-        final MemberCouponDto memberCouponDto = memberCouponDao.findByMemberIdAndCouponId(memberId, couponId)
+        final MemberCouponDto memberCouponDto = shardRouter.onMember(memberId,
+                () -> memberCouponDao.findByMemberIdAndCouponId(memberId, couponId))
             .orElseThrow(() -> new NotFoundException(ErrorCode.COUPON_NOT_FOUND));
         return convertMemberCoupon(memberCouponDto);
     }
 
     @Override
     public void updateUsed(final Long memberId, final Long couponId) {
-        int updatedCount = memberCouponDao.updateUsed(memberId, couponId);
+        int updatedCount = shardRouter.onMember(memberId, () -> memberCouponDao.updateUsed(memberId, couponId));
         if (updatedCount != 1) {
             throw new DBException(ErrorCode.DB_UPDATE_ERROR);
         }
@@ -50,9 +82,17 @@ public class MemberCouponRepositoryImpl implements MemberCouponRepository {
 
     @Override
     public void updateNotUsed(final Long memberId, final Long couponId) {
-        int updatedCount = memberCouponDao.updateNotUsed(memberId, couponId);
+        int updatedCount = shardRouter.onMember(memberId, () -> memberCouponDao.updateNotUsed(memberId, couponId));
         if (updatedCount != 1) {
             throw new DBException(ErrorCode.DB_UPDATE_ERROR);
         }
     }
+
+    @Override
+    public void updateNotUsedAll(final List<Long> memberIds, final List<Long> couponIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        shardRouter.onMembers(memberIds, () -> memberCouponDao.updateNotUsedAll(memberIds, couponIds));
+    }
 }
@@ -2,8 +2,11 @@ package cart.persistence.repository;
 
 import static cart.persistence.mapper.MemberMapper.convertMember;
 
+import cart.common.shard.MemberDirectory;
+import cart.common.shard.ShardRouter;
 import cart.domain.member.Member;
 import cart.domain.member.MemberRepository;
+import cart.exception.DBException;
 import cart.exception.ErrorCode;
 import cart.exception.NotFoundException;
 import cart.persistence.dao.MemberCouponDao;
@@ -11,8 +14,11 @@ import cart.persistence.dao.MemberDao;
 import cart.persistence.dao.dto.MemberCouponDto;
 import cart.persistence.entity.MemberEntity;
 import cart.persistence.mapper.MemberMapper;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,21 +26,37 @@ public class MemberRepositoryImpl implements MemberRepository {
 
     private final MemberDao memberDao;
     private final MemberCouponDao memberCouponDao;
+    private final ShardRouter shardRouter;
+    private final ObjectProvider<MemberDirectory> memberDirectory;
 
-    public MemberRepositoryImpl(final MemberDao memberDao, final MemberCouponDao memberCouponDao) {
+    public MemberRepositoryImpl(final MemberDao memberDao, final MemberCouponDao memberCouponDao,
+                                final ShardRouter shardRouter,
+                                final ObjectProvider<MemberDirectory> memberDirectory) {
         this.memberDao = memberDao;
         this.memberCouponDao = memberCouponDao;
+        this.shardRouter = shardRouter;
+        this.memberDirectory = memberDirectory;
     }
 
     @Override
     public long insert(final Member member) {
-        final MemberEntity memberEntity = new MemberEntity(member.name(), member.password());
-        return memberDao.insert(memberEntity);
+        final Optional<Long> reservedMemberId = shardRouter.reserveMemberId(member.name());
+        if (reservedMemberId.isEmpty()) {
+            return memberDao.insert(new MemberEntity(member.name(), member.password()));
+        }
+
+        final Long memberId = reservedMemberId.get();
+        final int insertedCount = shardRouter.onMember(memberId,
+            () -> memberDao.insertWithId(new MemberEntity(memberId, member.name(), member.password())));
+        if (insertedCount != 1) {
+            throw new DBException(ErrorCode.DB_UPDATE_ERROR);
+        }
+        return memberId;
     }
 
     @Override
     public Member findById(final Long id) {
-        final MemberEntity memberEntity = memberDao.findById(id)
+        final MemberEntity memberEntity = shardRouter.onMember(id, () -> memberDao.findById(id))
             .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_NOT_FOUND));
         return convertMember(memberEntity);
     }
@@ -47,25 +69,33 @@ public class MemberRepositoryImpl implements MemberRepository {
 
     @Override
     public List<Member> findAll() {
-        return memberDao.findAll().stream()
+        return shardRouter.scatter(memberDao::findAll).stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(MemberEntity::getId))
             .map(MemberMapper::convertMember)
             .collect(Collectors.toUnmodifiableList());
     }
 
     @Override
     public boolean existByName(final String memberName) {
+        final MemberDirectory directory = memberDirectory.getIfAvailable();
+        if (directory != null) {
+            // 샤드에 묻지 않고 디렉터리만 확인해, 아직 커넥션을 얻지 않은 트랜잭션이 공용 샤드에 묶이지 않게 한다.
+            return directory.findMemberId(memberName).isPresent();
+        }
         return memberDao.findByName(memberName).isPresent();
     }
 
     @Override
     public Member findMyCouponsByName(final String memberName) {
         final MemberEntity memberEntity = getMemberEntityByName(memberName);
-        final List<MemberCouponDto> myCouponsByName = memberCouponDao.findMyCouponsByName(memberName);
+        final List<MemberCouponDto> myCouponsByName = shardRouter.onMemberName(memberName,
+            () -> memberCouponDao.findMyCouponsByName(memberName));
         return convertMember(myCouponsByName, memberEntity);
     }
 
     private MemberEntity getMemberEntityByName(final String name) {
-        return memberDao.findByName(name)
+        return shardRouter.onMemberName(name, () -> memberDao.findByName(name))
             .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_NOT_FOUND));
     }
 }
@@ -2,12 +2,15 @@ package cart.persistence.repository;
 
 import static cart.persistence.mapper.OrderMapper.convertOrder;
 import static cart.persistence.mapper.OrderMapper.convertOrderEntity;
+import static cart.persistence.mapper.OrderMapper.convertOrderHeader;
 import static cart.persistence.mapper.OrderMapper.convertOrderProductEntities;
 
+import cart.common.shard.ShardRouter;
 import cart.domain.cartitem.CartItem;
 import cart.domain.coupon.Coupon;
 import cart.domain.member.Member;
 import cart.domain.order.Order;
+import cart.domain.order.OrderHeader;
 import cart.domain.order.OrderRepository;
 import cart.exception.DBException;
 import cart.exception.ErrorCode;
@@ -19,7 +22,9 @@ import cart.persistence.dao.dto.OrderDto;
 import cart.persistence.entity.OrderCouponEntity;
 import cart.persistence.entity.OrderEntity;
 import cart.persistence.entity.OrderProductEntity;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,71 +36,139 @@ public class OrderRepositoryImpl implements OrderRepository {
     private final OrderDao orderDao;
     private final OrderCouponDao orderCouponDao;
     private final OrderProductDao orderProductDao;
+    private final ShardRouter shardRouter;
 
     public OrderRepositoryImpl(final OrderDao orderDao, final OrderCouponDao orderCouponDao,
-                               final OrderProductDao orderProductDao) {
+                               final OrderProductDao orderProductDao, final ShardRouter shardRouter) {
         this.orderDao = orderDao;
         this.orderCouponDao = orderCouponDao;
         this.orderProductDao = orderProductDao;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public Long save(final Order order) {
-        final Long orderId = saveOrder(order);
-        final List<CartItem> cartItems = order.getCartItems();
-        saveOrderProducts(cartItems, orderId);
-        return orderId;
+        final Long memberId = order.getMember().memberId();
+        return shardRouter.onMember(memberId, () -> {
+            final Long orderId = saveOrder(order);
+            final List<CartItem> cartItems = order.getCartItems();
+            saveOrderProducts(cartItems, orderId);
+            return orderId;
+        });
     }
 
     @Override
     public Long saveWithCoupon(final Order order) {
-        final Long orderId = saveOrder(order);
-        final List<CartItem> cartItems = order.getCartItems();
-        saveOrderProducts(cartItems, orderId);
-        saveCoupon(order, orderId);
-        return orderId;
+        final Long memberId = order.getMember().memberId();
+        return shardRouter.onMember(memberId, () -> {
+            final Long orderId = saveOrder(order);
+            final List<CartItem> cartItems = order.getCartItems();
+            saveOrderProducts(cartItems, orderId);
+            saveCoupon(order, orderId);
+            return orderId;
+        });
     }
 
     @Override
-    public Long countByMemberId(final Long memberId) {
-        return orderDao.countByMemberId(memberId);
+    public boolean existOtherOrder(final Long memberId, final Long orderId) {
+        return shardRouter.onMember(memberId, () -> orderDao.existByMemberIdExceptOrderId(memberId, orderId));
     }
 
     @Override
     public Order getById(final Long id) {
-        final List<OrderDto> orderDto = orderDao.findById(id);
+        final List<OrderDto> orderDto = shardRouter.onRowId(id, () -> orderDao.findById(id));
         if (orderDto.size() == 0) {
             throw new NotFoundException(ErrorCode.ORDER_NOT_FOUND);
         }
         return convertOrder(orderDto);
     }
 
+    @Override
+    public OrderHeader getHeaderById(final Long id) {
+        return shardRouter.onRowId(id, () -> orderDao.findHeaderById(id))
+            .map(orderHeaderDto -> convertOrderHeader(orderHeaderDto))
+            .orElseThrow(() -> new NotFoundException(ErrorCode.ORDER_NOT_FOUND));
+    }
+
+    @Override
+    public List<OrderHeader> findHeadersByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return shardRouter.onRowIds(ids, () -> orderDao.findHeadersByIds(ids)).stream()
+            .map(orderHeaderDto -> convertOrderHeader(orderHeaderDto))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
     @Override
     public List<Order> findByMemberName(final String memberName) {
-        final List<OrderDto> orderDto = orderDao.findByMemberName(memberName);
-        final Map<Long, List<OrderDto>> ordersById = orderDto.stream()
-            .collect(Collectors.groupingBy(OrderDto::getOrderId));
+        final List<OrderDto> orderDto = shardRouter.onMemberName(memberName,
+            () -> orderDao.findByMemberName(memberName));
+        return convertOrders(orderDto);
+    }
 
-        final List<Order> Orders = new ArrayList<>();
-        for (final Long orderId : ordersById.keySet()) {
-            final List<OrderDto> detailOrder = ordersById.get(orderId);
-            Orders.add(convertOrder(detailOrder));
+    @Override
+    public List<Order> findByMemberName(final String memberName, final LocalDateTime lastOrderedAt,
+                                        final Long lastOrderId, final int size) {
+        if (lastOrderedAt == null || lastOrderId == null) {
+            return convertOrders(shardRouter.onMemberName(memberName,
+                () -> orderDao.findLatestByMemberName(memberName, size)));
         }
-        return Orders;
+        return convertOrders(shardRouter.onMemberName(memberName,
+            () -> orderDao.findByMemberNameBeforeCursor(memberName, lastOrderedAt, lastOrderId, size)));
     }
 
     @Override
     public void updateNotValidById(final Long id) {
-        final int updatedCount = orderDao.updateNotValidById(id);
+        final int updatedCount = shardRouter.onRowId(id, () -> orderDao.updateNotValidById(id));
         if (updatedCount != 1) {
             throw new DBException(ErrorCode.DB_UPDATE_ERROR);
         }
     }
 
+    @Override
+    public List<Long> updateNotValidByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return shardRouter.onRowIds(ids, () -> lockAndUpdateNotValid(ids));
+    }
+
+    @Override
+    public List<List<Long>> partitionIds(final List<Long> ids) {
+        return shardRouter.partitionRowIds(ids);
+    }
+
+    private List<Long> lockAndUpdateNotValid(final List<Long> ids) {
+        // 갱신 건수를 믿을 수 없는 배치 대신, 아직 유효한 주문을 먼저 잠가 두고 그 주문만 취소한다.
+        final List<Long> validIds = orderDao.findValidIdsByIdsForUpdate(ids);
+        if (validIds.isEmpty()) {
+            return List.of();
+        }
+        final int updatedCount = orderDao.updateNotValidByIds(validIds);
+        if (updatedCount != validIds.size()) {
+            throw new DBException(ErrorCode.DB_UPDATE_ERROR);
+        }
+        return validIds;
+    }
+
+    private List<Order> convertOrders(final List<OrderDto> orderDto) {
+        final Map<Long, List<OrderDto>> ordersById = orderDto.stream()
+            .collect(Collectors.groupingBy(OrderDto::getOrderId, LinkedHashMap::new, Collectors.toList()));
+
+        final List<Order> orders = new ArrayList<>(ordersById.size());
+        for (final List<OrderDto> detailOrder : ordersById.values()) {
+            orders.add(convertOrder(detailOrder));
+        }
+        return orders;
+    }
+
     private Long saveOrder(final Order order) {
         final Member member = order.getMember();
         final OrderEntity orderEntity = convertOrderEntity(order, member);
-        return orderDao.insert(orderEntity);
+        final Long orderId = orderDao.insert(orderEntity);
+        shardRouter.checkRowId(member.memberId(), orderId);
+        return orderId;
     }
 
     private void saveOrderProducts(final List<CartItem> cartItems, final Long orderId) {
@@ -1,17 +1,23 @@
 package cart.persistence.repository;
 
-import static cart.persistence.mapper.ProductMapper.convertProduct;
 import static cart.persistence.mapper.ProductMapper.convertProductEntity;
 
+import cart.common.cache.ProductCache;
+import cart.common.shard.GlobalTable;
+import cart.common.shard.ShardRouter;
+import cart.domain.catalog.TableVersion;
 import cart.domain.product.Product;
 import cart.domain.product.ProductRepository;
 import cart.exception.DBException;
 import cart.exception.ErrorCode;
 import cart.exception.NotFoundException;
 import cart.persistence.dao.ProductDao;
+import cart.persistence.dao.dto.TableVersionDto;
 import cart.persistence.entity.ProductEntity;
 import cart.persistence.mapper.ProductMapper;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 
@@ -19,62 +25,116 @@ import org.springframework.stereotype.Repository;
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductDao productDao;
+    private final ProductCache productCache;
+    private final ShardRouter shardRouter;
 
-    public ProductRepositoryImpl(final ProductDao productDao) {
+    public ProductRepositoryImpl(final ProductDao productDao, final ProductCache productCache,
+                                 final ShardRouter shardRouter) {
         this.productDao = productDao;
+        this.productCache = productCache;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public List<Product> getAllProducts() {
-        return productDao.getNotDeletedProducts().stream()
+        return productCache.getAllProducts(() -> shardRouter.onGlobal(productDao::getNotDeletedProducts).stream()
             .map(ProductMapper::convertProduct)
-            .collect(Collectors.toUnmodifiableList());
+            .collect(Collectors.toUnmodifiableList()));
     }
 
     @Override
     public Product getProductById(final Long productId) {
-        final ProductEntity productEntity = productDao.getProductById(productId)
+        return findProductById(productId)
             .orElseThrow(() -> new NotFoundException(ErrorCode.PRODUCT_NOT_FOUND));
-        return convertProduct(productEntity);
     }
 
     @Override
     public List<Product> getProductsByPage(final int page, final int size) {
-        return productDao.getProductsByPage(page, size).stream()
+        return shardRouter.readGlobal(() -> productDao.getProductsByPage(page, size)).stream()
             .map(ProductMapper::convertProduct)
             .collect(Collectors.toUnmodifiableList());
     }
 
     @Override
     public long getAllProductCount() {
-        return productDao.getAllProductCount();
+        return shardRouter.readGlobal(productDao::getAllProductCount);
+    }
+
+    @Override
+    public List<Product> getProductsAfterId(final Long lastId, final int size) {
+        return shardRouter.readGlobal(() -> productDao.getNotDeletedProductsAfterId(lastId, size)).stream()
+            .map(ProductMapper::convertProduct)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public long getNotDeletedProductCount() {
+        return shardRouter.readGlobal(productDao::getNotDeletedProductCount);
     }
 
     @Override
     public Long save(final Product product) {
         final ProductEntity productEntity = convertProductEntity(product);
-        return productDao.insert(productEntity);
+        final Long productId = shardRouter.onGlobal(() -> productDao.insert(productEntity));
+        shardRouter.replicate(GlobalTable.PRODUCT, List.of(productId));
+        return productId;
+    }
+
+    @Override
+    public void saveAll(final List<Product> products) {
+        final List<ProductEntity> productEntities = products.stream()
+            .map(ProductMapper::convertProductEntity)
+            .collect(Collectors.toUnmodifiableList());
+        final List<Long> productIds = shardRouter.onGlobal(() -> productDao.insertAll(productEntities));
+        shardRouter.replicate(GlobalTable.PRODUCT, productIds);
+    }
+
+    @Override
+    public void forEachProduct(final int fetchSize, final Consumer<Product> consumer) {
+        shardRouter.readGlobal(() -> {
+            productDao.forEachNotDeletedProduct(fetchSize,
+                productEntity -> consumer.accept(ProductMapper.convertProduct(productEntity)));
+            return null;
+        });
     }
 
     @Override
     public void updateProduct(final Long productId, final Product product) {
         final ProductEntity productEntity = convertProductEntity(product);
-        final int updatedCount = productDao.updateProduct(productId, productEntity);
+        final int updatedCount = shardRouter.onGlobal(() -> productDao.updateProduct(productId, productEntity));
         if (updatedCount != 1) {
             throw new DBException(ErrorCode.DB_UPDATE_ERROR);
         }
+        shardRouter.replicate(GlobalTable.PRODUCT, List.of(productId));
     }
 
     @Override
     public void deleteProduct(final Long productId) {
-        final int deletedCount = productDao.updateProductDeleted(productId);
+        final int deletedCount = shardRouter.onGlobal(() -> productDao.updateProductDeleted(productId));
         if (deletedCount != 1) {
             throw new DBException(ErrorCode.DB_DELETE_ERROR);
         }
+        shardRouter.replicate(GlobalTable.PRODUCT, List.of(productId));
     }
 
     @Override
     public boolean existById(final Long id) {
-        return productDao.existById(id);
+        return findProductById(id).isPresent();
+    }
+
+    @Override
+    public List<Long> findNotDeletedProductIds(final List<Long> ids) {
+        return shardRouter.readGlobal(() -> productDao.getNotDeletedProductIds(ids));
+    }
+
+    @Override
+    public TableVersion getTableVersion() {
+        final TableVersionDto tableVersion = shardRouter.readGlobal(productDao::getTableVersion);
+        return new TableVersion(tableVersion.getRowCount(), tableVersion.getMaxId(), tableVersion.getVersionSum());
+    }
+
+    private Optional<Product> findProductById(final Long productId) {
+        return productCache.getProductById(productId,
+            id -> shardRouter.onGlobal(() -> productDao.getProductById(id)).map(ProductMapper::convertProduct));
     }
 }
@@ -1,6 +1,8 @@
 package cart.ui;
 
 import cart.application.CartService;
+import cart.application.dto.cartitem.CartBatchRequest;
+import cart.application.dto.cartitem.CartBatchResponse;
 import cart.application.dto.cartitem.CartItemQuantityUpdateRequest;
 import cart.application.dto.cartitem.CartRequest;
 import cart.application.dto.cartitem.CartResponse;
@@ -41,6 +43,13 @@ public class CartController {
         return ResponseEntity.created(URI.create("/cart-items/" + cartItemId)).build();
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CartBatchResponse> addCartItemsInBatch(
+        @MemberName String memberName,
+        @RequestBody @Valid CartBatchRequest cartBatchRequest) {
+        return ResponseEntity.ok(cartService.addCarts(memberName, cartBatchRequest));
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Void> updateCartItemQuantity(@MemberName String memberName,
                                                        @PathVariable Long id,
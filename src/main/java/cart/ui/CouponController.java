@@ -1,11 +1,16 @@
 package cart.ui;
 
+import static cart.common.cache.CatalogVersions.Catalog.COUPON;
+
 import cart.application.CouponService;
 import cart.application.dto.coupon.CouponRequest;
 import cart.application.dto.coupon.CouponResponse;
+import cart.common.cache.CatalogVersions;
 import java.net.URI;
 import java.util.List;
 import javax.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,19 +27,38 @@ import org.springframework.web.bind.annotation.RestController;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CatalogVersions catalogVersions;
 
-    public CouponController(final CouponService couponService) {
+    public CouponController(final CouponService couponService, final CatalogVersions catalogVersions) {
         this.couponService = couponService;
+        this.catalogVersions = catalogVersions;
     }
 
     @GetMapping
-    public ResponseEntity<List<CouponResponse>> getAllCoupons() {
-        return ResponseEntity.ok(couponService.getAllCoupons());
+    public ResponseEntity<List<CouponResponse>> getAllCoupons(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = catalogVersions.eTag(COUPON);
+        if (catalogVersions.isNotModified(COUPON, ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(couponService.getAllCoupons());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<CouponResponse> getCouponById(@PathVariable Long id) {
-        return ResponseEntity.ok(couponService.getCouponById(id));
+    public ResponseEntity<CouponResponse> getCouponById(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = catalogVersions.eTag(COUPON, id);
+        if (catalogVersions.isNotModified(COUPON, ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(couponService.getCouponById(id));
     }
 
     @PostMapping
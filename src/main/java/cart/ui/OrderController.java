@@ -1,18 +1,26 @@
 package cart.ui;
 
+import cart.application.OrderCancelService;
 import cart.application.OrderService;
+import cart.application.dto.order.OrderCancelRequest;
+import cart.application.dto.order.OrderCancelResponse;
+import cart.application.dto.order.OrderPageResponse;
+import cart.application.dto.order.OrderRefundQuoteResponse;
 import cart.application.dto.order.OrderRefundResponse;
 import cart.application.dto.order.OrderRequest;
 import cart.application.dto.order.OrderResponse;
 import cart.common.auth.MemberName;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -20,9 +28,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderCancelService orderCancelService;
 
-    public OrderController(final OrderService orderService) {
+    public OrderController(final OrderService orderService, final OrderCancelService orderCancelService) {
         this.orderService = orderService;
+        this.orderCancelService = orderCancelService;
     }
 
     @PostMapping
@@ -45,10 +55,37 @@ public class OrderController {
         return ResponseEntity.ok(orderResponses);
     }
 
+    @GetMapping(params = "size")
+    public ResponseEntity<OrderPageResponse> getOrdersByCursor(
+        @MemberName final String memberName,
+        @RequestParam(value = "lastOrderedAt", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime lastOrderedAt,
+        @RequestParam(value = "lastOrderId", required = false) final Long lastOrderId,
+        @RequestParam("size") final int size) {
+        final OrderPageResponse orderPageResponse = orderService.getOrdersByCursor(memberName, lastOrderedAt,
+            lastOrderId, size);
+        return ResponseEntity.ok(orderPageResponse);
+    }
+
+    @GetMapping("/{id}/refund-quote")
+    public ResponseEntity<OrderRefundQuoteResponse> getRefundQuote(@MemberName final String memberName,
+                                                                   @PathVariable final Long id) {
+        final OrderRefundQuoteResponse orderRefundQuoteResponse = orderService.quoteRefund(memberName, id);
+        return ResponseEntity.ok(orderRefundQuoteResponse);
+    }
+
     @PostMapping("/cancel/{id}")
     public ResponseEntity<OrderRefundResponse> cancelOrder(@MemberName final String memberName,
                                                            @PathVariable final Long id) {
         final OrderRefundResponse orderRefundResponse = orderService.cancelOrder(memberName, id);
         return ResponseEntity.ok(orderRefundResponse);
     }
+
+    @PostMapping("/cancel")
+    public ResponseEntity<OrderCancelResponse> cancelOrders(@MemberName final String memberName,
+                                                            @RequestBody final OrderCancelRequest orderCancelRequest) {
+        final OrderCancelResponse orderCancelResponse = orderCancelService.cancelOrders(memberName,
+            orderCancelRequest.getOrderIds());
+        return ResponseEntity.ok(orderCancelResponse);
+    }
 }
@@ -1,13 +1,25 @@
 package cart.ui;
 
+import static cart.common.cache.CatalogVersions.Catalog.PRODUCT;
+
+import cart.application.ProductCatalogService;
 import cart.application.ProductService;
+import cart.application.dto.product.ProductCursorResponse;
+import cart.application.dto.product.ProductFileFormat;
+import cart.application.dto.product.ProductImportResponse;
 import cart.application.dto.product.ProductPageResponse;
 import cart.application.dto.product.ProductRequest;
 import cart.application.dto.product.ProductResponse;
+import cart.common.cache.CatalogVersions;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,23 +27,46 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/products")
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductCatalogService productCatalogService;
+    private final CatalogVersions catalogVersions;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ProductCatalogService productCatalogService,
+                             CatalogVersions catalogVersions) {
         this.productService = productService;
+        this.productCatalogService = productCatalogService;
+        this.catalogVersions = catalogVersions;
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<List<ProductResponse>> getAllProducts(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = catalogVersions.eTag(PRODUCT);
+        if (catalogVersions.isNotModified(PRODUCT, ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(productService.getAllProducts());
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<ProductCursorResponse> getProductsByCursor(
+        @RequestParam(value = "lastId", required = false) final Long lastId,
+        @RequestParam("size") final int size,
+        @RequestParam(value = "withTotalCount", defaultValue = "false") final boolean withTotalCount) {
+        return ResponseEntity.ok(productService.getProductsByCursor(lastId, size, withTotalCount));
     }
 
     @GetMapping("/pages")
@@ -40,9 +75,29 @@ public class ProductController {
         return ResponseEntity.ok(productService.getProductsByPage(page, size));
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+        @RequestParam(value = "format", defaultValue = "ndjson") final String format) {
+        final ProductFileFormat productFileFormat = ProductFileFormat.from(format);
+        final StreamingResponseBody responseBody =
+            outputStream -> productCatalogService.exportProducts(outputStream, productFileFormat);
+        return ResponseEntity.ok()
+            .contentType(new MediaType(productFileFormat.getMediaType(), StandardCharsets.UTF_8))
+            .body(responseBody);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
-        return ResponseEntity.ok(productService.getProductById(id));
+    public ResponseEntity<ProductResponse> getProductById(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        final String eTag = catalogVersions.eTag(PRODUCT, id);
+        if (catalogVersions.isNotModified(PRODUCT, ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(productService.getProductById(id));
     }
 
     @PostMapping
@@ -51,6 +106,13 @@ public class ProductController {
         return ResponseEntity.created(URI.create("/products/" + id)).build();
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<ProductImportResponse> importProducts(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) final MediaType contentType, final InputStream inputStream) {
+        final ProductFileFormat productFileFormat = ProductFileFormat.from(contentType);
+        return ResponseEntity.ok(productCatalogService.importProducts(inputStream, productFileFormat));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Void> updateProduct(@PathVariable Long id,
                                               @RequestBody @Valid ProductRequest productRequest) {
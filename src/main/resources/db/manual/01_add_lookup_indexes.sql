@@ -0,0 +1,31 @@
+-- 수동 적용 스크립트. 애플리케이션이 자동으로 실행하지 않는다.
+-- schema.sql 은 CREATE TABLE IF NOT EXISTS 로 실행되므로 이미 테이블이 있는 MySQL 환경에는 인덱스가 추가되지 않는다.
+-- 인덱스가 추가되기 전의 schema.sql 로 만든 환경에만 한 번 적용한다.
+
+-- 같은 회원, 같은 상품의 장바구니 항목이 중복으로 존재하면 유니크 제약을 걸 수 없으므로 가장 먼저 담은 항목만 남긴다.
+DELETE later
+FROM cart_item later
+         INNER JOIN cart_item earlier
+                    ON later.member_id = earlier.member_id
+                        AND later.product_id = earlier.product_id
+                        AND later.id > earlier.id;
+
+-- insertOrIncreaseQuantity, findByMemberIdAndProductIds, deleteByProductIdsAndMemberId
+ALTER TABLE cart_item
+    ADD CONSTRAINT uk_cart_item_member_id_product_id UNIQUE (member_id, product_id);
+
+-- 주문 내역 (member_id = ? ORDER BY ordered_at DESC, id DESC)
+ALTER TABLE `order`
+    ADD INDEX idx_order_member_id_ordered_at (member_id, ordered_at);
+
+-- 주문 상세 조인 (order_product.order_id = o.id 후 product 조인)
+ALTER TABLE order_product
+    ADD INDEX idx_order_product_order_id_product_id (order_id, product_id);
+
+-- 주문 쿠폰 조인 (order_coupon.order_id = o.id 후 coupon 조인)
+ALTER TABLE order_coupon
+    ADD INDEX idx_order_coupon_order_id_coupon_id (order_id, coupon_id);
+
+-- 상품 목록 (is_deleted = 0 AND id > ? ORDER BY id)
+ALTER TABLE product
+    ADD INDEX idx_product_is_deleted_id (is_deleted, id);
@@ -0,0 +1,8 @@
+-- 수동 적용 스크립트. 애플리케이션이 자동으로 실행하지 않는다.
+-- version 컬럼이 추가되기 전의 schema.sql 로 만든 환경에만 01_add_lookup_indexes.sql 다음에 한 번 적용한다.
+-- 상품, 쿠폰 정보가 바뀔 때마다 증가하는 버전 컬럼. 목록 조회의 ETag 를 만들 때 사용한다.
+ALTER TABLE product
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE coupon
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- 수동 적용 스크립트. 애플리케이션이 자동으로 실행하지 않는다.
+-- attempt_count, next_attempt_at 컬럼이 추가되기 전의 schema.sql 로 만든 환경에만 02_add_catalog_version.sql 다음에 한 번 적용한다.
+-- 발행하지 못한 쿠폰 발행 요청은 다음 시도 시각을 미뤄, 뒤에 쌓인 요청을 가로막지 않게 한다.
+ALTER TABLE coupon_issue_outbox
+    ADD COLUMN attempt_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at DATETIME NULL;
+
+UPDATE coupon_issue_outbox
+SET next_attempt_at = requested_at;
+
+ALTER TABLE coupon_issue_outbox
+    MODIFY next_attempt_at DATETIME NOT NULL,
+    ADD INDEX idx_coupon_issue_outbox_next_attempt_at (next_attempt_at, id);
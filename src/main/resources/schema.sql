@@ -4,7 +4,9 @@ CREATE TABLE IF NOT EXISTS product (
     price INT NOT NULL,
     image_url VARCHAR(512) NOT NULL,
     is_deleted TINYINT(1) NOT NULL DEFAULT(0),
-    PRIMARY KEY(id)
+    version BIGINT NOT NULL DEFAULT(0),
+    PRIMARY KEY(id),
+    INDEX idx_product_is_deleted_id (is_deleted, id)
 );
 
 CREATE TABLE IF NOT EXISTS member (
@@ -21,6 +23,7 @@ CREATE TABLE IF NOT EXISTS cart_item (
     quantity INT NOT NULL,
     is_deleted TINYINT(1) NOT NULL DEFAULT(0),
     PRIMARY KEY(id),
+    CONSTRAINT uk_cart_item_member_id_product_id UNIQUE (member_id, product_id),
     FOREIGN KEY (member_id) REFERENCES member(id),
     FOREIGN KEY (product_id) REFERENCES product(id)
 );
@@ -32,6 +35,7 @@ CREATE TABLE IF NOT EXISTS coupon
     discount_rate INT NOT NULL,
     `period` INT NOT NULL,
     expired_at DATETIME NOT NULL,
+    version BIGINT NOT NULL DEFAULT(0),
     UNIQUE (name, discount_rate),
     PRIMARY KEY(id)
 );
@@ -60,6 +64,7 @@ CREATE TABLE IF NOT EXISTS `order`
     ordered_at DATETIME NOT NULL,
     is_valid TINYINT(1) NOT NULL,
     PRIMARY KEY(id),
+    INDEX idx_order_member_id_ordered_at (member_id, ordered_at),
     FOREIGN KEY (member_id) REFERENCES member(id)
 );
 
@@ -71,6 +76,7 @@ CREATE TABLE IF NOT EXISTS order_product
     ordered_product_price BIGINT NOT NULL,
     quantity INT NOT NULL,
     PRIMARY KEY(id),
+    INDEX idx_order_product_order_id_product_id (order_id, product_id),
     FOREIGN KEY (order_id) REFERENCES `order`(id),
     FOREIGN KEY (product_id) REFERENCES product(id)
 );
@@ -81,6 +87,19 @@ CREATE TABLE IF NOT EXISTS order_coupon
     order_id BIGINT NOT NULL,
     coupon_id BIGINT NOT NULL,
     PRIMARY KEY(id),
+    INDEX idx_order_coupon_order_id_coupon_id (order_id, coupon_id),
     FOREIGN KEY (order_id) REFERENCES `order`(id),
     FOREIGN KEY (coupon_id) REFERENCES coupon(id)
 );
+
+CREATE TABLE IF NOT EXISTS coupon_issue_outbox
+(
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    member_id BIGINT NOT NULL,
+    coupon_type VARCHAR(30) NOT NULL,
+    requested_at DATETIME NOT NULL,
+    attempt_count INT NOT NULL DEFAULT(0),
+    next_attempt_at DATETIME NOT NULL,
+    PRIMARY KEY(id),
+    INDEX idx_coupon_issue_outbox_next_attempt_at (next_attempt_at, id)
+);
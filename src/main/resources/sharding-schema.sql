@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS member_directory (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(10) NOT NULL UNIQUE,
+    PRIMARY KEY(id)
+);
+
+CREATE TABLE IF NOT EXISTS shard_replication_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    global_table VARCHAR(20) NOT NULL,
+    row_id BIGINT NOT NULL,
+    shard INT NOT NULL,
+    requested_at DATETIME NOT NULL,
+    attempt_count INT NOT NULL DEFAULT(0),
+    PRIMARY KEY(id)
+);
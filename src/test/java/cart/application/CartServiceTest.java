@@ -0,0 +1,103 @@
+package cart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import cart.application.dto.cartitem.CartRequest;
+import cart.common.cache.ProductCache;
+import cart.persistence.dao.CartItemDao;
+import cart.persistence.dao.MemberDao;
+import cart.persistence.dao.ProductDao;
+import cart.persistence.dao.dto.CartItemDto;
+import cart.persistence.entity.MemberEntity;
+import cart.persistence.entity.ProductEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql({"classpath:init.sql"})
+class CartServiceTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private MemberDao memberDao;
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Autowired
+    private CartItemDao cartItemDao;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        productCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("이미 담긴 상품을 장바구니에 추가하면 수량이 증가한다.")
+    void addCart_increase_quantity() {
+        // given
+        memberDao.insert(new MemberEntity("journey", "password"));
+        final Long 저장된_치킨_아이디 = productDao.insert(new ProductEntity("치킨", "chicken_image_url", 20000, false));
+        final long 저장된_장바구니_아이디 = cartService.addCart("journey", new CartRequest(저장된_치킨_아이디));
+
+        // when
+        final long result = cartService.addCart("journey", new CartRequest(저장된_치킨_아이디));
+
+        // then
+        assertThat(result).isEqualTo(저장된_장바구니_아이디);
+        assertThat(cartItemDao.findByMemberName("journey"))
+            .extracting(CartItemDto::getCartId, CartItemDto::getProductQuantity)
+            .containsExactly(tuple(저장된_장바구니_아이디, 2));
+    }
+
+    @Test
+    @DisplayName("같은 상품을 동시에 장바구니에 추가해도 하나의 항목에 요청 수만큼 수량이 쌓인다.")
+    void addCart_concurrently() throws Exception {
+        // given
+        memberDao.insert(new MemberEntity("journey", "password"));
+        final Long 저장된_치킨_아이디 = productDao.insert(new ProductEntity("치킨", "chicken_image_url", 20000, false));
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch 시작_신호 = new CountDownLatch(1);
+
+        // when
+        final List<Future<Long>> 장바구니_아이디들 = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            장바구니_아이디들.add(executorService.submit(() -> {
+                시작_신호.await();
+                return cartService.addCart("journey", new CartRequest(저장된_치킨_아이디));
+            }));
+        }
+        시작_신호.countDown();
+        final List<Long> 결과 = new ArrayList<>();
+        for (final Future<Long> 장바구니_아이디 : 장바구니_아이디들) {
+            결과.add(장바구니_아이디.get());
+        }
+        executorService.shutdown();
+
+        // then
+        final List<CartItemDto> 장바구니 = cartItemDao.findByMemberName("journey");
+        assertThat(장바구니).hasSize(1);
+        assertThat(장바구니.get(0).getProductQuantity()).isEqualTo(THREAD_COUNT);
+        assertThat(결과).containsOnly(장바구니.get(0).getCartId());
+    }
+}
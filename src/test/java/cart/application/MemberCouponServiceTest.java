@@ -1,26 +1,30 @@
 package cart.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.groups.Tuple.tuple;
 
+import cart.common.cache.CouponRegistry;
+import cart.common.cache.OrderedMemberCache;
+import cart.common.sql.SqlStatementCounter;
 import cart.domain.event.FirstOrderCouponEvent;
 import cart.domain.event.JoinMemberCouponEvent;
-import cart.exception.BadRequestException;
-import cart.exception.ErrorCode;
+import cart.persistence.dao.CouponDao;
 import cart.persistence.dao.MemberCouponDao;
 import cart.persistence.dao.MemberDao;
 import cart.persistence.dao.OrderDao;
 import cart.persistence.dao.dto.MemberCouponDto;
+import cart.persistence.entity.CouponEntity;
 import cart.persistence.entity.MemberEntity;
 import cart.persistence.entity.OrderEntity;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -41,16 +45,41 @@ class MemberCouponServiceTest {
     @Autowired
     private MemberCouponService memberCouponService;
 
+    @Autowired
+    private CouponIssueWorker couponIssueWorker;
+
+    @Autowired
+    private OrderedMemberCache orderedMemberCache;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private CouponDao couponDao;
+
+    @Autowired
+    private CouponRegistry couponRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        orderedMemberCache.invalidateAll();
+        couponRegistry.invalidate();
+    }
+
     @Test
-    @DisplayName("회원 가입 축하 쿠폰을 발행한다.")
-    void saveJoinMemberCoupon() {
+    @DisplayName("회원 가입 축하 쿠폰 발행을 요청하면 일괄 발행 시 쿠폰이 발행된다.")
+    void requestJoinMemberCoupon() {
         // given
         final String 져니_이름 = "journey1";
         final Long 저장된_져니_아이디 = 사용자를_저장한다(져니_이름);
         final JoinMemberCouponEvent 회원_가입_쿠폰_발행_이벤트 = new JoinMemberCouponEvent(저장된_져니_아이디);
+        memberCouponService.requestJoinMemberCoupon(회원_가입_쿠폰_발행_이벤트);
 
         // when
-        memberCouponService.saveJoinMemberCoupon(회원_가입_쿠폰_발행_이벤트);
+        couponIssueWorker.drain();
 
         // then
         final List<MemberCouponDto> 져니_쿠폰들 = memberCouponDao.findMyCouponsByName(져니_이름);
@@ -64,19 +93,19 @@ class MemberCouponServiceTest {
     }
 
     @Test
-    @DisplayName("회원 가입 축하 쿠폰 발행 시 이미 발행이 완료되었다면 예외가 발생한다.")
-    void saveJoinMemberCoupon_already_issued() {
+    @DisplayName("같은 쿠폰 발행 요청이 여러 번 처리되어도 쿠폰은 한 번만 발행된다.")
+    void drain_already_issued() {
         // given
         final String 져니_이름 = "journey2";
         final Long 저장된_져니_아이디 = 사용자를_저장한다(져니_이름);
         final JoinMemberCouponEvent 회원_가입_쿠폰_발행_이벤트 = new JoinMemberCouponEvent(저장된_져니_아이디);
-        memberCouponService.saveJoinMemberCoupon(회원_가입_쿠폰_발행_이벤트);
+        memberCouponService.requestJoinMemberCoupon(회원_가입_쿠폰_발행_이벤트);
+        memberCouponService.requestJoinMemberCoupon(회원_가입_쿠폰_발행_이벤트);
+        couponIssueWorker.drain();
+        memberCouponService.requestJoinMemberCoupon(회원_가입_쿠폰_발행_이벤트);
 
-        // then
-        assertThatThrownBy(() -> memberCouponService.saveJoinMemberCoupon(회원_가입_쿠폰_발행_이벤트))
-            .isInstanceOf(BadRequestException.class)
-            .extracting("errorCode")
-            .isEqualTo(ErrorCode.COUPON_ALREADY_EXIST);
+        // when
+        couponIssueWorker.drain();
 
         // then
         final List<MemberCouponDto> 져니_쿠폰들 = memberCouponDao.findMyCouponsByName(져니_이름);
@@ -85,16 +114,73 @@ class MemberCouponServiceTest {
     }
 
     @Test
-    @DisplayName("첫 주문 감사 쿠폰을 발행한다.")
-    void saveFirstOrderCoupon() {
+    @DisplayName("쿠폰이 등록되어 있지 않아 발행하지 못한 요청은 남겨 두었다가 쿠폰이 등록되면 발행한다.")
+    void drain_coupon_not_registered() {
+        // given
+        final String 져니_이름 = "journey7";
+        final Long 저장된_져니_아이디 = 사용자를_저장한다(져니_이름);
+        final CouponEntity 가입_쿠폰 = couponDao.findByNameAndDiscountRate("신규 가입 축하 쿠폰", 20).get();
+        couponDao.deleteById(가입_쿠폰.getId());
+        couponRegistry.invalidate();
+        memberCouponService.requestJoinMemberCoupon(new JoinMemberCouponEvent(저장된_져니_아이디));
+        couponIssueWorker.drain();
+        assertThat(memberCouponDao.findMyCouponsByName(져니_이름)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT attempt_count FROM coupon_issue_outbox", Integer.class))
+            .isEqualTo(1);
+
+        // when
+        couponDao.insert(new CouponEntity(가입_쿠폰.getName(), 가입_쿠폰.getDiscountRate(), 가입_쿠폰.getPeriod(),
+            가입_쿠폰.getExpiredAt()));
+        couponRegistry.invalidate();
+        /** 다시 시도할 시각이 지났다 */
+        jdbcTemplate.update("UPDATE coupon_issue_outbox SET next_attempt_at = requested_at");
+        couponIssueWorker.drain();
+
+        // then
+        assertThat(memberCouponDao.findMyCouponsByName(져니_이름))
+            .extracting(MemberCouponDto::getCouponName)
+            .containsExactly("신규 가입 축하 쿠폰");
+    }
+
+    @Test
+    @DisplayName("발행하지 못한 요청은 다음 시도 시각을 미뤄 두고, 뒤에 쌓인 요청을 먼저 발행한다.")
+    void drain_postpone_failed() {
+        // given
+        final Long 저장된_져니_아이디 = 사용자를_저장한다("journey8");
+        final Long 저장된_라온_아이디 = 사용자를_저장한다("raon8");
+        final Long 라온_주문_아이디 = 상품을_주문한다(저장된_라온_아이디);
+        final CouponEntity 가입_쿠폰 = couponDao.findByNameAndDiscountRate("신규 가입 축하 쿠폰", 20).get();
+        couponDao.deleteById(가입_쿠폰.getId());
+        couponRegistry.invalidate();
+        memberCouponService.requestJoinMemberCoupon(new JoinMemberCouponEvent(저장된_져니_아이디));
+        couponIssueWorker.drain();
+        memberCouponService.requestFirstOrderCoupon(new FirstOrderCouponEvent(저장된_라온_아이디, 라온_주문_아이디));
+
+        // when
+        couponIssueWorker.drain();
+
+        // then
+        assertThat(memberCouponDao.findMyCouponsByName("raon8"))
+            .extracting(MemberCouponDto::getCouponName)
+            .containsExactly("첫 주문 감사 쿠폰");
+        assertThat(jdbcTemplate.queryForList("SELECT member_id FROM coupon_issue_outbox "
+            + "WHERE attempt_count = 1 AND next_attempt_at > NOW()", Long.class))
+            .containsExactly(저장된_져니_아이디);
+    }
+
+    @Test
+    @DisplayName("첫 주문 감사 쿠폰 발행을 요청하면 일괄 발행 시 쿠폰이 발행된다.")
+    void requestFirstOrderCoupon() {
         // given
         final String 져니_이름 = "journey3";
         final Long 저장된_져니_아이디 = 사용자를_저장한다(져니_이름);
-        상품을_주문한다(저장된_져니_아이디);
-        final FirstOrderCouponEvent 첫_주문_감사_쿠폰_발행_이벤트 = new FirstOrderCouponEvent(저장된_져니_아이디);
+        final Long 저장된_주문_아이디 = 상품을_주문한다(저장된_져니_아이디);
+        final FirstOrderCouponEvent 첫_주문_감사_쿠폰_발행_이벤트 = new FirstOrderCouponEvent(저장된_져니_아이디,
+            저장된_주문_아이디);
+        memberCouponService.requestFirstOrderCoupon(첫_주문_감사_쿠폰_발행_이벤트);
 
         // when
-        memberCouponService.saveFirstOrderCoupon(첫_주문_감사_쿠폰_발행_이벤트);
+        couponIssueWorker.drain();
 
         // then
         final List<MemberCouponDto> 져니_쿠폰들 = memberCouponDao.findMyCouponsByName(져니_이름);
@@ -108,47 +194,68 @@ class MemberCouponServiceTest {
     }
 
     @Test
-    @DisplayName("첫 주문 감사 쿠폰 발행 시 첫 주문이 아니라면 예외가 발생한다.")
-    void saveFirstOrderCoupon_not_first_order() {
+    @DisplayName("첫 주문이 아니라면 첫 주문 감사 쿠폰 발행을 요청하지 않는다.")
+    void requestFirstOrderCoupon_not_first_order() {
         // given
         final String 져니_이름 = "journey4";
         final Long 저장된_져니_아이디 = 사용자를_저장한다(져니_이름);
         상품을_주문한다(저장된_져니_아이디);
-        상품을_주문한다(저장된_져니_아이디);
-        final FirstOrderCouponEvent 첫_주문_감사_쿠폰_발행_이벤트 = new FirstOrderCouponEvent(저장된_져니_아이디);
+        final Long 두_번째_주문_아이디 = 상품을_주문한다(저장된_져니_아이디);
+        final FirstOrderCouponEvent 첫_주문_감사_쿠폰_발행_이벤트 = new FirstOrderCouponEvent(저장된_져니_아이디,
+            두_번째_주문_아이디);
 
-        // then
-        assertThatThrownBy(() -> memberCouponService.saveFirstOrderCoupon(첫_주문_감사_쿠폰_발행_이벤트))
-            .isInstanceOf(BadRequestException.class)
-            .extracting("errorCode")
-            .isEqualTo(ErrorCode.COUPON_NOT_FIRST_ORDER);
+        // when
+        memberCouponService.requestFirstOrderCoupon(첫_주문_감사_쿠폰_발행_이벤트);
 
         // then
+        couponIssueWorker.drain();
         final List<MemberCouponDto> 져니_쿠폰들 = memberCouponDao.findMyCouponsByName(져니_이름);
         assertThat(져니_쿠폰들)
             .hasSize(0);
     }
 
     @Test
-    @DisplayName("첫 주문 감사 쿠폰 발행 시 이미 발행이 완료되었다면 예외가 발생한다.")
-    void saveFirstOrderCoupon_already_issued() {
+    @DisplayName("이미 주문한 적이 있다고 기록된 회원은 SQL을 실행하지 않고 첫 주문 감사 쿠폰 발행 요청을 건너뛴다.")
+    void requestFirstOrderCoupon_ordered_member() {
         // given
-        final String 져니_이름 = "journey5";
-        final Long 저장된_져니_아이디 = 사용자를_저장한다(져니_이름);
-        final FirstOrderCouponEvent 첫_주문_감사_쿠폰_발행_이벤트 = new FirstOrderCouponEvent(저장된_져니_아이디);
+        final Long 저장된_져니_아이디 = 사용자를_저장한다("journey6");
         상품을_주문한다(저장된_져니_아이디);
-        memberCouponService.saveFirstOrderCoupon(첫_주문_감사_쿠폰_발행_이벤트);
+        final Long 두_번째_주문_아이디 = 상품을_주문한다(저장된_져니_아이디);
+        memberCouponService.requestFirstOrderCoupon(new FirstOrderCouponEvent(저장된_져니_아이디, 두_번째_주문_아이디));
+        final Long 세_번째_주문_아이디 = 상품을_주문한다(저장된_져니_아이디);
+        sqlStatementCounter.reset();
+
+        // when
+        memberCouponService.requestFirstOrderCoupon(new FirstOrderCouponEvent(저장된_져니_아이디, 세_번째_주문_아이디));
 
         // then
-        assertThatThrownBy(() -> memberCouponService.saveFirstOrderCoupon(첫_주문_감사_쿠폰_발행_이벤트))
-            .isInstanceOf(BadRequestException.class)
-            .extracting("errorCode")
-            .isEqualTo(ErrorCode.COUPON_ALREADY_EXIST);
+        assertThat(sqlStatementCounter.getCount()).isZero();
+        assertThat(orderedMemberCache.hasOrdered(저장된_져니_아이디)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 회원의 쿠폰 발행 요청을 한 번에 처리한다.")
+    void drain_multiple_members() {
+        // given
+        final Long 저장된_져니_아이디 = 사용자를_저장한다("journey5");
+        final Long 저장된_라온_아이디 = 사용자를_저장한다("raon");
+        final Long 저장된_하디_아이디 = 사용자를_저장한다("hardy");
+        final long 처리_전_요청_수 = couponIssueWorker.stats().getProcessedCount();
+        memberCouponService.requestJoinMemberCoupon(new JoinMemberCouponEvent(저장된_져니_아이디));
+        memberCouponService.requestJoinMemberCoupon(new JoinMemberCouponEvent(저장된_라온_아이디));
+        memberCouponService.requestJoinMemberCoupon(new JoinMemberCouponEvent(저장된_하디_아이디));
+
+        // when
+        couponIssueWorker.drain();
 
         // then
-        final List<MemberCouponDto> 져니_쿠폰들 = memberCouponDao.findMyCouponsByName(져니_이름);
-        assertThat(져니_쿠폰들)
-            .hasSize(1);
+        assertThat(couponIssueWorker.stats().getProcessedCount() - 처리_전_요청_수)
+            .isEqualTo(3);
+        assertThat(couponIssueWorker.stats().getQueueDepth())
+            .isZero();
+        assertThat(memberCouponDao.findMyCouponsByName("raon"))
+            .extracting(MemberCouponDto::getCouponName)
+            .containsExactly("신규 가입 축하 쿠폰");
     }
 
     private Long 사용자를_저장한다(final String name) {
@@ -156,10 +263,10 @@ class MemberCouponServiceTest {
         return memberDao.insert(져니);
     }
 
-    private void 상품을_주문한다(final Long 저장된_져니_아이디) {
+    private Long 상품을_주문한다(final Long 저장된_져니_아이디) {
         final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
         final OrderEntity 주문_엔티티 = new OrderEntity(저장된_져니_아이디, BigDecimal.valueOf(10000),
             BigDecimal.valueOf(9000), 3000, 주문_시간);
-        orderDao.insert(주문_엔티티);
+        return orderDao.insert(주문_엔티티);
     }
 }
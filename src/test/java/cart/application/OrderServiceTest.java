@@ -0,0 +1,76 @@
+package cart.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cart.application.dto.order.OrderProductRequest;
+import cart.application.dto.order.OrderRequest;
+import cart.common.sql.SqlStatementCounter;
+import cart.persistence.dao.CartItemDao;
+import cart.persistence.dao.MemberCouponDao;
+import cart.persistence.dao.MemberDao;
+import cart.persistence.dao.ProductDao;
+import cart.persistence.entity.CartEntity;
+import cart.persistence.entity.MemberCouponEntity;
+import cart.persistence.entity.MemberEntity;
+import cart.persistence.entity.ProductEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql({"classpath:init.sql", "classpath:data.sql"})
+class OrderServiceTest {
+
+    private static final long CHECKOUT_STATEMENT_BUDGET = 10L;
+
+    @Autowired
+    private MemberDao memberDao;
+
+    @Autowired
+    private ProductDao productDao;
+
+    @Autowired
+    private CartItemDao cartItemDao;
+
+    @Autowired
+    private MemberCouponDao memberCouponDao;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Test
+    @DisplayName("쿠폰을 사용한 첫 주문은 정해진 개수 이하의 SQL 문으로 처리된다.")
+    void orderProduct_statement_budget() {
+        // given
+        final Long 저장된_져니_아이디 = memberDao.insert(new MemberEntity("journey", "password"));
+        final Long 저장된_치킨_아이디 = productDao.insert(new ProductEntity("치킨", "chicken_image_url", 20000, false));
+        final Long 저장된_피자_아이디 = productDao.insert(new ProductEntity("피자", "pizza_image_url", 30000, false));
+        cartItemDao.insert(new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 1));
+        cartItemDao.insert(new CartEntity(저장된_져니_아이디, 저장된_피자_아이디, 1));
+        final LocalDateTime 쿠폰_발급_시간 = LocalDateTime.now();
+        memberCouponDao.insert(new MemberCouponEntity(저장된_져니_아이디, 1L, 쿠폰_발급_시간,
+            쿠폰_발급_시간.plusDays(14), false));
+
+        final OrderRequest 주문_요청 = new OrderRequest(1L, List.of(
+            new OrderProductRequest(저장된_치킨_아이디, 10),
+            new OrderProductRequest(저장된_피자_아이디, 5)));
+        sqlStatementCounter.reset();
+
+        // when
+        orderService.orderProduct("journey", 주문_요청);
+
+        // then
+        assertThat(sqlStatementCounter.getCount())
+            .isLessThanOrEqualTo(CHECKOUT_STATEMENT_BUDGET);
+        assertThat(cartItemDao.findByMemberName("journey")).isEmpty();
+    }
+}
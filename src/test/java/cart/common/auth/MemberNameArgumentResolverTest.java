@@ -2,11 +2,14 @@ package cart.common.auth;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import cart.application.MemberService;
 import cart.application.dto.member.MemberResponse;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +17,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.context.request.ServletWebRequest;
@@ -27,6 +31,9 @@ class MemberNameArgumentResolverTest {
     @Mock
     private MemberService memberService;
 
+    @Spy
+    private AuthenticationCache authenticationCache = new AuthenticationCache(100, Duration.ofMinutes(5));
+
     @InjectMocks
     private MemberNameArgumentResolver memberNameArgumentResolver;
 
@@ -75,4 +82,31 @@ class MemberNameArgumentResolverTest {
         assertThat(memberName)
             .isEqualTo("journey");
     }
+
+    @Test
+    @DisplayName("이미 인증된 Authorization 헤더라면, 사용자 정보를 다시 조회하지 않는다.")
+    void resolveArgument_cached() throws NoSuchMethodException {
+        // given
+        final Method method = MemberNameArgumentResolverTestController.class.getDeclaredMethod(
+            "hasParam", String.class);
+        final MethodParameter memberNameParam = MethodParameter.forExecutable(method, 0);
+        when(servletWebRequest.getHeader("Authorization"))
+            .thenReturn("Basic am91cm5leTp0ZXN0MTIzNA==");
+        final MemberResponse memberResponse = new MemberResponse("journey",
+            "937e8d5fbb48bd4949536cd65b8d35c426b80d2f830c5c308e2cdec422ae2244");
+        when(memberService.getByName(any()))
+            .thenReturn(memberResponse);
+        memberNameArgumentResolver.resolveArgument(memberNameParam, null, servletWebRequest, null);
+
+        // when
+        final String memberName = memberNameArgumentResolver.resolveArgument(memberNameParam,
+            null, servletWebRequest, null);
+
+        // then
+        assertThat(memberName)
+            .isEqualTo("journey");
+        verify(memberService, times(1)).getByName(any());
+        assertThat(authenticationCache.stats().getHitCount())
+            .isEqualTo(1L);
+    }
 }
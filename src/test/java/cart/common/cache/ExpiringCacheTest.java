@@ -0,0 +1,121 @@
+package cart.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+
+    private AtomicLong ticker;
+    private ExpiringCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new AtomicLong();
+        cache = new ExpiringCache<>(2, Duration.ofSeconds(10), ticker::get);
+    }
+
+    @Test
+    @DisplayName("저장된 값을 조회하면 hit 횟수가 증가한다.")
+    void get_hit() {
+        // given
+        cache.put("journey", "value");
+
+        // when
+        final String value = cache.get("journey").get();
+
+        // then
+        assertThat(value).isEqualTo("value");
+        assertThat(cache.stats())
+            .extracting(CacheStats::getHitCount, CacheStats::getMissCount)
+            .containsExactly(1L, 0L);
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지난 값은 조회되지 않고 제거된다.")
+    void get_expired() {
+        // given
+        cache.put("journey", "value");
+        ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when, then
+        assertThat(cache.get("journey")).isEmpty();
+        assertThat(cache.stats())
+            .extracting(CacheStats::getMissCount, CacheStats::getEvictionCount)
+            .containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 값을 제거한다.")
+    void put_overflow() {
+        // given
+        cache.put("journey", "1");
+        cache.put("raon", "2");
+        cache.get("journey");
+
+        // when
+        cache.put("juny", "3");
+
+        // then
+        assertThat(cache.get("raon")).isEmpty();
+        assertThat(cache.get("journey")).contains("1");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 값을 제거한다.")
+    void invalidateIf() {
+        // given
+        cache.put("token1", "journey");
+        cache.put("token2", "raon");
+
+        // when
+        cache.invalidateIf("journey"::equals);
+
+        // then
+        assertThat(cache.get("token1")).isEmpty();
+        assertThat(cache.get("token2")).contains("raon");
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 값은 한 번만 불러와서 저장하고, 불러온 횟수와 시간을 기록한다.")
+    void getOrLoad() {
+        // given
+        final AtomicLong 불러온_횟수 = new AtomicLong();
+
+        // when
+        cache.getOrLoad("journey", key -> {
+            불러온_횟수.incrementAndGet();
+            ticker.addAndGet(100L);
+            return Optional.of("value");
+        });
+        final Optional<String> value = cache.getOrLoad("journey", key -> Optional.of("other"));
+
+        // then
+        assertThat(value).contains("value");
+        assertThat(불러온_횟수.get()).isEqualTo(1L);
+        assertThat(cache.stats())
+            .extracting(CacheStats::getHitCount, CacheStats::getLoadCount, CacheStats::getTotalLoadTimeNanos)
+            .containsExactly(1L, 1L, 100L);
+    }
+
+    @Test
+    @DisplayName("값을 불러오는 도중 무효화되면 불러온 값을 저장하지 않는다.")
+    void getOrLoad_invalidated() {
+        // when
+        final Optional<String> value = cache.getOrLoad("journey", key -> {
+            cache.invalidate(key);
+            return Optional.of("stale");
+        });
+
+        // then
+        assertThat(value).contains("stale");
+        assertThat(cache.size()).isZero();
+    }
+}
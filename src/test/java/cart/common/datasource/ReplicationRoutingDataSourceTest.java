@@ -0,0 +1,152 @@
+package cart.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cart.common.auth.MemberNameArgumentResolver;
+import cart.common.cache.ProductCache;
+import cart.domain.product.Product;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReplicationRoutingDataSourceTest {
+
+    private static final String REPLICA_NAME = "replica-1";
+    private static final String WHERE_AM_I_SQL = "SELECT name FROM routing_marker";
+
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = markedDataSource("routing_primary", ReplicationRoutingDataSource.PRIMARY);
+        replica = markedDataSource("routing_replica", REPLICA_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica 에서 실행된다.")
+    void route_read_only_to_replica() {
+        // given
+        route(replicaLagMonitor("SELECT 0 AS lag"));
+
+        // when
+        final String target = whereAmI(true);
+
+        // then
+        assertThat(target).isEqualTo(REPLICA_NAME);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 에서 실행된다.")
+    void route_write_to_primary() {
+        // given
+        route(replicaLagMonitor("SELECT 0 AS lag"));
+
+        // when
+        final String target = whereAmI(false);
+
+        // then
+        assertThat(target).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("데이터를 변경한 회원의 조회는 일정 시간 동안 primary 에서 실행된다.")
+    void route_read_your_writes_to_primary() {
+        // given
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(MemberNameArgumentResolver.MEMBER_NAME_ATTRIBUTE, "journey");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        route(replicaLagMonitor("SELECT 0 AS lag"));
+        whereAmI(false);
+
+        // when
+        final String target = whereAmI(true);
+
+        // then
+        assertThat(target).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘으면 readOnly 트랜잭션도 primary 에서 실행된다.")
+    void route_lagging_replica_to_primary() {
+        // given
+        route(replicaLagMonitor("SELECT 10 AS lag"));
+
+        // when
+        final String target = whereAmI(true);
+
+        // then
+        assertThat(target).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션에서 상품 캐시를 채우더라도 primary 에서 읽는다.")
+    void route_cache_load_to_primary() {
+        // given
+        route(replicaLagMonitor("SELECT 0 AS lag"));
+        final ProductCache productCache = new ProductCache(100, Duration.ofMinutes(10), transactionManager);
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // when
+        final Optional<Product> product = transactionTemplate.execute(status -> productCache.getProductById(1L,
+            id -> Optional.of(new Product(id, jdbcTemplate.queryForObject(WHERE_AM_I_SQL, String.class), 1_000,
+                "http://example.com/chicken.jpg", false))));
+
+        // then
+        assertThat(product).map(Product::getName).hasValue(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    private ReplicaLagMonitor replicaLagMonitor(final String lagQuery) {
+        final ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(Map.of(REPLICA_NAME, replica), lagQuery,
+            "lag", Duration.ofSeconds(3));
+        replicaLagMonitor.check();
+        return replicaLagMonitor;
+    }
+
+    private void route(final ReplicaLagMonitor replicaLagMonitor) {
+        final ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+            new ReplicationDataSources(primary, Map.of(REPLICA_NAME, replica)),
+            new ReadYourWritesWindow(100, Duration.ofSeconds(5)), replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        final DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    private String whereAmI(final boolean readOnly) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(WHERE_AM_I_SQL, String.class));
+    }
+
+    private DataSource markedDataSource(final String databaseName, final String marker) {
+        final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM routing_marker");
+        jdbcTemplate.update("INSERT INTO routing_marker (name) VALUES (?)", marker);
+        return dataSource;
+    }
+}
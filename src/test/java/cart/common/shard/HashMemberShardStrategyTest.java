@@ -0,0 +1,46 @@
+package cart.common.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMemberShardStrategyTest {
+
+    private final HashMemberShardStrategy strategy = new HashMemberShardStrategy();
+
+    @Test
+    @DisplayName("같은 회원 id 는 항상 같은 샤드를 가리킨다.")
+    void shardOf_same_member() {
+        // given
+        final long memberId = 42L;
+
+        // when
+        final int shard = strategy.shardOf(memberId, 3);
+
+        // then
+        assertThat(strategy.shardOf(memberId, 3)).isEqualTo(shard);
+        assertThat(shard).isBetween(0, 2);
+    }
+
+    @Test
+    @DisplayName("연속으로 발급된 회원 id 는 샤드에 고르게 나뉜다.")
+    void shardOf_distribution() {
+        // given
+        final int shardCount = 3;
+
+        // when
+        final Map<Integer, Long> memberCountByShard = LongStream.rangeClosed(1, 3000)
+            .mapToObj(memberId -> strategy.shardOf(memberId, shardCount))
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        // then
+        assertThat(memberCountByShard).containsOnlyKeys(0, 1, 2);
+        assertThat(memberCountByShard.values())
+            .allSatisfy(memberCount -> assertThat(memberCount).isBetween(800L, 1200L));
+    }
+}
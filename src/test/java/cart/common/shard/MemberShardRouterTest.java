@@ -0,0 +1,323 @@
+package cart.common.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cart.common.cache.ProductCache;
+import cart.domain.product.Product;
+import cart.exception.DBException;
+import cart.exception.ErrorCode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class MemberShardRouterTest {
+
+    private static final int SHARD_COUNT = 3;
+    private static final int GLOBAL_SHARD = 0;
+    private static final long ROW_ID_BLOCK_SIZE = 1_000L;
+    private static final int MAX_REPLICATION_ATTEMPTS = 3;
+    private static final String WHERE_AM_I_SQL = "SELECT name FROM routing_marker";
+    private static final String INSERT_MEMBER_SQL = "INSERT INTO member(id, name, password) VALUES (?, ?, ?)";
+    private static final String INSERT_ORDER_SQL = "INSERT INTO `order`(member_id, total_price, "
+        + "discounted_total_price, delivery_price, ordered_at, is_valid) VALUES (?, 10000, 10000, 3000, NOW(), 1)";
+
+    private List<DataSource> shards;
+    private ShardDataSources shardDataSources;
+    private ShardRowIdRanges shardRowIdRanges;
+    private MemberDirectory memberDirectory;
+    private GlobalTableReplicator globalTableReplicator;
+    private MemberShardRouter shardRouter;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        shards = IntStream.range(0, SHARD_COUNT)
+            .mapToObj(this::markedShard)
+            .collect(Collectors.toList());
+        shardDataSources = new ShardDataSources(shards, GLOBAL_SHARD);
+        shardRowIdRanges = new ShardRowIdRanges(SHARD_COUNT, GLOBAL_SHARD, ROW_ID_BLOCK_SIZE);
+        shardRowIdRanges.assign(shardDataSources);
+
+        final ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDataSources);
+        routingDataSource.afterPropertiesSet();
+        final DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        memberDirectory = new MemberDirectory(new JdbcTemplate(shards.get(GLOBAL_SHARD)),
+            (memberId, shardCount) -> (int) (memberId % shardCount), SHARD_COUNT, 100, Duration.ofMinutes(1));
+        globalTableReplicator = new GlobalTableReplicator(jdbcTemplate, shardDataSources, 100,
+            MAX_REPLICATION_ATTEMPTS);
+        shardRouter = new MemberShardRouter(shardDataSources, memberDirectory, shardRowIdRanges,
+            globalTableReplicator, transactionManager, Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardRouter.shutdown();
+    }
+
+    @Test
+    @DisplayName("회원의 데이터는 회원 id 가 가리키는 샤드에서 다룬다.")
+    void onMember() {
+        // when
+        final String target = transactionTemplate.execute(status -> shardRouter.onMember(5L, this::whereAmI));
+
+        // then
+        assertThat(target).isEqualTo("shard-2");
+    }
+
+    @Test
+    @DisplayName("한 샤드에 묶인 트랜잭션에서 다른 샤드의 회원 데이터를 다루면 예외가 발생한다.")
+    void onMember_other_shard_in_transaction() {
+        // expected
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            shardRouter.onMember(1L, this::whereAmI);
+            shardRouter.onMember(2L, this::whereAmI);
+        }))
+            .isInstanceOf(DBException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.DB_SHARD_ERROR);
+    }
+
+    @Test
+    @DisplayName("여러 샤드에 흩어진 회원의 데이터를 한 번에 다루면 예외가 발생한다.")
+    void onMembers_multiple_shards() {
+        // expected
+        assertThatThrownBy(() -> shardRouter.onMembers(List.of(1L, 2L), this::whereAmI))
+            .isInstanceOf(DBException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.DB_SHARD_ERROR);
+    }
+
+    @Test
+    @DisplayName("공용 테이블 조회는 샤드가 정해지지 않은 트랜잭션을 공용 샤드에 묶지 않고, 샤드가 정해진 뒤에는 그 샤드의 복제본을 읽는다.")
+    void readGlobal() {
+        // when
+        final List<String> targets = transactionTemplate.execute(status -> List.of(
+            shardRouter.readGlobal(this::whereAmI),
+            shardRouter.onMember(2L, this::whereAmI),
+            shardRouter.readGlobal(this::whereAmI)));
+
+        // then
+        assertThat(targets).containsExactly("shard-0", "shard-2", "shard-2");
+    }
+
+    @Test
+    @DisplayName("회원 샤드에 묶인 트랜잭션에서 캐시를 채우더라도 공용 샤드의 원본을 읽는다.")
+    void onGlobal_cache_load_in_member_transaction() {
+        // given
+        final ProductCache productCache = new ProductCache(100, Duration.ofMinutes(10), transactionManager);
+
+        // when
+        final Optional<Product> product = transactionTemplate.execute(status -> {
+            shardRouter.onMember(2L, this::whereAmI);
+            return productCache.getProductById(1L, id -> Optional.of(new Product(id,
+                shardRouter.onGlobal(this::whereAmI), 1_000, "http://example.com/chicken.jpg", false)));
+        });
+
+        // then
+        assertThat(product).map(Product::getName).hasValue("shard-0");
+    }
+
+    @Test
+    @DisplayName("모든 샤드에서 실행한 결과를 샤드 순서대로 돌려준다.")
+    void scatter() {
+        // when
+        final List<String> targets = shardRouter.scatter(this::whereAmI);
+
+        // then
+        assertThat(targets).containsExactly("shard-0", "shard-1", "shard-2");
+    }
+
+    @Test
+    @DisplayName("주문 id 는 회원 샤드의 범위에서 발급되고, id 만으로 주문이 있는 샤드를 찾는다.")
+    void onRowId() {
+        // given
+        final Long orderId = transactionTemplate.execute(status -> shardRouter.onMember(2L, () -> {
+            jdbcTemplate.update(INSERT_MEMBER_SQL, 2L, "journey", "password");
+            jdbcTemplate.update(INSERT_ORDER_SQL, 2L);
+            return jdbcTemplate.queryForObject("SELECT MAX(id) FROM `order`", Long.class);
+        }));
+
+        // when
+        final String target = shardRouter.onRowId(orderId, this::whereAmI);
+
+        // then
+        assertThat(orderId).isEqualTo(2_001L);
+        assertThat(target).isEqualTo("shard-2");
+    }
+
+    @Test
+    @DisplayName("행 id 를 같은 샤드끼리 요청 순서대로 나눈다.")
+    void partitionRowIds() {
+        // when
+        final List<List<Long>> partitions = shardRouter.partitionRowIds(List.of(2_001L, 1L, 1_001L, 2L));
+
+        // then
+        assertThat(partitions).containsExactly(List.of(2_001L), List.of(1L, 2L), List.of(1_001L));
+    }
+
+    @Test
+    @DisplayName("회원의 샤드 범위를 벗어난 id 가 발급되면 예외가 발생한다.")
+    void checkRowId_other_shard() {
+        // expected
+        assertThatThrownBy(() -> shardRouter.checkRowId(1L, 2_001L))
+            .isInstanceOf(DBException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.DB_SHARD_ERROR);
+    }
+
+    @Test
+    @DisplayName("샤드에 범위를 벗어난 주문 id 가 이미 있으면 id 범위를 맞추지 않고 예외가 발생한다.")
+    void assign_out_of_range() {
+        // given
+        final JdbcTemplate shardJdbcTemplate = new JdbcTemplate(shards.get(1));
+        shardJdbcTemplate.execute("ALTER TABLE `order` auto_increment = 1");
+        shardJdbcTemplate.update(INSERT_MEMBER_SQL, 1L, "journey", "password");
+        shardJdbcTemplate.update(INSERT_ORDER_SQL, 1L);
+
+        // expected
+        assertThatThrownBy(() -> shardRowIdRanges.assign(shardDataSources))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("공용 테이블의 변경은 커밋한 뒤 나머지 샤드에 같은 id 로 복제된다.")
+    void replicate() {
+        // when
+        final Long productId = transactionTemplate.execute(status -> saveProduct("치킨", 10_000));
+
+        // then
+        assertThat(productNames(productId)).containsExactly(List.of("치킨"), List.of("치킨"), List.of("치킨"));
+        assertThat(globalTableReplicator.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백된 공용 테이블의 변경은 복제하지 않는다.")
+    void replicate_rollback() {
+        // when
+        final Long productId = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return saveProduct("치킨", 10_000);
+        });
+
+        // then
+        assertThat(productNames(productId)).containsExactly(List.of(), List.of(), List.of());
+        assertThat(globalTableReplicator.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("복제하지 못한 행은 outbox 에 남아 있다가 다시 시도할 때 복제된다.")
+    void replicate_retry() {
+        // given
+        final JdbcTemplate failingShard = new JdbcTemplate(shards.get(2));
+        failingShard.execute("ALTER TABLE product ADD CONSTRAINT chk_replication_test CHECK (price < 100)");
+        final Long productId = transactionTemplate.execute(status -> saveProduct("치킨", 10_000));
+        final long pendingCountAfterFailure = globalTableReplicator.countPending();
+        final List<List<String>> productNamesAfterFailure = productNames(productId);
+        failingShard.execute("ALTER TABLE product DROP CONSTRAINT chk_replication_test");
+
+        // when
+        final int failedCount = globalTableReplicator.deliver();
+
+        // then
+        assertThat(pendingCountAfterFailure).isEqualTo(1);
+        assertThat(productNamesAfterFailure).containsExactly(List.of("치킨"), List.of("치킨"), List.of());
+        assertThat(failedCount).isZero();
+        assertThat(globalTableReplicator.countPending()).isZero();
+        assertThat(productNames(productId)).containsExactly(List.of("치킨"), List.of("치킨"), List.of("치킨"));
+    }
+
+    @Test
+    @DisplayName("정해진 횟수만큼 복제하지 못한 행은 outbox 에 남겨 두고 더 이상 다시 시도하지 않는다.")
+    void replicate_parked() {
+        // given
+        final JdbcTemplate failingShard = new JdbcTemplate(shards.get(2));
+        failingShard.execute("ALTER TABLE product ADD CONSTRAINT chk_replication_test CHECK (price < 100)");
+        final Long productId = transactionTemplate.execute(status -> saveProduct("치킨", 10_000));
+        for (int attempt = 1; attempt < MAX_REPLICATION_ATTEMPTS; attempt++) {
+            globalTableReplicator.deliver();
+        }
+        failingShard.execute("ALTER TABLE product DROP CONSTRAINT chk_replication_test");
+
+        // when
+        final int failedCount = globalTableReplicator.deliver();
+
+        // then
+        assertThat(failedCount).isZero();
+        assertThat(globalTableReplicator.countPending()).isZero();
+        assertThat(globalTableReplicator.countParked()).isEqualTo(1);
+        assertThat(productNames(productId)).containsExactly(List.of("치킨"), List.of("치킨"), List.of());
+    }
+
+    @Test
+    @DisplayName("회원 가입이 롤백되면 디렉터리에서 발급한 회원 id 를 지운다.")
+    void reserveMemberId_rollback() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            final Long memberId = shardRouter.reserveMemberId("journey").orElseThrow();
+            shardRouter.onMember(memberId,
+                () -> jdbcTemplate.update(INSERT_MEMBER_SQL, memberId, "journey", "password"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(memberDirectory.findMemberId("journey")).isEmpty();
+        assertThat(shardRouter.reserveMemberId("journey")).isPresent();
+    }
+
+    private Long saveProduct(final String name, final int price) {
+        final Long productId = shardRouter.onGlobal(() -> {
+            jdbcTemplate.update("INSERT INTO product(name, price, image_url) VALUES (?, ?, ?)", name, price,
+                "http://example.com/product.jpg");
+            return jdbcTemplate.queryForObject("SELECT MAX(id) FROM product", Long.class);
+        });
+        shardRouter.replicate(GlobalTable.PRODUCT, List.of(productId));
+        return productId;
+    }
+
+    private List<List<String>> productNames(final Long productId) {
+        return shards.stream()
+            .map(shard -> new JdbcTemplate(shard).queryForList("SELECT name FROM product WHERE id = ?",
+                String.class, productId))
+            .collect(Collectors.toList());
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject(WHERE_AM_I_SQL, String.class);
+    }
+
+    private DataSource markedShard(final int shard) {
+        final DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:router_shard" + shard + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("sharding-schema.sql"),
+            new ClassPathResource("init.sql")).execute(dataSource);
+        final JdbcTemplate shardJdbcTemplate = new JdbcTemplate(dataSource);
+        shardJdbcTemplate.execute("ALTER TABLE product DROP CONSTRAINT IF EXISTS chk_replication_test");
+        shardJdbcTemplate.update("DELETE FROM member_directory");
+        shardJdbcTemplate.update("DELETE FROM shard_replication_outbox");
+        shardJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))");
+        shardJdbcTemplate.update("DELETE FROM routing_marker");
+        shardJdbcTemplate.update("INSERT INTO routing_marker (name) VALUES (?)", "shard-" + shard);
+        return dataSource;
+    }
+}
@@ -0,0 +1,135 @@
+package cart.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cart.domain.cartitem.CartItem;
+import cart.domain.product.Product;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MoneyTest {
+
+    private static final long SEED = 20230601L;
+    private static final int SAMPLE_COUNT = 500;
+    private static final int MAX_CART_SIZE = 50;
+    private static final int MAX_PRODUCT_PRICE = 10_000_000;
+    private static final int MAX_ORDER_QUANTITY = 100_000;
+    private static final long MAX_ORDER_PRICE = (long) MAX_PRODUCT_PRICE * MAX_ORDER_QUANTITY;
+    private static final int MIN_DISCOUNT_RATE = 5;
+    private static final int MAX_DISCOUNT_RATE = 90;
+    private static final int HALF_REFUND_RATE = 50;
+
+    @Test
+    @DisplayName("비율만큼의 금액을 소수점 이하를 버려서 반환한다.")
+    void percent() {
+        // given
+        final Money money = Money.create(12_345);
+
+        // when
+        final Money result = money.percent(80);
+
+        // then
+        assertThat(result).isEqualTo(Money.create(9_876));
+    }
+
+    @Test
+    @DisplayName("금액 계산 중 long 범위를 넘어서면 예외가 발생한다.")
+    void times_overflow() {
+        // given
+        final Money money = Money.create(Long.MAX_VALUE / 2 + 1);
+
+        // when, then
+        assertThatThrownBy(() -> money.times(2))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("소수점이 있는 금액으로는 생성할 수 없다.")
+    void from_fail() {
+        assertThatThrownBy(() -> Money.from(new BigDecimal("100.5")))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest(name = "임의의 장바구니에 대해 총 주문 금액이 BigDecimal 계산 결과와 같다.")
+    @MethodSource("randomCartItems")
+    void calculateTotalOrderPrice_equivalence(final List<CartItem> cartItems) {
+        // when
+        final BigDecimal result = OrderPriceCalculator.calculateTotalOrderPrice(cartItems).toBigDecimal();
+
+        // then
+        assertThat(result).isEqualTo(legacyTotalOrderPrice(cartItems));
+    }
+
+    @ParameterizedTest(name = "임의의 주문 금액에 대해 모든 쿠폰 할인율의 계산 결과가 기존 계산 결과와 같다.")
+    @MethodSource("randomOrderPrices")
+    void discount_equivalence(final long orderPrice) {
+        final Money money = Money.create(orderPrice);
+        final BigDecimal legacyPrice = BigDecimal.valueOf(orderPrice);
+
+        IntStream.rangeClosed(MIN_DISCOUNT_RATE, MAX_DISCOUNT_RATE).forEach(discountRate ->
+            assertThat(money.percent(100 - discountRate).toBigDecimal())
+                .isEqualTo(legacyPercent(legacyPrice, 100 - discountRate)));
+    }
+
+    @ParameterizedTest(name = "임의의 결제 금액에 대해 부분 환불 금액이 기존 계산 결과와 같다.")
+    @MethodSource("randomOrderPrices")
+    void halfRefund_equivalence(final long orderPrice) {
+        // given
+        final BigDecimal legacyPrice = BigDecimal.valueOf(orderPrice);
+
+        // when
+        final BigDecimal result = Money.from(legacyPrice).percent(HALF_REFUND_RATE).toBigDecimal();
+
+        // then
+        assertThat(result).isEqualTo(legacyPercent(legacyPrice, HALF_REFUND_RATE));
+    }
+
+    private static Stream<List<CartItem>> randomCartItems() {
+        final Random random = new Random(SEED);
+        return IntStream.range(0, SAMPLE_COUNT)
+            .mapToObj(ignored -> randomCart(random));
+    }
+
+    private static List<CartItem> randomCart(final Random random) {
+        final int cartSize = random.nextInt(MAX_CART_SIZE) + 1;
+        final List<CartItem> cartItems = new ArrayList<>(cartSize);
+        int remainQuantity = MAX_ORDER_QUANTITY;
+        for (int i = 1; i <= cartSize && remainQuantity > 0; i++) {
+            final int quantity = random.nextInt(remainQuantity) + 1;
+            final int price = random.nextInt(MAX_PRODUCT_PRICE) + 1;
+            cartItems.add(new CartItem((long) i, quantity, new Product((long) i, "상품" + i, price,
+                "image_url", false)));
+            remainQuantity -= quantity;
+        }
+        return cartItems;
+    }
+
+    private static LongStream randomOrderPrices() {
+        final Random random = new Random(SEED);
+        final LongStream boundaries = LongStream.of(0L, 1L, 99L, 100L, 101L, MAX_ORDER_PRICE - 1, MAX_ORDER_PRICE);
+        final LongStream samples = random.longs(SAMPLE_COUNT, 1L, MAX_ORDER_PRICE + 1);
+        return LongStream.concat(boundaries, samples);
+    }
+
+    private static BigDecimal legacyTotalOrderPrice(final List<CartItem> cartItems) {
+        return cartItems.stream()
+            .map(cartItem -> BigDecimal.valueOf(cartItem.getProduct().getPrice())
+                .multiply(BigDecimal.valueOf(cartItem.getQuantity())))
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static BigDecimal legacyPercent(final BigDecimal price, final int rate) {
+        return price.multiply(BigDecimal.valueOf(rate * 0.01)).setScale(0, RoundingMode.DOWN);
+    }
+}
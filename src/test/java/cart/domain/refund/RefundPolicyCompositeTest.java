@@ -1,13 +1,8 @@
 package cart.domain.refund;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
-import cart.domain.cartitem.CartItem;
-import cart.domain.member.EncryptedPassword;
-import cart.domain.member.Member;
-import cart.domain.order.BasicOrder;
-import cart.domain.product.Product;
 import cart.exception.BadRequestException;
 import cart.exception.ErrorCode;
 import java.time.LocalDateTime;
@@ -15,6 +10,8 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 class RefundPolicyCompositeTest {
 
@@ -27,38 +24,69 @@ class RefundPolicyCompositeTest {
         );
     }
 
+    @ParameterizedTest(name = "주문한 지 {0}일이 지났다면 {1} 를 반환한다.")
+    @CsvSource(value = {"0:FullRefundPolicy", "2:FullRefundPolicy", "3:HalfRefundPolicy", "6:HalfRefundPolicy"},
+        delimiter = ':')
+    void getRefundPolicy(final int day, final String expected) {
+        // given
+        final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+
+        // when
+        final RefundPolicy refundPolicy = refundPolicyComposite.getRefundPolicy(주문_시간, 주문_시간.plusDays(day));
+
+        // then
+        assertThat(refundPolicy.getClass().getSimpleName())
+            .isEqualTo(expected);
+    }
+
     @Test
-    @DisplayName("주문 시간의 7일 이내라면 환불 정책을 반환한다.")
-    void getRefundPolicies_success() {
+    @DisplayName("주문 시간의 7일 이상이라면 예외를 반환한다.")
+    void getRefundPolicy_fail() {
         // given
-        final LocalDateTime 주문_시간 = LocalDateTime.now().minusDays(6);
-        final Member 져니 = Member.create(1L, "journey", EncryptedPassword.create("password"));
-        final CartItem 치킨_장바구니_아이템 = new CartItem(1L, 10, new Product(1L,
-            "치킨", 20000, "chicken_image_url", false));
-        final CartItem 피자_장바구니_아이템 = new CartItem(2L, 5, new Product(2L,
-            "피자", 30000, "pizza_image_url", false));
-        final BasicOrder 주문 = new BasicOrder(져니, 3000, 주문_시간,
-            List.of(치킨_장바구니_아이템, 피자_장바구니_아이템), true);
+        final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
 
         // expected
-        assertDoesNotThrow(() -> refundPolicyComposite.getRefundPolicies(주문, LocalDateTime.now()));
+        assertThatThrownBy(() -> refundPolicyComposite.getRefundPolicy(주문_시간, 주문_시간.plusDays(8)))
+            .isInstanceOf(BadRequestException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ORDER_CANNOT_CANCEL);
     }
 
     @Test
-    @DisplayName("주문 시간의 7일 이상이라면 예외를 반환한다.")
-    void getRefundPolicies_fail() {
+    @DisplayName("주문 시간의 3일 전까지는 전액 환불 정책을 반환한다.")
+    void getRefundPolicy_full_refund() {
+        // given
+        final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+
+        // when
+        final RefundPolicy refundPolicy = refundPolicyComposite.getRefundPolicy(주문_시간,
+            주문_시간.plusDays(3).minusNanos(1_000_000));
+
+        // then
+        assertThat(refundPolicy).isInstanceOf(FullRefundPolicy.class);
+    }
+
+    @Test
+    @DisplayName("주문 시간으로부터 정확히 3일이 지났다면 반액 환불 정책을 반환한다.")
+    void getRefundPolicy_half_refund_boundary() {
+        // given
+        final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+
+        // when
+        final RefundPolicy refundPolicy = refundPolicyComposite.getRefundPolicy(주문_시간, 주문_시간.plusDays(3));
+
+        // then
+        assertThat(refundPolicy).isInstanceOf(HalfRefundPolicy.class);
+    }
+
+    @Test
+    @DisplayName("주문 시간으로부터 정확히 7일이 지났다면 예외를 반환한다.")
+    void getRefundPolicy_fail_boundary() {
         // given
-        final LocalDateTime 주문_시간 = LocalDateTime.now().minusDays(7);
-        final Member 져니 = Member.create(1L, "journey", EncryptedPassword.create("password"));
-        final CartItem 치킨_장바구니_아이템 = new CartItem(1L, 10, new Product(1L,
-            "치킨", 20000, "chicken_image_url", false));
-        final CartItem 피자_장바구니_아이템 = new CartItem(2L, 5, new Product(2L,
-            "피자", 30000, "pizza_image_url", false));
-        final BasicOrder 주문 = new BasicOrder(져니, 3000, 주문_시간,
-            List.of(치킨_장바구니_아이템, 피자_장바구니_아이템), true);
+        final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
 
         // expected
-        assertThatThrownBy(() -> refundPolicyComposite.getRefundPolicies(주문, LocalDateTime.now()))
+        assertThatThrownBy(() -> refundPolicyComposite.getRefundPolicy(주문_시간, 주문_시간.plusDays(7)))
             .isInstanceOf(BadRequestException.class)
             .extracting("errorCode")
             .isEqualTo(ErrorCode.ORDER_CANNOT_CANCEL);
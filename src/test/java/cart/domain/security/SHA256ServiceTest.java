@@ -3,6 +3,8 @@ package cart.domain.security;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class SHA256ServiceTest {
 
@@ -19,4 +21,45 @@ class SHA256ServiceTest {
         Assertions.assertThat(encodedTarget)
             .isEqualTo("5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8");
     }
+
+    @Test
+    @DisplayName("주어진 값을 암호화한 결과가 저장된 값과 같으면 true를 반환한다.")
+    void matches_true() {
+        // given
+        final String encrypted = "5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8";
+
+        // when
+        final boolean result = SHA256Service.matches("password", encrypted);
+
+        // then
+        Assertions.assertThat(result)
+            .isTrue();
+    }
+
+    @ParameterizedTest(name = "암호화한 결과가 저장된 값과 다르거나 올바른 형식이 아니면 false를 반환한다.")
+    @ValueSource(strings = {"5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d9",
+        "5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d", "",
+        "zz884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8"})
+    void matches_false(final String encrypted) {
+        // when
+        final boolean result = SHA256Service.matches("password", encrypted);
+
+        // then
+        Assertions.assertThat(result)
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 여러 번 암호화해도 항상 같은 결과를 반환한다.")
+    void encrypt_reuse_digest() {
+        // given
+        SHA256Service.encrypt("journey");
+
+        // when
+        final String encodedTarget = SHA256Service.encrypt("password");
+
+        // then
+        Assertions.assertThat(encodedTarget)
+            .isEqualTo("5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8");
+    }
 }
@@ -0,0 +1,41 @@
+package cart.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClientErrorLogSamplerTest {
+
+    @Test
+    @DisplayName("같은 에러 코드는 표본 비율마다 한 번만 기록 대상이 된다.")
+    void sample() {
+        // given
+        final ClientErrorLogSampler sampler = new ClientErrorLogSampler(3);
+
+        // when
+        final long[] occurrences = IntStream.range(0, 7)
+            .mapToLong(ignored -> sampler.sample(ErrorCode.UNAUTHORIZED))
+            .toArray();
+
+        // then
+        assertThat(LongStream.of(occurrences).filter(occurrence -> occurrence > 0).toArray())
+            .containsExactly(1L, 4L, 7L);
+    }
+
+    @Test
+    @DisplayName("에러 코드마다 발생 횟수를 따로 센다.")
+    void sample_per_error_code() {
+        // given
+        final ClientErrorLogSampler sampler = new ClientErrorLogSampler(2);
+        sampler.sample(ErrorCode.UNAUTHORIZED);
+
+        // when
+        final long occurrence = sampler.sample(ErrorCode.FORBIDDEN);
+
+        // then
+        assertThat(occurrence).isEqualTo(1L);
+    }
+}
@@ -1,15 +1,16 @@
 package cart.integration;
 
-import static cart.exception.ErrorCode.CART_ALREADY_ADD;
 import static cart.exception.ErrorCode.CART_NOT_FOUND;
 import static cart.exception.ErrorCode.PRODUCT_NOT_FOUND;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import cart.application.dto.cartitem.CartBatchRequest;
 import cart.application.dto.cartitem.CartItemQuantityUpdateRequest;
 import cart.application.dto.cartitem.CartRequest;
 import cart.application.dto.cartitem.CartResponse;
@@ -74,7 +75,62 @@ public class CartIntegrationTest extends IntegrationTest {
     }
 
     @Test
-    @DisplayName("이미 추가된 상품을 장바구니에 추가하려고 하면 예외가 발생한다.")
+    @DisplayName("장바구니에 여러 아이템을 한 번에 추가하고, 이미 담긴 상품은 수량을 늘려 요청 순서대로 아이템별 결과를 반환한다.")
+    void addCartItemsInBatch() {
+        // given
+        사용자를_저장한다();
+        상품을_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니_상품_저장(져니_로그인_요청, new CartRequest(1L));
+        final CartBatchRequest 장바구니_일괄_저장_요청 = new CartBatchRequest(List.of(
+            new CartRequest(2L), new CartRequest(99L), new CartRequest(1L), new CartRequest(2L)));
+
+        // expected
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .body(장바구니_일괄_저장_요청)
+            .when()
+            .post("/cart-items/batch")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("results.size()", is(4))
+            .body("results[0].productId", is(2))
+            .body("results[0].cartItemId", is(2))
+            .body("results[0].error", nullValue())
+            .body("results[1].productId", is(99))
+            .body("results[1].cartItemId", nullValue())
+            .body("results[1].error.errorCode", is(PRODUCT_NOT_FOUND.name()))
+            .body("results[2].productId", is(1))
+            .body("results[2].cartItemId", is(1))
+            .body("results[2].error", nullValue())
+            .body("results[3].productId", is(2))
+            .body("results[3].cartItemId", is(2))
+            .body("results[3].error", nullValue());
+    }
+
+    @Test
+    @DisplayName("장바구니에 한 번에 추가할 아이템이 비어있으면 예외가 발생한다.")
+    void addCartItemsInBatch_empty() {
+        // given
+        사용자를_저장한다();
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        final CartBatchRequest 장바구니_일괄_저장_요청 = new CartBatchRequest(List.of());
+
+        // expected
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .body(장바구니_일괄_저장_요청)
+            .when()
+            .post("/cart-items/batch")
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("이미 추가된 상품을 장바구니에 추가하면 같은 장바구니 아이템의 수량이 증가한다.")
     void addCartItem_already_add() {
         // given
         사용자를_저장한다();
@@ -84,22 +140,32 @@ public class CartIntegrationTest extends IntegrationTest {
         final CartRequest 치킨_장바구니_저장_요청 = new CartRequest(1L);
         장바구니_상품_저장(져니_로그인_요청, 치킨_장바구니_저장_요청);
 
-        // expected
+        // when
         final CartRequest 이미_존재하는_상품_장바구니_저장_요청 = new CartRequest(1L);
-        final ErrorResponse 에러_응답 = given()
+        given()
             .contentType(MediaType.APPLICATION_JSON_VALUE)
             .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
             .body(이미_존재하는_상품_장바구니_저장_요청)
             .when()
             .post("/cart-items")
             .then()
-            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .statusCode(HttpStatus.CREATED.value())
+            .header(LOCATION, "/cart-items/" + 1);
+
+        // then
+        final List<CartResponse> 장바구니_응답 = given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/cart-items")
+            .then()
+            .statusCode(HttpStatus.OK.value())
             .extract()
-            .as(ErrorResponse.class);
+            .jsonPath()
+            .getList(".", CartResponse.class);
 
-        assertThat(에러_응답)
-            .extracting(ErrorResponse::getErrorCode, ErrorResponse::getErrorMessage)
-            .containsExactly(CART_ALREADY_ADD, "장바구니에 해당 상품이 이미 등록되어 있습니다.");
+        assertThat(장바구니_응답)
+            .extracting(CartResponse::getId, CartResponse::getQuantity)
+            .containsExactly(tuple(1L, 2));
     }
 
     @Test
@@ -11,6 +11,7 @@ import static org.hamcrest.Matchers.is;
 import cart.application.dto.coupon.CouponRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -138,4 +139,64 @@ public class CouponIntegrationTest extends IntegrationTest {
             .body("errorCode", equalTo(COUPON_NOT_FOUND.name()))
             .body("errorMessage", equalTo("쿠폰 정보를 찾을 수 없습니다."));
     }
+
+    @Test
+    @DisplayName("삭제한 쿠폰과 같은 이름, 할인율을 가진 쿠폰을 다시 추가할 수 있다.")
+    void createCoupon_after_delete() {
+        // given
+        final CouponRequest 신규_가입_쿠폰_등록_요청 = new CouponRequest("신규 가입 축하 쿠폰", 20, 365);
+        쿠폰_저장(신규_가입_쿠폰_등록_요청);
+        given()
+            .when()
+            .delete("/coupons/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.NO_CONTENT.value());
+
+        // when
+        쿠폰_저장(신규_가입_쿠폰_등록_요청);
+
+        // then
+        given().log().all()
+            .when()
+            .get("/coupons/{id}", 2)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("name", equalTo("신규 가입 축하 쿠폰"))
+            .body("discountRate", equalTo(20));
+    }
+
+    @Test
+    @DisplayName("쿠폰 리스트의 ETag 가 그대로라면 304 를 응답하고, 쿠폰이 삭제되면 새로운 목록을 응답한다.")
+    void getCoupons_not_modified() {
+        // given
+        쿠폰_저장(new CouponRequest("신규 가입 축하 쿠폰", 20, 365));
+        쿠폰_저장(new CouponRequest("첫 주문 감사 쿠폰", 10, 10));
+        final String eTag = given()
+            .when()
+            .get("/coupons")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+        // when, then
+        given()
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/coupons")
+            .then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        given()
+            .when()
+            .delete("/coupons/{id}", 1);
+
+        given()
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/coupons")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size", is(1));
+    }
 }
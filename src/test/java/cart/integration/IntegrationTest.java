@@ -1,7 +1,9 @@
 package cart.integration;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import cart.application.CouponIssueWorker;
 import cart.application.dto.cartitem.CartItemQuantityUpdateRequest;
 import cart.application.dto.cartitem.CartRequest;
 import cart.application.dto.coupon.CouponRequest;
@@ -9,8 +11,18 @@ import cart.application.dto.member.MemberJoinRequest;
 import cart.application.dto.member.MemberLoginRequest;
 import cart.application.dto.order.OrderRequest;
 import cart.application.dto.product.ProductRequest;
+import cart.common.auth.AuthenticationCache;
+import cart.common.cache.CatalogVersions;
+import cart.common.cache.CouponRegistry;
+import cart.common.cache.OrderedMemberCache;
+import cart.common.cache.ProductCache;
+import cart.common.sql.SqlStatementCountFilter;
 import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpStatus;
@@ -26,9 +38,37 @@ public class IntegrationTest {
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
+    @Autowired
+    private CouponRegistry couponRegistry;
+
+    @Autowired
+    private OrderedMemberCache orderedMemberCache;
+
+    @Autowired
+    private CouponIssueWorker couponIssueWorker;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
+        productCache.invalidateAll();
+        authenticationCache.invalidateAll();
+        couponRegistry.invalidate();
+        orderedMemberCache.invalidateAll();
+        catalogVersions.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        쿠폰_발급_완료();
     }
 
     final String LOCATION = "Location";
@@ -41,6 +81,7 @@ public class IntegrationTest {
             .post("/users/join")
             .then()
             .statusCode(HttpStatus.CREATED.value());
+        쿠폰_발급_완료();
     }
 
     void 상품_저장(ProductRequest 상품_저장_요청) {
@@ -96,5 +137,20 @@ public class IntegrationTest {
             .post("/orders")
             .then()
             .statusCode(HttpStatus.CREATED.value());
+        쿠폰_발급_완료();
+    }
+
+    void SQL_실행_횟수가_예산_이내다(final ExtractableResponse<Response> response, final long budget) {
+        final String count = response.header(SqlStatementCountFilter.COUNT_HEADER);
+        assertThat(count)
+            .as("%s 헤더", SqlStatementCountFilter.COUNT_HEADER)
+            .isNotNull();
+        assertThat(Long.parseLong(count))
+            .as("SQL 실행 횟수")
+            .isLessThanOrEqualTo(budget);
+    }
+
+    void 쿠폰_발급_완료() {
+        couponIssueWorker.drain();
     }
 }
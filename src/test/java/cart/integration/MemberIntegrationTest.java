@@ -52,6 +52,7 @@ public class MemberIntegrationTest extends IntegrationTest {
             .body("password", equalTo("5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8"));
 
         /** 가입 후 신규 회원 축하 쿠폰이 발급되었는지 확인 */
+        쿠폰_발급_완료();
         given()
             .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
             .when()
@@ -0,0 +1,37 @@
+package cart.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+
+import cart.application.dto.product.ProductRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+public class MetricsIntegrationTest extends IntegrationTest {
+
+    @Test
+    @DisplayName("서비스, DAO 실행 시간과 커넥션 풀, 에러 코드별 발생 횟수를 프로메테우스 형식으로 노출한다.")
+    void prometheus() {
+        // given
+        final ProductRequest 치킨_등록_요청 = new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg");
+        상품_저장(치킨_등록_요청);
+        given()
+            .when()
+            .get("/products/{id}", 999)
+            .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+
+        // expected
+        given()
+            .when()
+            .get("/actuator/prometheus")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body(containsString("cart_service_seconds_count{application=\"jwp-shopping-order\",class=\"ProductService\""))
+            .body(containsString("cart_dao_seconds_bucket{application=\"jwp-shopping-order\",class=\"ProductDao\""))
+            .body(containsString("cart_errors_total{application=\"jwp-shopping-order\",errorCode=\"PRODUCT_NOT_FOUND\",status=\"404\",}"))
+            .body(containsString("hikaricp_connections_active"))
+            .body(containsString("cart_cache_gets_total{application=\"jwp-shopping-order\",cache=\"product\",result=\"miss\",}"));
+    }
+}
@@ -3,21 +3,33 @@ package cart.integration;
 import static cart.exception.ErrorCode.COUPON_ALREADY_USED;
 import static cart.exception.ErrorCode.COUPON_EXPIRED;
 import static cart.exception.ErrorCode.FORBIDDEN;
+import static cart.exception.ErrorCode.ORDER_ALREADY_CANCELED;
+import static cart.exception.ErrorCode.ORDER_CANCEL_SIZE_RANGE;
+import static cart.exception.ErrorCode.ORDER_CANNOT_CANCEL;
 import static cart.exception.ErrorCode.ORDER_INVALID_PRODUCTS;
+import static cart.exception.ErrorCode.ORDER_NOT_FOUND;
+import static cart.exception.ErrorCode.ORDER_PAGE_SIZE_RANGE;
 import static cart.exception.ErrorCode.ORDER_QUANTITY_EXCEED;
 import static cart.exception.ErrorCode.PRODUCT_DELETED;
+import static cart.exception.ErrorCode.UNAUTHORIZED;
 import static io.restassured.RestAssured.given;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 
 import cart.application.dto.cartitem.CartRequest;
 import cart.application.dto.coupon.CouponRequest;
 import cart.application.dto.member.MemberJoinRequest;
 import cart.application.dto.member.MemberLoginRequest;
+import cart.application.dto.order.OrderCancelRequest;
 import cart.application.dto.order.OrderProductRequest;
 import cart.application.dto.order.OrderRequest;
 import cart.application.dto.product.ProductRequest;
+import cart.common.sql.SqlStatementCountFilter;
 import cart.exception.ErrorCode;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -89,6 +101,7 @@ public class OrderIntegrationTest extends IntegrationTest {
             .body("isValid", equalTo(true));
 
         /** 첫 주문 감사 쿠폰이 발급되었는지 확인한다. */
+        쿠폰_발급_완료();
         given()
             .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
             .when()
@@ -163,6 +176,7 @@ public class OrderIntegrationTest extends IntegrationTest {
             .body("isValid", equalTo(true));
 
         /** 첫 주문 감사 쿠폰이 발급되었는지 확인한다. */
+        쿠폰_발급_완료();
         given()
             .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
             .when()
@@ -464,6 +478,275 @@ public class OrderIntegrationTest extends IntegrationTest {
             .body("[1].items[1].product.imageUrl", equalTo("http://example.com/pizza.jpg"));
     }
 
+    @Test
+    @DisplayName("사용자의 주문 정보를 커서 기반으로 최신순으로 나누어 조회한다.")
+    void getOrdersByCursor() {
+        // given
+        쿠폰을_저장한다();
+        상품을_저장한다();
+        사용자를_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        쿠폰과_함께_상품을_주문한다(져니_로그인_요청);
+
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        쿠폰없이_상품을_주문한다(져니_로그인_요청);
+
+        final String 마지막_주문_시간 = given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/orders?size=1")
+            .then()
+            .log().all()
+            .statusCode(HttpStatus.OK.value())
+            .body("hasNext", equalTo(true))
+            .body("lastOrderId", equalTo(2))
+            .body("orders.size()", equalTo(1))
+            .body("orders[0].orderId", equalTo(2))
+            .body("orders[0].items.size()", equalTo(2))
+            .extract().path("lastOrderedAt");
+
+        // expected
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .queryParam("size", 1)
+            .queryParam("lastOrderedAt", 마지막_주문_시간)
+            .queryParam("lastOrderId", 2)
+            .when()
+            .get("/orders")
+            .then()
+            .log().all()
+            .statusCode(HttpStatus.OK.value())
+            .body("hasNext", equalTo(false))
+            .body("lastOrderId", equalTo(1))
+            .body("orders.size()", equalTo(1))
+            .body("orders[0].orderId", equalTo(1))
+            .body("orders[0].coupon.id", equalTo(1))
+            .body("orders[0].items.size()", equalTo(2));
+    }
+
+    @Test
+    @DisplayName("주문 정보를 나누어 조회할 때 조회 개수가 1 ~ 100개가 아니라면 예외가 발생한다.")
+    void getOrdersByCursor_invalid_size() {
+        // given
+        사용자를_저장한다();
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+
+        // expected
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/orders?size=101")
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("errorCode", equalTo(ORDER_PAGE_SIZE_RANGE.name()))
+            .body("errorMessage", equalTo("주문 목록은 한 번에 1 ~ 100개까지 조회할 수 있습니다."));
+    }
+
+    @Test
+    @DisplayName("쿠폰을 사용한 주문은 정해진 SQL 실행 예산 안에서 처리되고, 실행 통계를 응답 헤더로 알려준다.")
+    void orderProducts_sql_budget() {
+        // given
+        쿠폰을_저장한다();
+        상품을_저장한다();
+        사용자를_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        final OrderRequest 주문_요청 = new OrderRequest(1L, List.of(
+            new OrderProductRequest(1L, 10),
+            new OrderProductRequest(2L, 5)));
+
+        // when
+        final ExtractableResponse<Response> response = given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(주문_요청)
+            .post("/orders")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .header(SqlStatementCountFilter.TIME_HEADER, notNullValue())
+            .header(SqlStatementCountFilter.SLOWEST_HEADER, notNullValue())
+            .extract();
+
+        // then
+        SQL_실행_횟수가_예산_이내다(response, 15);
+    }
+
+    @Test
+    @DisplayName("주문을 취소하지 않고 예상 환불 금액과 환불 정책, 환불 가능 기한을 조회한다.")
+    void getRefundQuote() {
+        // given
+        쿠폰을_저장한다();
+        상품을_저장한다();
+        사용자를_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        final LocalDateTime orderTime = LocalDateTime.now().minusDays(6).withNano(0);
+        특정_시간에_쿠폰과_함께_상품을_주문한다(orderTime);
+
+        // when
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/orders/{id}/refund-quote", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("refundPrice", equalTo(73_000))
+            .body("refundPolicy", equalTo("HALF_REFUND"))
+            .body("refundableUntil", equalTo(ISO_LOCAL_DATE_TIME.format(orderTime.plusDays(7))));
+
+        // then
+        /** 주문 상태가 그대로 유효한지 확인한다 */
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/orders/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("isValid", equalTo(true));
+    }
+
+    @Test
+    @DisplayName("여러 주문을 한 번에 취소하고 주문별 환불 금액과 실패 사유를 반환한다.")
+    void cancelOrders() {
+        // given
+        쿠폰을_저장한다();
+        상품을_저장한다();
+        사용자를_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        특정_시간에_쿠폰과_함께_상품을_주문한다(LocalDateTime.now().minusDays(2));
+        jdbcTemplate.update("UPDATE member_coupon SET is_used = 1 WHERE member_id = 1 AND coupon_id = 1");
+        final String 주문_저장_SQL = "INSERT INTO `order`(member_id, total_price, discounted_total_price, "
+            + "delivery_price, ordered_at, is_valid) VALUES (?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.update(주문_저장_SQL, 1, 20_000, 20_000, 3_000, LocalDateTime.now().minusDays(5), true);
+        jdbcTemplate.update(주문_저장_SQL, 1, 20_000, 20_000, 3_000, LocalDateTime.now().minusDays(10), true);
+        final MemberLoginRequest 운영자_로그인_요청 = 운영자를_저장한다();
+        final OrderCancelRequest 일괄_취소_요청 = new OrderCancelRequest(List.of(1L, 2L, 3L, 999L, 1L));
+
+        // when
+        given()
+            .auth().preemptive().basic(운영자_로그인_요청.getName(), 운영자_로그인_요청.getPassword())
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(일괄_취소_요청)
+            .when()
+            .post("/orders/cancel")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("canceledCount", equalTo(2))
+            .body("failedCount", equalTo(2))
+            .body("totalRefundPrice", equalTo(156_000))
+            .body("results.size()", is(4))
+            .body("results[0].orderId", equalTo(1))
+            .body("results[0].isCanceled", equalTo(true))
+            .body("results[0].refundPrice", equalTo(143_000))
+            .body("results[1].orderId", equalTo(2))
+            .body("results[1].refundPrice", equalTo(13_000))
+            .body("results[2].orderId", equalTo(3))
+            .body("results[2].isCanceled", equalTo(false))
+            .body("results[2].errorCode", equalTo(ORDER_CANNOT_CANCEL.name()))
+            .body("results[3].orderId", equalTo(999))
+            .body("results[3].errorCode", equalTo(ORDER_NOT_FOUND.name()));
+
+        // then
+        /** 이미 취소된 주문은 다시 취소되지 않는다 */
+        given()
+            .auth().preemptive().basic(운영자_로그인_요청.getName(), 운영자_로그인_요청.getPassword())
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(new OrderCancelRequest(List.of(1L)))
+            .when()
+            .post("/orders/cancel")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("canceledCount", equalTo(0))
+            .body("results[0].errorCode", equalTo(ORDER_ALREADY_CANCELED.name()));
+
+        /** 쿠폰이 사용 가능한 상태로 변경되었는지 확인한다 */
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/users/me/coupons")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("[0].id", equalTo(1))
+            .body("[0].isUsed", equalTo(false));
+    }
+
+    @Test
+    @DisplayName("한 번에 취소할 수 있는 주문 개수를 벗어나면 예외가 발생한다.")
+    void cancelOrders_size_range() {
+        // given
+        final MemberLoginRequest 운영자_로그인_요청 = 운영자를_저장한다();
+        final OrderCancelRequest 일괄_취소_요청 = new OrderCancelRequest(List.of());
+
+        // expected
+        given()
+            .auth().preemptive().basic(운영자_로그인_요청.getName(), 운영자_로그인_요청.getPassword())
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(일괄_취소_요청)
+            .when()
+            .post("/orders/cancel")
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("errorCode", equalTo(ORDER_CANCEL_SIZE_RANGE.name()));
+    }
+
+    @Test
+    @DisplayName("인증 정보 없이 여러 주문을 한 번에 취소하면 예외가 발생한다.")
+    void cancelOrders_unauthorized() {
+        // given
+        final OrderCancelRequest 일괄_취소_요청 = new OrderCancelRequest(List.of(1L));
+
+        // expected
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(일괄_취소_요청)
+            .when()
+            .post("/orders/cancel")
+            .then()
+            .statusCode(HttpStatus.UNAUTHORIZED.value())
+            .body("errorCode", equalTo(UNAUTHORIZED.name()));
+    }
+
+    @Test
+    @DisplayName("운영자가 아닌 사용자가 여러 주문을 한 번에 취소하면 예외가 발생하고 주문은 취소되지 않는다.")
+    void cancelOrders_forbidden() {
+        // given
+        쿠폰을_저장한다();
+        상품을_저장한다();
+        사용자를_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        쿠폰과_함께_상품을_주문한다(져니_로그인_요청);
+        final OrderCancelRequest 일괄_취소_요청 = new OrderCancelRequest(List.of(1L));
+
+        // when
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(일괄_취소_요청)
+            .when()
+            .post("/orders/cancel")
+            .then()
+            .statusCode(HttpStatus.FORBIDDEN.value())
+            .body("errorCode", equalTo(FORBIDDEN.name()));
+
+        // then
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/orders/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("isValid", equalTo(true));
+    }
+
     @Test
     @DisplayName("주문한 지 3일 이내에 주문을 취소하면 전액 환불된다.")
     void cancelOrder_before_3day() {
@@ -616,6 +899,62 @@ public class OrderIntegrationTest extends IntegrationTest {
             .body("errorMessage", equalTo("주문 취소 기간이 지나 취소가 불가능합니다."));
     }
 
+    @Test
+    @DisplayName("이미 취소된 주문의 예상 환불 금액을 조회하면 예외가 발생한다.")
+    void getRefundQuote_already_canceled() {
+        // given
+        쿠폰을_저장한다();
+        상품을_저장한다();
+        사용자를_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        특정_시간에_쿠폰과_함께_상품을_주문한다(LocalDateTime.now().minusDays(2));
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .post("/orders/cancel/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        // expected
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/orders/{id}/refund-quote", 1)
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("errorCode", equalTo(ORDER_ALREADY_CANCELED.name()));
+    }
+
+    @Test
+    @DisplayName("이미 취소된 주문을 다시 취소하면 예외가 발생한다.")
+    void cancelOrder_already_canceled() {
+        // given
+        쿠폰을_저장한다();
+        상품을_저장한다();
+        사용자를_저장한다();
+
+        final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+        장바구니에_상품을_추가한다(져니_로그인_요청);
+        특정_시간에_쿠폰과_함께_상품을_주문한다(LocalDateTime.now().minusDays(2));
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .post("/orders/cancel/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        // expected
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .post("/orders/cancel/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("errorCode", equalTo(ORDER_ALREADY_CANCELED.name()));
+    }
+
     private void 장바구니에_상품을_추가한다(final MemberLoginRequest 져니_로그인_요청) {
         final CartRequest 치킨_장바구니_저장_요청 = new CartRequest(1L);
         final CartRequest 피자_장바구니_저장_요청 = new CartRequest(2L);
@@ -628,6 +967,12 @@ public class OrderIntegrationTest extends IntegrationTest {
         사용자_저장(져니_저장_요청);
     }
 
+    private MemberLoginRequest 운영자를_저장한다() {
+        final MemberJoinRequest 운영자_저장_요청 = new MemberJoinRequest("admin", "password");
+        사용자_저장(운영자_저장_요청);
+        return new MemberLoginRequest(운영자_저장_요청.getName(), 운영자_저장_요청.getPassword());
+    }
+
     private void 상품을_저장한다() {
         final ProductRequest 치킨_등록_요청 = new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg");
         final ProductRequest 피자_등록_요청 = new ProductRequest("피자", 15_000, "http://example.com/pizza.jpg");
@@ -1,17 +1,31 @@
 package cart.integration;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 import cart.application.dto.product.ProductRequest;
+import cart.common.cache.CatalogVersions;
+import cart.common.cache.CatalogVersions.Catalog;
+import cart.common.cache.ProductCountCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 public class ProductIntegrationTest extends IntegrationTest {
 
+    @Autowired
+    private ProductCountCache productCountCache;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
     @Test
     @DisplayName("상품 리스트를 조회한다.")
     public void getProducts() {
@@ -37,6 +51,31 @@ public class ProductIntegrationTest extends IntegrationTest {
             .body("[1].imageUrl", equalTo("http://example.com/pizza.jpg"));
     }
 
+    @Test
+    @DisplayName("상품 리스트는 한 번에 조회하는 상품 수보다 많아도 모두 JSON 배열로 내려온다.")
+    void getProducts_many() {
+        // given
+        final StringBuilder 상품_목록 = new StringBuilder();
+        for (int i = 1; i <= 2_500; i++) {
+            상품_목록.append("{\"name\":\"상품").append(i).append("\",\"price\":1000}\n");
+        }
+        given()
+            .contentType("application/x-ndjson; charset=UTF-8")
+            .body(상품_목록.toString())
+            .post("/products/import");
+
+        // expected
+        given()
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body("size", is(2_500))
+            .body("[2499].id", equalTo(2_500))
+            .body("[2499].name", equalTo("상품2500"));
+    }
+
     @Test
     @DisplayName("상품을 페이지 단위로 조회한다.")
     void getProductsByPage() {
@@ -83,6 +122,46 @@ public class ProductIntegrationTest extends IntegrationTest {
             .body("productResponse[1].imageUrl", equalTo("http://example.com/gimbap.jpg"));
     }
 
+    @Test
+    @DisplayName("삭제되지 않은 상품을 커서 기반으로 나누어 조회한다.")
+    void getProductsByCursor() {
+        // given
+        final ProductRequest 치킨_등록_요청 = new ProductRequest("치킨", 20_000, "http://example.com/chicken.jpg");
+        final ProductRequest 피자_등록_요청 = new ProductRequest("피자", 25_000, "http://example.com/pizza.jpg");
+        final ProductRequest 스테이크_등록_요청 = new ProductRequest("스테이크", 50_000, "http://example.com/steak.jpg");
+        final ProductRequest 김밥_등록_요청 = new ProductRequest("김밥", 3_000, "http://example.com/gimbap.jpg");
+        상품_저장(치킨_등록_요청);
+        상품_저장(피자_등록_요청);
+        상품_저장(스테이크_등록_요청);
+        상품_저장(김밥_등록_요청);
+        given().delete("/products/{id}", 2);
+        productCountCache.refresh();
+
+        // expected
+        /** 첫 번째 페이지 조회 */
+        given().log().all()
+            .when()
+            .get("/products?size=2&withTotalCount=true")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("nextCursor", equalTo(3))
+            .body("totalCount", equalTo(3))
+            .body("products.size()", is(2))
+            .body("products[0].name", equalTo("치킨"))
+            .body("products[1].name", equalTo("스테이크"));
+
+        /** 두 번째 페이지 조회 */
+        given().log().all()
+            .when()
+            .get("/products?size=2&lastId=3")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("nextCursor", equalTo(null))
+            .body("totalCount", equalTo(null))
+            .body("products.size()", is(1))
+            .body("products[0].name", equalTo("김밥"));
+    }
+
     @Test
     @DisplayName("상품을 추가한다.")
     public void createProduct() {
@@ -168,4 +247,231 @@ public class ProductIntegrationTest extends IntegrationTest {
             .then()
             .body("size", is(0));
     }
+
+    @Test
+    @DisplayName("NDJSON 형식의 상품 목록을 가져오고, 잘못된 줄은 건너뛴 뒤 결과를 알려준다.")
+    void importProducts_ndjson() {
+        // given
+        final String 상품_목록 = "{\"name\":\"치킨\",\"price\":10000,\"imageUrl\":\"http://example.com/chicken.jpg\"}\n"
+            + "{\"name\":\"\",\"price\":10000}\n"
+            + "{\"name\":\"피자\",\"price\":15000,\"imageUrl\":\"http://example.com/pizza.jpg\"}\n";
+
+        // when
+        given().log().all()
+            .contentType("application/x-ndjson; charset=UTF-8")
+            .body(상품_목록)
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedCount", equalTo(2))
+            .body("failedCount", equalTo(1))
+            .body("failedLineNumbers", contains(2));
+
+        // then
+        given().log().all()
+            .when()
+            .get("/products")
+            .then()
+            .body("size", is(2))
+            .body("[0].name", equalTo("치킨"))
+            .body("[1].name", equalTo("피자"));
+    }
+
+    @Test
+    @DisplayName("CSV 형식의 상품 목록을 헤더의 컬럼 이름에 맞춰 가져온다.")
+    void importProducts_csv() {
+        // given
+        final String 상품_목록 = "price,name,imageUrl\n"
+            + "10000,치킨,http://example.com/chicken.jpg\n"
+            + "15000,\"피자, 라지\",http://example.com/pizza.jpg\n";
+
+        // when
+        given().log().all()
+            .contentType("text/csv; charset=UTF-8")
+            .body(상품_목록)
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedCount", equalTo(2))
+            .body("failedCount", equalTo(0));
+
+        // then
+        given().log().all()
+            .when()
+            .get("/products")
+            .then()
+            .body("size", is(2))
+            .body("[1].name", equalTo("피자, 라지"))
+            .body("[1].price", equalTo(15000));
+    }
+
+    @Test
+    @DisplayName("CSV 의 따옴표 안에 있는 쉼표와 줄바꿈은 값으로 읽고, 실패한 줄은 레코드가 시작된 줄로 알려준다.")
+    void importProducts_csv_quoted_newline() {
+        // given
+        final String 상품_목록 = "name,price\n"
+            + "\"양념\n반반, 치킨\",10000\n"
+            + "피자,\n"
+            + "콜라,2000\n";
+
+        // when
+        given().log().all()
+            .contentType("text/csv; charset=UTF-8")
+            .body(상품_목록)
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedCount", equalTo(2))
+            .body("failedLineNumbers", contains(4));
+
+        // then
+        given().log().all()
+            .when()
+            .get("/products")
+            .then()
+            .body("size", is(2))
+            .body("[0].name", equalTo("양념\n반반, 치킨"))
+            .body("[1].name", equalTo("콜라"));
+    }
+
+    @Test
+    @DisplayName("상품을 저장하지 못하면 가져오기를 멈추고, 저장한 건수와 저장하지 못한 청크의 첫 줄을 알려준다.")
+    void importProducts_stopped() {
+        // given
+        final String 상품_목록 = "{\"name\":\"치킨\",\"price\":10000}\n"
+            + "{\"name\":\"" + "가".repeat(30) + "\",\"price\":10000}\n";
+
+        // when
+        given().log().all()
+            .contentType("application/x-ndjson; charset=UTF-8")
+            .body(상품_목록)
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedCount", equalTo(0))
+            .body("stoppedLineNumber", equalTo(1));
+
+        // then
+        given().log().all()
+            .when()
+            .get("/products")
+            .then()
+            .body("size", is(0));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식으로 상품 목록을 가져오면 예외가 발생한다.")
+    void importProducts_unsupported_format() {
+        given().log().all()
+            .contentType(MediaType.APPLICATION_XML_VALUE)
+            .body("<products/>")
+            .when()
+            .post("/products/import")
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("errorCode", equalTo("PRODUCT_FILE_FORMAT_UNSUPPORTED"));
+    }
+
+    @Test
+    @DisplayName("판매 중인 상품 목록을 CSV 형식으로 내보낸다.")
+    void exportProducts_csv() {
+        // given
+        상품_저장(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+        상품_저장(new ProductRequest("피자", 15_000, "http://example.com/pizza.jpg"));
+        given().delete("/products/{id}", 1);
+
+        // expected
+        final String 내보낸_상품_목록 = given().log().all()
+            .when()
+            .get("/products/export?format=csv")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .asString();
+
+        assertThat(내보낸_상품_목록)
+            .isEqualTo("id,name,price,imageUrl\n2,피자,15000,http://example.com/pizza.jpg\n");
+    }
+
+    @Test
+    @DisplayName("상품 리스트의 ETag 가 그대로라면 304 를 응답하고, 상품이 수정되면 새로운 목록을 응답한다.")
+    void getProducts_not_modified() {
+        // given
+        상품_저장(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+        final long 이전_조건부_요청_수 = catalogVersions.stats(Catalog.PRODUCT).getRequestCount();
+        final String eTag = given()
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .header(HttpHeaders.ETAG);
+        final long 이전_304_응답_수 = catalogVersions.stats(Catalog.PRODUCT).getNotModifiedCount();
+
+        // when, then
+        given()
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value())
+            .header(HttpHeaders.ETAG, eTag);
+        assertThat(catalogVersions.stats(Catalog.PRODUCT).getNotModifiedCount())
+            .isEqualTo(이전_304_응답_수 + 1);
+        assertThat(catalogVersions.stats(Catalog.PRODUCT).getRequestCount())
+            .isEqualTo(이전_조건부_요청_수 + 1);
+
+        given()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(new ProductRequest("치킨", 20_000, "http://example.com/chicken.jpg"))
+            .when()
+            .put("/products/{id}", 1);
+
+        given()
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/products")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .header(HttpHeaders.ETAG, not(eTag))
+            .body("[0].price", equalTo(20_000));
+    }
+
+    @Test
+    @DisplayName("상품 상세의 ETag 가 그대로라면 304 를 응답한다.")
+    void getProductById_not_modified() {
+        // given
+        상품_저장(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+        final String eTag = given()
+            .when()
+            .get("/products/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract()
+            .header(HttpHeaders.ETAG);
+
+        // expected
+        given()
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/products/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 * 이어도 없는 상품은 304 가 아닌 404 를 응답한다.")
+    void getProductById_not_modified_any() {
+        // expected
+        given()
+            .header(HttpHeaders.IF_NONE_MATCH, "*")
+            .when()
+            .get("/products/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
 }
@@ -0,0 +1,214 @@
+package cart.integration;
+
+import static cart.exception.ErrorCode.COUPON_IN_USE;
+import static cart.exception.ErrorCode.ORDER_NOT_FOUND;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import cart.application.dto.cartitem.CartRequest;
+import cart.application.dto.coupon.CouponRequest;
+import cart.application.dto.member.MemberJoinRequest;
+import cart.application.dto.member.MemberLoginRequest;
+import cart.application.dto.order.OrderCancelRequest;
+import cart.application.dto.order.OrderProductRequest;
+import cart.application.dto.order.OrderRequest;
+import cart.application.dto.product.ProductRequest;
+import cart.common.shard.GlobalTableReplicator;
+import cart.common.shard.MemberDirectory;
+import cart.common.shard.ShardDataSources;
+import cart.common.shard.ShardRowIdRanges;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@ActiveProfiles("shard")
+@TestPropertySource(properties = "sharding.row-id-block-size=1000")
+public class ShardIntegrationTest extends IntegrationTest {
+
+    /** 해시 전략으로 journey(1) 는 1번, admin(2) 은 0번, mint(3) 는 2번 샤드에 저장된다 */
+    private static final MemberLoginRequest 져니_로그인_요청 = new MemberLoginRequest("journey", "password");
+    private static final MemberLoginRequest 운영자_로그인_요청 = new MemberLoginRequest("admin", "password");
+    private static final MemberLoginRequest 민트_로그인_요청 = new MemberLoginRequest("mint", "password");
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    private ShardRowIdRanges shardRowIdRanges;
+
+    @Autowired
+    private MemberDirectory memberDirectory;
+
+    @Autowired
+    private GlobalTableReplicator globalTableReplicator;
+
+    @BeforeEach
+    void setUpShards() {
+        for (final DataSource shard : shardDataSources.getShards()) {
+            new ResourceDatabasePopulator(new ClassPathResource("init.sql")).execute(shard);
+        }
+        final JdbcTemplate globalShard = new JdbcTemplate(shardDataSources.getGlobalShardDataSource());
+        globalShard.update("DELETE FROM member_directory");
+        globalShard.execute("ALTER TABLE member_directory auto_increment = 1");
+        globalShard.update("DELETE FROM shard_replication_outbox");
+        shardRowIdRanges.assign(shardDataSources);
+        memberDirectory.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("회원은 자기 샤드에만 저장되고, 전체 회원 조회는 모든 샤드의 회원을 id 순서로 모은다.")
+    void getMembers() {
+        // given
+        회원들을_저장한다();
+
+        // when
+        given()
+            .when()
+            .get("/users")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size", is(3))
+            .body("[0].id", equalTo(1))
+            .body("[0].name", equalTo("journey"))
+            .body("[1].id", equalTo(2))
+            .body("[1].name", equalTo("admin"))
+            .body("[2].id", equalTo(3))
+            .body("[2].name", equalTo("mint"));
+
+        // then
+        assertThat(샤드별_조회("SELECT name FROM member ORDER BY id"))
+            .containsExactly(List.of("admin"), List.of("journey"), List.of("mint"));
+    }
+
+    @Test
+    @DisplayName("공용 샤드에서 바뀐 상품과 쿠폰은 모든 샤드에 같은 id 로 복제된다.")
+    void replicateGlobalTables() {
+        // given
+        상품_저장(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+        쿠폰_저장(new CouponRequest("신규 가입 축하 쿠폰", 20, 365));
+
+        // when
+        given().log().all()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(new ProductRequest("양념치킨", 12_000, "http://example.com/chicken.jpg"))
+            .when()
+            .put("/products/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        // then
+        assertThat(샤드별_조회("SELECT CONCAT(id, ':', name, ':', price) FROM product"))
+            .containsOnly(List.of("1:양념치킨:12000"));
+        assertThat(샤드별_조회("SELECT CONCAT(id, ':', name) FROM coupon"))
+            .containsOnly(List.of("1:신규 가입 축하 쿠폰"));
+        assertThat(globalTableReplicator.countPending()).isZero();
+
+        /** 복제된 쿠폰은 공용 샤드가 아닌 샤드의 회원에게도 가입 쿠폰으로 발급된다 */
+        사용자_저장(new MemberJoinRequest("journey", "password"));
+        given()
+            .auth().preemptive().basic(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword())
+            .when()
+            .get("/users/me/coupons")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size", is(1))
+            .body("[0].id", equalTo(1))
+            .body("[0].name", equalTo("신규 가입 축하 쿠폰"));
+    }
+
+    @Test
+    @DisplayName("공용 샤드가 아닌 샤드의 회원에게 발급된 쿠폰은 삭제할 수 없다.")
+    void deleteCoupon_issued_on_other_shard() {
+        // given
+        쿠폰_저장(new CouponRequest("신규 가입 축하 쿠폰", 20, 365));
+        사용자_저장(new MemberJoinRequest(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword()));
+        쿠폰_발급_완료();
+
+        // when
+        given()
+            .when()
+            .delete("/coupons/{id}", 1)
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value())
+            .body("errorCode", equalTo(COUPON_IN_USE.name()));
+
+        // then
+        assertThat(샤드별_조회("SELECT CAST(id AS VARCHAR) FROM coupon"))
+            .containsOnly(List.of("1"));
+        assertThat(globalTableReplicator.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 id 는 회원 샤드의 범위에서 발급되고, 일괄 취소는 주문마다 그 주문이 있는 샤드에서 취소한다.")
+    void cancelOrders() {
+        // given
+        상품_저장(new ProductRequest("치킨", 10_000, "http://example.com/chicken.jpg"));
+        회원들을_저장한다();
+        치킨을_주문한다(져니_로그인_요청, 1_001L);
+        치킨을_주문한다(민트_로그인_요청, 2_001L);
+        final OrderCancelRequest 일괄_취소_요청 = new OrderCancelRequest(List.of(1_001L, 2_001L, 1L));
+
+        // when
+        given()
+            .auth().preemptive().basic(운영자_로그인_요청.getName(), 운영자_로그인_요청.getPassword())
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(일괄_취소_요청)
+            .when()
+            .post("/orders/cancel")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("canceledCount", equalTo(2))
+            .body("failedCount", equalTo(1))
+            .body("results.size()", is(3))
+            .body("results[0].orderId", equalTo(1_001))
+            .body("results[0].isCanceled", equalTo(true))
+            .body("results[1].orderId", equalTo(2_001))
+            .body("results[1].isCanceled", equalTo(true))
+            .body("results[2].orderId", equalTo(1))
+            .body("results[2].isCanceled", equalTo(false))
+            .body("results[2].errorCode", equalTo(ORDER_NOT_FOUND.name()));
+
+        // then
+        assertThat(샤드별_조회("SELECT CAST(id AS VARCHAR) FROM `order` WHERE is_valid = 0"))
+            .containsExactly(List.of(), List.of("1001"), List.of("2001"));
+    }
+
+    private void 회원들을_저장한다() {
+        사용자_저장(new MemberJoinRequest(져니_로그인_요청.getName(), 져니_로그인_요청.getPassword()));
+        사용자_저장(new MemberJoinRequest(운영자_로그인_요청.getName(), 운영자_로그인_요청.getPassword()));
+        사용자_저장(new MemberJoinRequest(민트_로그인_요청.getName(), 민트_로그인_요청.getPassword()));
+    }
+
+    private void 치킨을_주문한다(final MemberLoginRequest 사용자_로그인_요청, final Long orderId) {
+        장바구니_상품_저장(사용자_로그인_요청, new CartRequest(1L));
+        given()
+            .auth().preemptive().basic(사용자_로그인_요청.getName(), 사용자_로그인_요청.getPassword())
+            .when()
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .body(new OrderRequest(null, List.of(new OrderProductRequest(1L, 1))))
+            .post("/orders")
+            .then()
+            .statusCode(HttpStatus.CREATED.value())
+            .header(LOCATION, "/orders/" + orderId);
+        쿠폰_발급_완료();
+    }
+
+    private List<List<String>> 샤드별_조회(final String sql) {
+        return shardDataSources.getShards().stream()
+            .map(shard -> new JdbcTemplate(shard).queryForList(sql, String.class))
+            .collect(Collectors.toList());
+    }
+}
@@ -1,14 +1,17 @@
 package cart.persistence.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import cart.persistence.dao.dto.CartItemDto;
+import cart.persistence.entity.CartEntity;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 
 class CartItemDaoTest extends DaoTestHelper {
 
@@ -33,6 +36,25 @@ class CartItemDaoTest extends DaoTestHelper {
                 "치킨", 20000, "chicken_image_url", 1);
     }
 
+    @Test
+    @DisplayName("주어진 상품 중 사용자의 장바구니에 담긴 항목을 조회한다.")
+    void findByMemberIdAndProductIds() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        final Long 저장된_피자_아이디 = 피자_저장();
+        final Long 저장된_장바구니_치킨_아이디 = 장바구니_치킨_저장(저장된_져니_아이디, 저장된_치킨_아이디);
+
+        // when
+        final List<CartEntity> 담긴_장바구니들 = cartItemDao.findByMemberIdAndProductIds(저장된_져니_아이디,
+            List.of(저장된_치킨_아이디, 저장된_피자_아이디));
+
+        // then
+        assertThat(담긴_장바구니들)
+            .extracting(CartEntity::getId, CartEntity::getProductId)
+            .containsExactly(tuple(저장된_장바구니_치킨_아이디, 저장된_치킨_아이디));
+    }
+
     @Test
     @DisplayName("사용자의 장바구니 정보를 조회한다.")
     void findByMemberName() {
@@ -165,30 +187,70 @@ class CartItemDaoTest extends DaoTestHelper {
     }
 
     @Test
-    @DisplayName("사용자 이름과 상품 아이디로 이미 등록이 되어 있으면 true를 반환한다.")
-    void existByMemberNameAndProductId_true() {
+    @DisplayName("장바구니에 없는 상품이면 저장하고, 이미 담긴 상품이면 수량을 더한다.")
+    void insertOrIncreaseQuantity() {
         // given
         final Long 저장된_져니_아이디 = 져니_저장();
         final Long 저장된_치킨_아이디 = 치킨_저장();
-        장바구니_치킨_저장(저장된_져니_아이디, 저장된_치킨_아이디);
+        cartItemDao.insertOrIncreaseQuantity(new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 1), 100);
+
+        // when
+        cartItemDao.insertOrIncreaseQuantity(new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 2), 100);
+
+        // then
+        final Long 장바구니_아이디 = cartItemDao.findIdByMemberIdAndProductId(저장된_져니_아이디, 저장된_치킨_아이디).get();
+        assertThat(cartItemDao.findById(장바구니_아이디).get().getProductQuantity())
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 담을 때 없는 상품은 저장하고, 이미 담긴 상품은 최대 수량까지 수량을 더한다.")
+    void insertOrIncreaseQuantities() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        final Long 저장된_피자_아이디 = 피자_저장();
+        cartItemDao.insertOrIncreaseQuantity(new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 9), 10);
 
         // when
-        final boolean result = cartItemDao.existByMemberNameAndProductId("journey", 저장된_치킨_아이디);
+        cartItemDao.insertOrIncreaseQuantities(List.of(
+            new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 5),
+            new CartEntity(저장된_져니_아이디, 저장된_피자_아이디, 2)), 10);
 
         // then
-        assertThat(result)
-            .isTrue();
+        assertThat(cartItemDao.findByMemberIdAndProductIds(저장된_져니_아이디, List.of(저장된_치킨_아이디, 저장된_피자_아이디)))
+            .extracting(CartEntity::getProductId, CartEntity::getQuantity)
+            .containsExactlyInAnyOrder(tuple(저장된_치킨_아이디, 10), tuple(저장된_피자_아이디, 2));
     }
 
     @Test
-    @DisplayName("사용자 이름과 상품 아이디로 등록되어 있지 않으면 false를 반환한다.")
-    void existByMemberNameAndProductId_false() {
+    @DisplayName("이미 담긴 상품의 수량을 더할 때 최대 수량을 넘지 않는다.")
+    void insertOrIncreaseQuantity_max_quantity() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        cartItemDao.insertOrIncreaseQuantity(new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 9), 10);
+
         // when
-        final boolean result = cartItemDao.existByMemberNameAndProductId("journey", 1L);
+        cartItemDao.insertOrIncreaseQuantity(new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 5), 10);
 
         // then
-        assertThat(result)
-            .isFalse();
+        final Long 장바구니_아이디 = cartItemDao.findIdByMemberIdAndProductId(저장된_져니_아이디, 저장된_치킨_아이디).get();
+        assertThat(cartItemDao.findById(장바구니_아이디).get().getProductQuantity())
+            .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 같은 상품을 장바구니에 두 번 저장하면 예외가 발생한다.")
+    void insert_duplicate() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        장바구니_치킨_저장(저장된_져니_아이디, 저장된_치킨_아이디);
+
+        // when, then
+        assertThatThrownBy(() -> cartItemDao.insert(new CartEntity(저장된_져니_아이디, 저장된_치킨_아이디, 1)))
+            .isInstanceOf(DuplicateKeyException.class);
     }
 
     @Test
@@ -0,0 +1,54 @@
+package cart.persistence.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import cart.domain.cartitem.CartItemSummary;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import(value = {CartItemQueryDao.class})
+class CartItemQueryDaoTest extends DaoTestHelper {
+
+    @Autowired
+    private CartItemQueryDao cartItemQueryDao;
+
+    @Test
+    @DisplayName("사용자 아이디로 장바구니 요약을 담은 순서대로 조회한다.")
+    void findSummariesByMemberId() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        final Long 저장된_피자_아이디 = 피자_저장();
+        final Long 저장된_장바구니_치킨_아이디 = 장바구니_치킨_저장(저장된_져니_아이디, 저장된_치킨_아이디);
+        final Long 저장된_장바구니_피자_아이디 = 장바구니_피자_저장(저장된_져니_아이디, 저장된_피자_아이디);
+
+        // when
+        final List<CartItemSummary> result = cartItemQueryDao.findSummariesByMemberId(저장된_져니_아이디);
+
+        // then
+        assertThat(result)
+            .extracting(CartItemSummary::getCartItemId, CartItemSummary::getQuantity,
+                CartItemSummary::getProductId, CartItemSummary::getProductName,
+                CartItemSummary::getProductPrice, CartItemSummary::getProductImageUrl)
+            .containsExactly(
+                tuple(저장된_장바구니_치킨_아이디, 1, 저장된_치킨_아이디, "치킨", 20000, "chicken_image_url"),
+                tuple(저장된_장바구니_피자_아이디, 10, 저장된_피자_아이디, "피자", 30000, "pizza_image_url"));
+    }
+
+    @Test
+    @DisplayName("장바구니가 비어 있으면 빈 목록을 반환한다.")
+    void findSummariesByMemberId_empty() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+
+        // when
+        final List<CartItemSummary> result = cartItemQueryDao.findSummariesByMemberId(저장된_져니_아이디);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
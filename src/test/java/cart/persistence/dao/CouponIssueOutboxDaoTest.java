@@ -0,0 +1,85 @@
+package cart.persistence.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import cart.persistence.entity.CouponIssueOutboxEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+@Import(value = {CouponIssueOutboxDao.class})
+class CouponIssueOutboxDaoTest extends DaoTestHelper {
+
+    @Autowired
+    private CouponIssueOutboxDao couponIssueOutboxDao;
+
+    @Test
+    @DisplayName("다시 시도할 시각이 된 쿠폰 발행 요청을 먼저 저장된 순서대로 조회한다.")
+    void findOldest() {
+        // given
+        final LocalDateTime 요청_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+        couponIssueOutboxDao.insert(new CouponIssueOutboxEntity(1L, "JOIN_MEMBER_COUPON", 요청_시간));
+        couponIssueOutboxDao.insert(new CouponIssueOutboxEntity(2L, "JOIN_MEMBER_COUPON", 요청_시간.plusSeconds(1)));
+        couponIssueOutboxDao.insert(new CouponIssueOutboxEntity(1L, "FIRST_ORDER_COUPON", 요청_시간.plusSeconds(2)));
+
+        // when
+        final List<CouponIssueOutboxEntity> result = couponIssueOutboxDao.findOldest(요청_시간.plusSeconds(2), 2);
+
+        // then
+        assertThat(result)
+            .extracting(CouponIssueOutboxEntity::getMemberId, CouponIssueOutboxEntity::getCouponType,
+                CouponIssueOutboxEntity::getRequestedAt)
+            .containsExactly(
+                tuple(1L, "JOIN_MEMBER_COUPON", 요청_시간),
+                tuple(2L, "JOIN_MEMBER_COUPON", 요청_시간.plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("처리된 쿠폰 발행 요청을 삭제한다.")
+    void deleteByIds() {
+        // given
+        final LocalDateTime 요청_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+        couponIssueOutboxDao.insert(new CouponIssueOutboxEntity(1L, "JOIN_MEMBER_COUPON", 요청_시간));
+        couponIssueOutboxDao.insert(new CouponIssueOutboxEntity(2L, "JOIN_MEMBER_COUPON", 요청_시간));
+        final List<Long> 처리된_요청_아이디들 = couponIssueOutboxDao.findOldest(요청_시간, 1).stream()
+            .map(CouponIssueOutboxEntity::getId)
+            .collect(Collectors.toList());
+
+        // when
+        final int deletedCount = couponIssueOutboxDao.deleteByIds(처리된_요청_아이디들);
+
+        // then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(couponIssueOutboxDao.findOldest(요청_시간, 10))
+            .extracting(CouponIssueOutboxEntity::getMemberId)
+            .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("발행하지 못한 요청은 시도 횟수를 올리고 다음 시도 시각까지 조회하지 않는다.")
+    void postponeByIds() {
+        // given
+        final LocalDateTime 요청_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+        couponIssueOutboxDao.insert(new CouponIssueOutboxEntity(1L, "JOIN_MEMBER_COUPON", 요청_시간));
+        couponIssueOutboxDao.insert(new CouponIssueOutboxEntity(2L, "JOIN_MEMBER_COUPON", 요청_시간));
+        final Long 실패한_요청_아이디 = couponIssueOutboxDao.findOldest(요청_시간, 1).get(0).getId();
+        final LocalDateTime 다음_시도_시간 = 요청_시간.plusMinutes(1);
+
+        // when
+        final int updatedCount = couponIssueOutboxDao.postponeByIds(List.of(실패한_요청_아이디), 다음_시도_시간);
+
+        // then
+        assertThat(updatedCount).isEqualTo(1);
+        assertThat(couponIssueOutboxDao.findOldest(요청_시간, 10))
+            .extracting(CouponIssueOutboxEntity::getMemberId)
+            .containsExactly(2L);
+        assertThat(couponIssueOutboxDao.findOldest(다음_시도_시간, 10))
+            .extracting(CouponIssueOutboxEntity::getMemberId)
+            .containsExactly(1L, 2L);
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.tuple;
 
 import cart.persistence.dao.dto.MemberCouponDto;
 import cart.persistence.entity.MemberCouponEntity;
+import cart.persistence.entity.MemberEntity;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -44,6 +45,46 @@ class MemberCouponDaoTest extends DaoTestHelper {
                 20, false, 쿠폰_만료_시간, 쿠폰_발급_시간);
     }
 
+    @Test
+    @DisplayName("여러 사용자의 쿠폰 정보를 한 번에 저장한다.")
+    void insertAll() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_라온_아이디 = memberDao.insert(new MemberEntity("raon", "password"));
+        final Long 저장된_신규_가입_축하_쿠폰_아이디 = 신규_가입_쿠폰_저장();
+        final LocalDateTime 쿠폰_발급_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+        final LocalDateTime 쿠폰_만료_시간 = 쿠폰_발급_시간.plusDays(10);
+
+        // when
+        final int insertedCount = memberCouponDao.insertAll(List.of(
+            new MemberCouponEntity(저장된_져니_아이디, 저장된_신규_가입_축하_쿠폰_아이디, 쿠폰_발급_시간, 쿠폰_만료_시간, false),
+            new MemberCouponEntity(저장된_라온_아이디, 저장된_신규_가입_축하_쿠폰_아이디, 쿠폰_발급_시간, 쿠폰_만료_시간, false)));
+
+        // then
+        assertThat(insertedCount).isEqualTo(2);
+        assertThat(memberCouponDao.findMyCouponsByName("raon"))
+            .extracting(MemberCouponDto::getMemberId, MemberCouponDto::getCouponId, MemberCouponDto::isUsed,
+                MemberCouponDto::getExpiredAt, MemberCouponDto::getIssuedAt)
+            .containsExactly(tuple(저장된_라온_아이디, 저장된_신규_가입_축하_쿠폰_아이디, false, 쿠폰_만료_시간, 쿠폰_발급_시간));
+    }
+
+    @Test
+    @DisplayName("주어진 사용자 중 쿠폰을 이미 발급받은 사용자의 아이디를 조회한다.")
+    void findMemberIdsByCouponIdAndMemberIds() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_라온_아이디 = memberDao.insert(new MemberEntity("raon", "password"));
+        final Long 저장된_신규_가입_축하_쿠폰_아이디 = 신규_가입_쿠폰_저장();
+        져니_쿠폰_저장(저장된_져니_아이디, 저장된_신규_가입_축하_쿠폰_아이디);
+
+        // when
+        final List<Long> memberIds = memberCouponDao.findMemberIdsByCouponIdAndMemberIds(
+            저장된_신규_가입_축하_쿠폰_아이디, List.of(저장된_져니_아이디, 저장된_라온_아이디));
+
+        // then
+        assertThat(memberIds).containsExactly(저장된_져니_아이디);
+    }
+
     @Test
     @DisplayName("해당 회원이 쿠폰을 이미 발급받았다면 true를 반환한다.")
     void existByMemberIdAndCouponId_true() {
@@ -191,4 +232,29 @@ class MemberCouponDaoTest extends DaoTestHelper {
                 10, 20, false, LocalDateTime.of(2023, 6, 1, 13, 0, 0).plusDays(10),
                 LocalDateTime.of(2023, 6, 1, 13, 0, 0));
     }
+
+    @Test
+    @DisplayName("여러 회원의 쿠폰 사용 정보를 한 번의 배치로 0으로 (사용하지 않음) 업데이트한다.")
+    void updateNotUsedAll() {
+        // given
+        final long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_신규_가입_축하_쿠폰_아이디 = 신규_가입_쿠폰_저장();
+        final Long 저장된_행운의_쿠폰_아이디 = 행운의_쿠폰_저장();
+        져니_쿠폰_저장(저장된_져니_아이디, 저장된_신규_가입_축하_쿠폰_아이디);
+        져니_쿠폰_저장(저장된_져니_아이디, 저장된_행운의_쿠폰_아이디);
+        memberCouponDao.updateUsed(저장된_져니_아이디, 저장된_신규_가입_축하_쿠폰_아이디);
+        memberCouponDao.updateUsed(저장된_져니_아이디, 저장된_행운의_쿠폰_아이디);
+
+        // when
+        final int[] updatedCounts = memberCouponDao.updateNotUsedAll(
+            List.of(저장된_져니_아이디, 저장된_져니_아이디),
+            List.of(저장된_신규_가입_축하_쿠폰_아이디, 저장된_행운의_쿠폰_아이디));
+
+        // then
+        assertThat(updatedCounts)
+            .containsExactly(1, 1);
+        assertThat(memberCouponDao.findMyCouponsByName("journey"))
+            .extracting(MemberCouponDto::isUsed)
+            .containsExactly(false, false);
+    }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 
 import cart.persistence.dao.dto.OrderDto;
+import cart.persistence.dao.dto.OrderHeaderDto;
 import cart.persistence.entity.MemberEntity;
 import cart.persistence.entity.OrderCouponEntity;
 import cart.persistence.entity.OrderEntity;
@@ -49,23 +50,32 @@ class OrderDaoTest extends DaoTestHelper {
     }
 
     @Test
-    @DisplayName("특정 회원이 주문한 전체 횟수를 구한다.")
-    void countByMemberId() {
+    @DisplayName("특정 회원에게 주어진 주문 외의 다른 주문이 있다면 true를 반환한다.")
+    void existByMemberIdExceptOrderId_true() {
         // given
-        final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
         final Long 저장된_져니_아이디 = 져니_저장();
-        final Long 저장된_신규_가입_축하_쿠폰_아이디 = 신규_가입_쿠폰_저장();
-        져니_쿠폰_저장(저장된_져니_아이디, 저장된_신규_가입_축하_쿠폰_아이디);
-        final OrderEntity 주문_엔티티 = new OrderEntity(저장된_져니_아이디, BigDecimal.valueOf(10000),
-            BigDecimal.valueOf(9000), 3000, 주문_시간);
-        orderDao.insert(주문_엔티티);
+        주문_저장(저장된_져니_아이디);
+        final Long 두_번째_주문_아이디 = 주문_저장(저장된_져니_아이디);
+
+        // when
+        final boolean result = orderDao.existByMemberIdExceptOrderId(저장된_져니_아이디, 두_번째_주문_아이디);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("특정 회원의 주문이 주어진 주문뿐이라면 false를 반환한다.")
+    void existByMemberIdExceptOrderId_false() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_주문_아이디 = 주문_저장(저장된_져니_아이디);
 
         // when
-        final Long 저장된_주문_횟수 = orderDao.countByMemberId(저장된_져니_아이디);
+        final boolean result = orderDao.existByMemberIdExceptOrderId(저장된_져니_아이디, 저장된_주문_아이디);
 
         // then
-        assertThat(저장된_주문_횟수)
-            .isEqualTo(1L);
+        assertThat(result).isFalse();
     }
 
     @Test
@@ -107,6 +117,68 @@ class OrderDaoTest extends DaoTestHelper {
             );
     }
 
+    @Test
+    @DisplayName("주문 아이디로 주문 상품 없이 주문 헤더와 쿠폰 만료 시간만 조회한다.")
+    void findHeaderById() {
+        // given
+        final LocalDateTime 주문_시간 = LocalDateTime.of(2023, 6, 1, 13, 0, 0);
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final OrderEntity 주문_엔티티 = new OrderEntity(저장된_져니_아이디, BigDecimal.valueOf(350_000),
+            BigDecimal.valueOf(280_000), 3_000, 주문_시간);
+        final Long 저장된_주문_아이디 = orderDao.insert(주문_엔티티);
+        주문_상품들을_저장한다(저장된_주문_아이디);
+        주문_쿠폰을_저장한다(저장된_주문_아이디);
+
+        // when
+        final OrderHeaderDto 주문_헤더 = orderDao.findHeaderById(저장된_주문_아이디).get();
+
+        // then
+        assertThat(주문_헤더)
+            .extracting(OrderHeaderDto::getOrderId, OrderHeaderDto::getMemberId, OrderHeaderDto::getMemberName,
+                OrderHeaderDto::getTotalPrice, OrderHeaderDto::getDiscountedTotalPrice,
+                OrderHeaderDto::getDeliveryPrice, OrderHeaderDto::getOrderedAt, OrderHeaderDto::getIsValid,
+                OrderHeaderDto::getCouponExpiredAt)
+            .containsExactly(저장된_주문_아이디, 저장된_져니_아이디, "journey", BigDecimal.valueOf(350_000),
+                BigDecimal.valueOf(280_000), 3_000, 주문_시간, true, 주문_시간.plusDays(10));
+        assertThat(주문_헤더.getCouponId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("쿠폰 없이 주문했다면 주문 헤더의 쿠폰 정보는 비어 있다.")
+    void findHeaderById_without_coupon() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 저장된_주문_아이디 = 주문_저장(저장된_져니_아이디);
+
+        // when
+        final OrderHeaderDto 주문_헤더 = orderDao.findHeaderById(저장된_주문_아이디).get();
+
+        // then
+        assertThat(주문_헤더.getCouponId()).isNull();
+        assertThat(주문_헤더.getCouponExpiredAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 주문 아이디로 주문 헤더를 한 번에 조회한다.")
+    void findHeadersByIds() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 첫번째_주문_아이디 = 주문_저장(저장된_져니_아이디);
+        final Long 두번째_주문_아이디 = 주문_저장(저장된_져니_아이디);
+        주문_저장(저장된_져니_아이디);
+
+        // when
+        final List<OrderHeaderDto> 주문_헤더들 = orderDao.findHeadersByIds(List.of(첫번째_주문_아이디, 두번째_주문_아이디));
+
+        // then
+        assertThat(주문_헤더들)
+            .extracting(OrderHeaderDto::getOrderId, OrderHeaderDto::getMemberName, OrderHeaderDto::getIsValid)
+            .containsExactlyInAnyOrder(
+                tuple(첫번째_주문_아이디, "journey", true),
+                tuple(두번째_주문_아이디, "journey", true)
+            );
+    }
+
     @Test
     @DisplayName("사용자 이름으로 주문 정보를 조회한다.")
     void findByMemberName() {
@@ -150,6 +222,44 @@ class OrderDaoTest extends DaoTestHelper {
             );
     }
 
+    @Test
+    @DisplayName("사용자 이름으로 최근 주문 정보를 주문 시간, 아이디 역순으로 원하는 개수만큼 조회한다.")
+    void findLatestByMemberName() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final List<Long> 저장된_주문_아이디들 = 시간순_주문들을_저장한다(저장된_져니_아이디);
+
+        // when
+        final List<OrderDto> 저장된_주문_정보 = orderDao.findLatestByMemberName("journey", 2);
+
+        // then
+        assertThat(저장된_주문_정보)
+            .extracting(OrderDto::getOrderId)
+            .containsExactly(저장된_주문_아이디들.get(2), 저장된_주문_아이디들.get(1));
+    }
+
+    @Test
+    @DisplayName("사용자 이름으로 커서 이전의 주문 정보를 주문 상품과 함께 조회한다.")
+    void findByMemberNameBeforeCursor() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final List<Long> 저장된_주문_아이디들 = 시간순_주문들을_저장한다(저장된_져니_아이디);
+        final List<Long> 저장된_상품_아이디들 = 주문_상품들을_저장한다(저장된_주문_아이디들.get(0));
+
+        // when
+        final List<OrderDto> 저장된_주문_정보 = orderDao.findByMemberNameBeforeCursor("journey",
+            LocalDateTime.of(2023, 6, 2, 13, 0, 0), 저장된_주문_아이디들.get(2), 2);
+
+        // then
+        assertThat(저장된_주문_정보)
+            .extracting(OrderDto::getOrderId, OrderDto::getProductId)
+            .containsExactly(
+                tuple(저장된_주문_아이디들.get(1), 0L),
+                tuple(저장된_주문_아이디들.get(0), 저장된_상품_아이디들.get(0)),
+                tuple(저장된_주문_아이디들.get(0), 저장된_상품_아이디들.get(1))
+            );
+    }
+
     @Test
     @DisplayName("주문의 상태를 유효하지 않음으로 변경한다.")
     void updateNotValidById() {
@@ -176,6 +286,43 @@ class OrderDaoTest extends DaoTestHelper {
             );
     }
 
+    @Test
+    @DisplayName("여러 주문의 상태를 한 번에 유효하지 않음으로 변경하고, 이미 취소된 주문은 변경하지 않는다.")
+    void updateNotValidByIds() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 첫번째_주문_아이디 = 주문_저장(저장된_져니_아이디);
+        final Long 두번째_주문_아이디 = 주문_저장(저장된_져니_아이디);
+        orderDao.updateNotValidById(두번째_주문_아이디);
+
+        // when
+        final int updatedCount = orderDao.updateNotValidByIds(List.of(첫번째_주문_아이디, 두번째_주문_아이디));
+
+        // then
+        assertThat(updatedCount)
+            .isEqualTo(1);
+        assertThat(orderDao.findHeaderById(첫번째_주문_아이디).get().getIsValid())
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 아이디 목록 중 아직 취소되지 않은 주문 아이디만 잠가서 조회한다.")
+    void findValidIdsByIdsForUpdate() {
+        // given
+        final Long 저장된_져니_아이디 = 져니_저장();
+        final Long 첫번째_주문_아이디 = 주문_저장(저장된_져니_아이디);
+        final Long 두번째_주문_아이디 = 주문_저장(저장된_져니_아이디);
+        orderDao.updateNotValidById(두번째_주문_아이디);
+
+        // when
+        final List<Long> validIds = orderDao.findValidIdsByIdsForUpdate(
+            List.of(첫번째_주문_아이디, 두번째_주문_아이디, 999L));
+
+        // then
+        assertThat(validIds)
+            .containsExactly(첫번째_주문_아이디);
+    }
+
     private List<Long> 주문_상품들을_저장한다(final Long 저장된_주문_아이디) {
         final Long 저장된_치킨_아이디 = 치킨_저장();
         final Long 저장된_피자_아이디 = 피자_저장();
@@ -192,6 +339,17 @@ class OrderDaoTest extends DaoTestHelper {
         return orderCouponDao.insert(주문_쿠폰_엔티티);
     }
 
+    private List<Long> 시간순_주문들을_저장한다(final Long 저장된_져니_아이디) {
+        final OrderEntity 첫번째_주문_엔티티 = new OrderEntity(저장된_져니_아이디, BigDecimal.valueOf(10000),
+            BigDecimal.valueOf(10000), 3000, LocalDateTime.of(2023, 6, 1, 13, 0, 0));
+        final OrderEntity 두번째_주문_엔티티 = new OrderEntity(저장된_져니_아이디, BigDecimal.valueOf(20000),
+            BigDecimal.valueOf(20000), 3000, LocalDateTime.of(2023, 6, 2, 13, 0, 0));
+        final OrderEntity 세번째_주문_엔티티 = new OrderEntity(저장된_져니_아이디, BigDecimal.valueOf(30000),
+            BigDecimal.valueOf(30000), 3000, LocalDateTime.of(2023, 6, 2, 13, 0, 0));
+        return List.of(orderDao.insert(첫번째_주문_엔티티), orderDao.insert(두번째_주문_엔티티),
+            orderDao.insert(세번째_주문_엔티티));
+    }
+
     private Long 다른_사용자를_저장한다() {
         final MemberEntity 라온 = new MemberEntity("raon", "password");
         return memberDao.insert(라온);
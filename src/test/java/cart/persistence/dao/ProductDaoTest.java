@@ -3,7 +3,9 @@ package cart.persistence.dao;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 
+import cart.persistence.dao.dto.TableVersionDto;
 import cart.persistence.entity.ProductEntity;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -63,6 +65,42 @@ class ProductDaoTest extends DaoTestHelper {
             .containsExactly(저장된_치킨_아이디, "치킨", 20000, "chicken_image_url", false);
     }
 
+    @DisplayName("여러 상품 정보를 한 번의 배치로 저장한다.")
+    @Test
+    void insertAll() {
+        // given
+        final ProductEntity 치킨 = new ProductEntity("치킨", "chicken_image_url", 20000, false);
+        final ProductEntity 피자 = new ProductEntity("피자", "pizza_image_url", 30000, false);
+
+        // when
+        productDao.insertAll(List.of(치킨, 피자));
+
+        // then
+        assertThat(productDao.getNotDeletedProducts())
+            .extracting(ProductEntity::getName, ProductEntity::getPrice, ProductEntity::getImageUrl)
+            .containsExactly(
+                tuple("치킨", 20000, "chicken_image_url"),
+                tuple("피자", 30000, "pizza_image_url"));
+    }
+
+    @DisplayName("제거되지 않은 상품을 아이디 순서대로 하나씩 흘려보낸다.")
+    @Test
+    void forEachNotDeletedProduct() {
+        // given
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        final Long 저장된_피자_아이디 = 피자_저장();
+        productDao.updateProductDeleted(저장된_치킨_아이디);
+
+        // when
+        final List<ProductEntity> result = new ArrayList<>();
+        productDao.forEachNotDeletedProduct(1, result::add);
+
+        // then
+        assertThat(result)
+            .extracting(ProductEntity::getId, ProductEntity::getName)
+            .containsExactly(tuple(저장된_피자_아이디, "피자"));
+    }
+
     @DisplayName("제거되지 않은 상품 정보 전체를 조회한다.")
     @Test
     void getNotDeletedProducts() {
@@ -212,4 +250,59 @@ class ProductDaoTest extends DaoTestHelper {
         assertThat(productCount)
             .isEqualTo(5);
     }
+
+    @Test
+    @DisplayName("특정 아이디 이후의 삭제되지 않은 상품을 아이디 순으로 원하는 개수만큼 조회한다.")
+    void getNotDeletedProductsAfterId() {
+        // given
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        final Long 저장된_피자_아이디 = 피자_저장();
+        final ProductEntity 치킨2 = new ProductEntity("치킨2", "chicken_image_url", 20000, false);
+        final Long 저장된_치킨_아이디2 = productDao.insert(치킨2);
+        final ProductEntity 치킨3 = new ProductEntity("치킨3", "chicken_image_url", 20000, false);
+        final Long 저장된_치킨_아이디3 = productDao.insert(치킨3);
+        productDao.updateProductDeleted(저장된_피자_아이디);
+
+        // when
+        final List<ProductEntity> 상품들 = productDao.getNotDeletedProductsAfterId(저장된_치킨_아이디, 2);
+
+        // then
+        assertThat(상품들)
+            .extracting(ProductEntity::getId)
+            .containsExactly(저장된_치킨_아이디2, 저장된_치킨_아이디3);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 상품의 개수를 구한다.")
+    void getNotDeletedProductCount() {
+        // given
+        치킨_저장();
+        final Long 저장된_피자_아이디 = 피자_저장();
+        productDao.updateProductDeleted(저장된_피자_아이디);
+
+        // when
+        final long productCount = productDao.getNotDeletedProductCount();
+
+        // then
+        assertThat(productCount)
+            .isEqualTo(1);
+    }
+
+    @DisplayName("상품이 수정되거나 삭제되면 테이블 버전이 바뀐다.")
+    @Test
+    void getTableVersion() {
+        // given
+        final Long 저장된_치킨_아이디 = 치킨_저장();
+        피자_저장();
+        final ProductEntity 수정된_치킨 = new ProductEntity("치킨", "new_chicken_image_url", 25000, false);
+
+        // when
+        productDao.updateProduct(저장된_치킨_아이디, 수정된_치킨);
+        productDao.updateProductDeleted(저장된_치킨_아이디);
+
+        // then
+        assertThat(productDao.getTableVersion())
+            .extracting(TableVersionDto::getRowCount, TableVersionDto::getVersionSum)
+            .containsExactly(2L, 2L);
+    }
 }
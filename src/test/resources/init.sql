@@ -6,6 +6,7 @@ DELETE FROM coupon;
 DELETE FROM product;
 DELETE FROM `order`;
 DELETE FROM member;
+DELETE FROM coupon_issue_outbox;
 
 ALTER TABLE cart_item auto_increment = 1;
 ALTER TABLE member_coupon auto_increment = 1;
@@ -15,3 +16,4 @@ ALTER TABLE coupon auto_increment = 1;
 ALTER TABLE product auto_increment = 1;
 ALTER TABLE member auto_increment = 1;
 ALTER TABLE `order` auto_increment = 1;
+ALTER TABLE coupon_issue_outbox auto_increment = 1;